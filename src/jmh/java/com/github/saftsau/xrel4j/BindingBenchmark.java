@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.release.ReleaseSearchResult;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson binding of the most frequent response types with the shared
+ * {@link ObjectMapper} of {@link RestClient}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BindingBenchmark {
+    
+    static final String EXT_INFO_FIXTURE = "/xrel/ext_info.json";
+    static final String RELEASE_SEARCH_FIXTURE = "/xrel/release_search.json";
+    
+    private byte[] releaseLatestPayload;
+    private byte[] extInfoPayload;
+    private byte[] releaseSearchPayload;
+    private ObjectReader releasePageReader;
+    private ObjectReader extInfoReader;
+    private ObjectReader releaseSearchReader;
+    
+    @Setup
+    public void setUp() throws IOException {
+        releaseLatestPayload = ObjectMapperBenchmark.readFixture(ObjectMapperBenchmark.RELEASE_LATEST_FIXTURE);
+        extInfoPayload = ObjectMapperBenchmark.readFixture(EXT_INFO_FIXTURE);
+        releaseSearchPayload = ObjectMapperBenchmark.readFixture(RELEASE_SEARCH_FIXTURE);
+        final ObjectMapper objectMapper = RestClient.getSharedObjectMapper();
+        releasePageReader = objectMapper.readerFor(new TypeReference<PaginationList<Release>>() {
+        });
+        extInfoReader = objectMapper.readerFor(ExtInfo.class);
+        releaseSearchReader = objectMapper.readerFor(ReleaseSearchResult.class);
+    }
+    
+    @Benchmark
+    public Object releasePage() throws IOException {
+        return releasePageReader.readValue(releaseLatestPayload);
+    }
+    
+    @Benchmark
+    public Object extInfo() throws IOException {
+        return extInfoReader.readValue(extInfoPayload);
+    }
+    
+    @Benchmark
+    public Object releaseSearchResult() throws IOException {
+        return releaseSearchReader.readValue(releaseSearchPayload);
+    }
+    
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the deserialization throughput of a {@code release/latest} page of 100 releases with
+ * the previous default configuration and the tuned {@link RestClient#createObjectMapper()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ObjectMapperBenchmark {
+    
+    static final String RELEASE_LATEST_FIXTURE = "/xrel/release_latest.json";
+    
+    private static final TypeReference<PaginationList<Release>> RELEASE_PAGE = new TypeReference<>() {
+    };
+    
+    private byte[] payload;
+    private ObjectReader defaultReader;
+    private ObjectReader tunedReader;
+    private ObjectReader blackbirdReader;
+    private ObjectReader blackbirdElementReader;
+    private ObjectReader blackbirdPaginationReader;
+    
+    static byte[] readFixture(String name) throws IOException {
+        try (InputStream inputStream = ObjectMapperBenchmark.class.getResourceAsStream(name)) {
+            if (inputStream == null) {
+                throw new IOException("Missing fixture " + name);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+    
+    @Setup
+    public void setUp() throws IOException {
+        payload = readFixture(RELEASE_LATEST_FIXTURE);
+        defaultReader = new ObjectMapper().readerFor(RELEASE_PAGE);
+        final ObjectMapper tunedMapper = new ObjectMapper();
+        tunedMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        tunedMapper.registerModule(new JavaTimeModule());
+        tunedReader = tunedMapper.readerFor(RELEASE_PAGE);
+        // Blackbird is on the benchmark classpath, so it is registered by RestClient
+        final ObjectMapper blackbirdMapper = RestClient.createObjectMapper();
+        blackbirdReader = blackbirdMapper.readerFor(RELEASE_PAGE);
+        blackbirdElementReader = blackbirdMapper.readerFor(Release.class);
+        blackbirdPaginationReader = blackbirdMapper.readerFor(Pagination.class);
+    }
+    
+    /**
+     * The previous behaviour: a default mapper for the converter plus a new mapper per response
+     * trying to parse the whole body as {@link Error}.
+     */
+    @Benchmark
+    public Object previousPerResponseMapper(Blackhole blackhole) throws IOException {
+        try {
+            blackhole.consume(new ObjectMapper().readValue(new String(payload, StandardCharsets.UTF_8), Error.class));
+        } catch (IOException e) {
+            // Expected, the payload is no error
+        }
+        return defaultReader.readValue(payload);
+    }
+    
+    @Benchmark
+    public Object defaultReader() throws IOException {
+        return defaultReader.readValue(payload);
+    }
+    
+    @Benchmark
+    public Object tunedReader() throws IOException {
+        return tunedReader.readValue(payload);
+    }
+    
+    @Benchmark
+    public Object tunedBlackbirdReader() throws IOException {
+        return blackbirdReader.readValue(payload);
+    }
+    
+    @Benchmark
+    public Object tunedBlackbirdStreaming(Blackhole blackhole) throws IOException {
+        final PaginationStream<Release> paginationStream = new PaginationStream<>(blackbirdElementReader.createParser(payload),
+                blackbirdElementReader, blackbirdPaginationReader);
+        return paginationStream.forEach(blackhole::consume);
+    }
+    
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ResponseInterceptor#intercept(Interceptor.Chain)} on recorded responses without
+ * any network. {@link #recordedResponse()} is the baseline for building the response alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseInterceptorBenchmark {
+    
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final byte[] ERROR_PAYLOAD = "{\"error\":\"invalid_request\",\"error_description\":\"Invalid ID.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    
+    private final Request request = new Request.Builder().url(RestClient.BASE_XREL_URL + "release/latest.json").build();
+    private ResponseInterceptor responseInterceptor;
+    private byte[] successPayload;
+    private RecordedChain successChain;
+    private RecordedChain errorChain;
+    
+    @Setup
+    public void setUp() throws IOException {
+        responseInterceptor = new ResponseInterceptor(RestClient.createObjectMapper());
+        successPayload = ObjectMapperBenchmark.readFixture(ObjectMapperBenchmark.RELEASE_LATEST_FIXTURE);
+        successChain = new RecordedChain(request, 200, successPayload);
+        // The xREL API returns some errors with a 2xx status code
+        errorChain = new RecordedChain(request, 200, ERROR_PAYLOAD);
+    }
+    
+    @Benchmark
+    public Response recordedResponse() {
+        return recordedResponse(request, 200, successPayload);
+    }
+    
+    @Benchmark
+    public Response success() throws IOException {
+        return responseInterceptor.intercept(successChain);
+    }
+    
+    @Benchmark
+    public Object error() throws IOException {
+        try {
+            return responseInterceptor.intercept(errorChain);
+        } catch (XrelException e) {
+            return e;
+        }
+    }
+    
+    private static Response recordedResponse(Request request, int code, byte[] payload) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("OK")
+                .header("X-RateLimit-Limit", "900")
+                .header("X-RateLimit-Remaining", "899")
+                .header("X-RateLimit-Reset", "1629460800")
+                .body(ResponseBody.create(JSON, payload))
+                .build();
+    }
+    
+    /**
+     * {@link Interceptor.Chain} answering every request with a new copy of a recorded response.
+     */
+    private static final class RecordedChain implements Interceptor.Chain {
+        
+        private final Request request;
+        private final int code;
+        private final byte[] payload;
+        
+        private RecordedChain(Request request, int code, byte[] payload) {
+            this.request = request;
+            this.code = code;
+            this.payload = payload;
+        }
+        
+        @Override
+        public Request request() {
+            return request;
+        }
+        
+        @Override
+        public Response proceed(Request request) {
+            return recordedResponse(request, code, payload);
+        }
+        
+        @Override
+        public Connection connection() {
+            return null;
+        }
+        
+        @Override
+        public Call call() {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public int connectTimeoutMillis() {
+            return 0;
+        }
+        
+        @Override
+        public Interceptor.Chain withConnectTimeout(int timeout, TimeUnit unit) {
+            return this;
+        }
+        
+        @Override
+        public int readTimeoutMillis() {
+            return 0;
+        }
+        
+        @Override
+        public Interceptor.Chain withReadTimeout(int timeout, TimeUnit unit) {
+            return this;
+        }
+        
+        @Override
+        public int writeTimeoutMillis() {
+            return 0;
+        }
+        
+        @Override
+        public Interceptor.Chain withWriteTimeout(int timeout, TimeUnit unit) {
+            return this;
+        }
+        
+    }
+    
+}
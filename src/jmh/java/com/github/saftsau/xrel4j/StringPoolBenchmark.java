@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the retained heap of a large set of {@code release/latest} pages with and without a
+ * {@link StringPool}. Every invocation deserializes {@link #PAGES} pages of 100 releases and
+ * reports the retained size of the resulting releases, including the pool, as the
+ * {@code retainedBytes} counter. The footprint is deterministic and JMH sums the counter over
+ * all measurement iterations, so there is a single one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(1)
+public class StringPoolBenchmark {
+    
+    static final int PAGES = 100;
+    
+    private static final TypeReference<PaginationList<Release>> RELEASE_PAGE = new TypeReference<>() {
+    };
+    
+    @Param({"false", "true"})
+    public boolean pooled;
+    
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Retained heap of the last deserialized page set.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        
+        public long retainedBytes;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+        
+    }
+    
+    @Setup
+    public void setUp() throws IOException {
+        payload = ObjectMapperBenchmark.readFixture(ObjectMapperBenchmark.RELEASE_LATEST_FIXTURE);
+        objectMapper = RestClient.createObjectMapper();
+    }
+    
+    @Benchmark
+    public List<Release> retainedPages(Footprint footprint) throws IOException {
+        final StringPool stringPool = new StringPool();
+        final ObjectMapper pageMapper = objectMapper.copy();
+        if (pooled) {
+            stringPool.install(pageMapper);
+        }
+        final ObjectReader reader = pageMapper.readerFor(RELEASE_PAGE);
+        final List<Release> releases = new ArrayList<>(PAGES * 100);
+        for (int i = 0; i < PAGES; i++) {
+            final PaginationList<Release> page = reader.readValue(payload);
+            releases.addAll(page.getList());
+        }
+        footprint.retainedBytes = GraphLayout.parseInstance(releases, stringPool).totalSize();
+        return releases;
+    }
+    
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Xrel} call path end to end against an in-process {@link MockWebServer}
+ * serving the recorded fixtures, as well as the pure computations done by {@link Xrel} around the
+ * calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class XrelBenchmark {
+    
+    static final String RELEASE_CATEGORIES_FIXTURE = "/xrel/release_categories.json";
+    
+    private final Map<String, byte[]> payloads = new HashMap<>();
+    private MockWebServer server;
+    private Xrel xrel;
+    private Set<ReleaseCategory> releaseCategories;
+    private ExtInfo extInfo;
+    // Not final, so the JIT can't fold the arguments of normalizePageValues
+    private int perPage = 250;
+    private int page = 0;
+    
+    @Setup
+    public void setUp() throws IOException {
+        payloads.put("/v2/release/latest.json", ObjectMapperBenchmark.readFixture(ObjectMapperBenchmark.RELEASE_LATEST_FIXTURE));
+        payloads.put("/v2/release/categories.json", ObjectMapperBenchmark.readFixture(RELEASE_CATEGORIES_FIXTURE));
+        payloads.put("/v2/ext_info/info.json", ObjectMapperBenchmark.readFixture(BindingBenchmark.EXT_INFO_FIXTURE));
+        payloads.put("/v2/search/releases.json", ObjectMapperBenchmark.readFixture(BindingBenchmark.RELEASE_SEARCH_FIXTURE));
+        server = new MockWebServer();
+        server.setDispatcher(new FixtureDispatcher());
+        server.start();
+        xrel = new Xrel(RestClient.create(server.url("/v2/").toString(), null, null));
+        releaseCategories = RestClient.getSharedObjectMapper().readValue(payloads.get("/v2/release/categories.json"),
+                new TypeReference<Set<ReleaseCategory>>() {
+                });
+        extInfo = new ExtInfo();
+        extInfo.setId("a1b2c3");
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+    
+    @Benchmark
+    public Object linkParentCategories() {
+        Xrel.linkParentCategories(releaseCategories);
+        return releaseCategories;
+    }
+    
+    @Benchmark
+    public int[] normalizePageValues() {
+        return xrel.normalizePageValues(perPage, page);
+    }
+    
+    @Benchmark
+    public Object getReleaseLatest() {
+        return xrel.getReleaseLatest(100, 1);
+    }
+    
+    @Benchmark
+    public Object getReleaseCategories() {
+        return xrel.getReleaseCategories();
+    }
+    
+    @Benchmark
+    public Object getExtInfoInfo() {
+        return xrel.getExtInfoInfo(extInfo);
+    }
+    
+    @Benchmark
+    public Object getSearchReleases() {
+        return xrel.getSearchReleases("harbor", true, true, 25);
+    }
+    
+    /**
+     * {@link Dispatcher} answering every request with the fixture recorded for its path.
+     */
+    private final class FixtureDispatcher extends Dispatcher {
+        
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            final String path = request.getRequestUrl().encodedPath();
+            final byte[] payload = payloads.get(path);
+            if (payload == null) {
+                return new MockResponse().setResponseCode(404)
+                        .setBody("{\"error\":\"not_found\",\"error_description\":\"No fixture for " + path + "\"}");
+            }
+            return new MockResponse().setResponseCode(200)
+                    .setHeader("Content-Type", "application/json; charset=utf-8")
+                    .setHeader("X-RateLimit-Limit", "900")
+                    .setHeader("X-RateLimit-Remaining", "899")
+                    .setHeader("X-RateLimit-Reset", "1629460800")
+                    .setBody(new Buffer().write(payload));
+        }
+        
+    }
+    
+}
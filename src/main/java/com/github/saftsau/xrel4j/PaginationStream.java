@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+/**
+ * Class used for streaming a paginated list of any content. Instead of collecting the whole list
+ * first, each entry is handed to a consumer as soon as it is parsed, so only one entry of a page is
+ * held in memory at a time. A PaginationStream can only be consumed once and holds an open
+ * response until it is consumed or closed.
+ *
+ * @param <T> The type of the content of this list
+ */
+public final class PaginationStream<T extends Serializable> implements Closeable {
+    
+    private final JsonParser parser;
+    private final ObjectReader elementReader;
+    private final ObjectReader paginationReader;
+    private boolean consumed;
+    
+    /**
+     * Creates a new PaginationStream reading from the given {@link JsonParser}.
+     *
+     * @param parser The {@link JsonParser} positioned before the paginated list object
+     * @param elementReader The {@link ObjectReader} for the content of the list
+     * @param paginationReader The {@link ObjectReader} for the {@link Pagination}
+     */
+    public PaginationStream(JsonParser parser, ObjectReader elementReader, ObjectReader paginationReader) {
+        this.parser = parser;
+        this.elementReader = elementReader;
+        this.paginationReader = paginationReader;
+    }
+    
+    /**
+     * Parses the paginated list and hands every entry to the given consumer in list order. The
+     * returned {@link PaginationList} contains the total count and pagination, but an empty list.
+     * This PaginationStream is closed afterwards.
+     *
+     * @param consumer The consumer for every entry
+     *
+     * @return The {@link PaginationList} without its entries
+     *
+     * @throws IOException if the response can't be read or parsed
+     * @throws IllegalStateException if this PaginationStream was already consumed
+     */
+    public PaginationList<T> forEach(Consumer<? super T> consumer) throws IOException {
+        if (consumed) {
+            throw new IllegalStateException("PaginationStream can only be consumed once");
+        }
+        consumed = true;
+        try {
+            final PaginationList<T> paginationList = new PaginationList<>();
+            paginationList.setList(Collections.emptyList());
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a paginated list object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                final JsonToken token = parser.nextToken();
+                switch (name) {
+                    case "total_count" -> paginationList.setTotalCount(parser.getValueAsLong());
+                    case "pagination" -> paginationList.setPagination(token == JsonToken.VALUE_NULL ? null : paginationReader.readValue(parser));
+                    case "list" -> readList(token, consumer);
+                    default -> parser.skipChildren();
+                }
+            }
+            return paginationList;
+        } finally {
+            close();
+        }
+    }
+    
+    private void readList(JsonToken token, Consumer<? super T> consumer) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of list");
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            final T element = elementReader.readValue(parser);
+            consumer.accept(element);
+        }
+    }
+    
+    /**
+     * Closes the underlying response without consuming it.
+     *
+     * @throws IOException if the response can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+    
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Named settings of the {@link OkHttpClient} of a {@link RestClient} for a kind of use, set with
+ * {@link RestClient.Builder#profile(PerformanceProfile)}. A profile sets the {@link Dispatcher}
+ * limits, the {@link ConnectionPool}, the protocols and the timeouts together, so they fit each
+ * other. All requests go to one host, so the per-host limit of the dispatcher is the effective one
+ * for asynchronous calls: calls beyond it wait in the dispatcher queue, whose depth is reported to
+ * {@link com.github.saftsau.xrel4j.metrics.XrelMetrics#recordDispatcherQueue(int, int)}. Synchronous
+ * calls, as made by {@link Xrel}, are not limited by the dispatcher; use a
+ * {@link com.github.saftsau.xrel4j.scheduler.SchedulerPolicy} to limit them.
+ * <p>
+ * All profiles offer the same protocols, HTTP/2 before HTTP/1.1, so parallel requests are
+ * multiplexed over one connection where the server supports it. The profiles only differ in their
+ * limits and timeouts, so clients with different profiles can share a {@link ConnectionPool}: OkHttp
+ * only reuses a connection for a client offering the same protocols.
+ */
+public enum PerformanceProfile {
+    
+    /**
+     * The defaults of OkHttp: 64 requests, 5 per host, 5 idle connections kept alive for 5 minutes
+     * and 10 second connect, read and write timeouts without a call timeout.
+     */
+    DEFAULT(64, 5, 5, Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ZERO, Duration.ZERO),
+    /**
+     * Interactive use with many parallel requests: 32 requests in parallel, connections kept
+     * alive and pinged, so no request waits for a handshake, and short timeouts, so a hanging
+     * request fails quickly and can be retried or hedged.
+     */
+    LOW_LATENCY(32, 32, 16, Duration.ofMinutes(5), Duration.ofSeconds(3), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30)),
+    /**
+     * Crawls with a steady stream of requests: a moderate number of parallel requests, which are
+     * limited by the rate limit anyway, connections kept for reuse and generous timeouts, so large
+     * pages complete under load.
+     */
+    BULK_CRAWL(16, 16, 8, Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ZERO);
+    
+    private static final List<Protocol> PROTOCOLS = List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final int maxIdleConnections;
+    private final Duration keepAlive;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration callTimeout;
+    private final Duration pingInterval;
+    
+    PerformanceProfile(int maxRequests, int maxRequestsPerHost, int maxIdleConnections, Duration keepAlive, Duration connectTimeout, Duration readTimeout,
+            Duration callTimeout, Duration pingInterval) {
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAlive = keepAlive;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.callTimeout = callTimeout;
+        this.pingInterval = pingInterval;
+    }
+    
+    /**
+     * Gets the maximum number of requests the {@link Dispatcher} executes concurrently.
+     *
+     * @return The maximum number of requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+    
+    /**
+     * Gets the maximum number of requests to one host the {@link Dispatcher} executes concurrently.
+     *
+     * @return The maximum number of requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+    
+    /**
+     * Gets the maximum number of idle connections in the {@link ConnectionPool}.
+     *
+     * @return The maximum number of idle connections
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+    
+    /**
+     * Gets the time idle connections are kept alive.
+     *
+     * @return The keep-alive duration
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+    
+    /**
+     * Gets the connect timeout.
+     *
+     * @return The connect timeout
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+    
+    /**
+     * Gets the read and write timeout.
+     *
+     * @return The read timeout
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+    
+    /**
+     * Gets the timeout of a whole call, {@link Duration#ZERO} if there is none.
+     *
+     * @return The call timeout
+     */
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+    
+    /**
+     * Gets the interval of HTTP/2 pings keeping connections alive, {@link Duration#ZERO} if there
+     * are none.
+     *
+     * @return The ping interval
+     */
+    public Duration getPingInterval() {
+        return pingInterval;
+    }
+    
+    /**
+     * Creates a new {@link Dispatcher} with the limits of this profile.
+     *
+     * @return The new {@link Dispatcher}
+     */
+    public Dispatcher createDispatcher() {
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return dispatcher;
+    }
+    
+    /**
+     * Creates a new {@link ConnectionPool} with the limits of this profile.
+     *
+     * @return The new {@link ConnectionPool}
+     */
+    public ConnectionPool createConnectionPool() {
+        return new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Applies this profile to the given {@link OkHttpClient.Builder}, with a new {@link Dispatcher}
+     * and {@link ConnectionPool}.
+     *
+     * @param httpClientBuilder The {@link OkHttpClient.Builder}
+     *
+     * @return The given {@link OkHttpClient.Builder}
+     */
+    public OkHttpClient.Builder apply(OkHttpClient.Builder httpClientBuilder) {
+        return applySettings(httpClientBuilder).dispatcher(createDispatcher()).connectionPool(createConnectionPool());
+    }
+    
+    /**
+     * Applies the protocols and timeouts of this profile to the given {@link OkHttpClient.Builder},
+     * but keeps its {@link Dispatcher} and {@link ConnectionPool}, e.g. because they are shared with
+     * other clients.
+     *
+     * @param httpClientBuilder The {@link OkHttpClient.Builder}
+     *
+     * @return The given {@link OkHttpClient.Builder}
+     */
+    public OkHttpClient.Builder applySettings(OkHttpClient.Builder httpClientBuilder) {
+        return httpClientBuilder.protocols(PROTOCOLS)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(readTimeout)
+                .callTimeout(callTimeout)
+                .pingInterval(pingInterval);
+    }
+    
+}
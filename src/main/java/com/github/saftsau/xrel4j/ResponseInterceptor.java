@@ -17,26 +17,54 @@
 
 package com.github.saftsau.xrel4j;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import okhttp3.Interceptor;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
-import okio.Buffer;
-import okio.BufferedSource;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * ClientResponseFilter class used to handle rate limit headers.
  */
 class ResponseInterceptor implements Interceptor {
     
+    private static final long ERROR_PEEK_BYTES = 256;
+    private static final Set<String> ERROR_FIELDS = Set.of("error", "error_type", "error_description");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
+    private final Supplier<ObjectMapper> objectMapper;
+    private volatile ObjectReader errorReader;
     private int xRateLimitLimit = -1;
     private int xRateLimitRemaining = -1;
     private int xRateLimitReset = -1;
     private int responseCode = -1;
     
+    ResponseInterceptor() {
+        this(RestClient::getSharedObjectMapper);
+    }
+    
+    ResponseInterceptor(ObjectMapper objectMapper) {
+        this(() -> objectMapper);
+    }
+    
+    /**
+     * Creates a new ResponseInterceptor. The {@link ObjectMapper} is only looked up once the first
+     * error is read, so creating a client stays cheap.
+     *
+     * @param objectMapper Supplies the {@link ObjectMapper} to read errors with
+     */
+    ResponseInterceptor(Supplier<ObjectMapper> objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
     @Override
     public Response intercept(Chain chain) throws IOException {
         final Response response = chain.proceed(chain.request());
@@ -60,26 +88,61 @@ class ResponseInterceptor implements Interceptor {
         if (body == null) {
             throw new XrelException(getResponseCode());
         }
-        final BufferedSource source = body.source();
-        source.request(Long.MAX_VALUE); // request the entire body.
-        final Buffer buffer = source.getBuffer();
-        // clone buffer before reading from it
-        final String responseString = buffer.clone().readString(StandardCharsets.UTF_8);
-        final ObjectMapper objectMapper = new ObjectMapper();
-        Error error = null;
-        try {
-            error = objectMapper.readValue(responseString, Error.class);
-        } catch (Exception e) {
-            // Nothing, either there was no error or it was not an xREL API error
-        }
+        final Error error = readError(response);
         if (error != null) {
+            response.close();
             throw new XrelException(error.getErrorDescription(), error, getResponseCode());
         } else if (!response.isSuccessful()) {
+            response.close();
             throw new XrelException(getResponseCode());
         }
         return response;
     }
     
+    /**
+     * Reads the {@link Error} of the given response. Only a small prefix of the body is peeked to
+     * check if it is an error object, so the body of successful responses is not buffered and can
+     * be streamed by the converter.
+     *
+     * @param response The response to check
+     *
+     * @return The {@link Error} or {@code null} if the body is no xREL API error
+     *
+     * @throws IOException if the body can't be read
+     */
+    private Error readError(Response response) throws IOException {
+        if (!startsWithErrorField(response.peekBody(ERROR_PEEK_BYTES).string())) {
+            return null;
+        }
+        try {
+            final Error error = errorReader().readValue(response.peekBody(Long.MAX_VALUE).string());
+            // Unknown properties are ignored, so any object would be read as an empty error
+            return error.getError() == null && error.getErrorDescription() == null ? null : error;
+        } catch (JsonProcessingException e) {
+            // Nothing, it was not an xREL API error
+            return null;
+        }
+    }
+    
+    private ObjectReader errorReader() {
+        ObjectReader reader = errorReader;
+        if (reader == null) {
+            // Racing threads create equal readers
+            reader = errorReader = objectMapper.get().readerFor(Error.class);
+        }
+        return reader;
+    }
+    
+    private static boolean startsWithErrorField(String prefix) {
+        try (JsonParser parser = JSON_FACTORY.createParser(prefix)) {
+            return parser.nextToken() == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME
+                    && ERROR_FIELDS.contains(parser.currentName());
+        } catch (IOException e) {
+            // Not a JSON object or the prefix ends within the first field name
+            return false;
+        }
+    }
+    
     /**
      * Gets the maximum number of requests that the consumer is permitted to make per hour as returned
      * by the last request. -1 if not yet set.
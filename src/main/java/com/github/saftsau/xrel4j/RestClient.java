@@ -17,14 +17,45 @@
 
 package com.github.saftsau.xrel4j;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.saftsau.xrel4j.circuit.CircuitBreaker;
+import com.github.saftsau.xrel4j.circuit.CircuitBreakerInterceptor;
+import com.github.saftsau.xrel4j.circuit.CircuitBreakerPolicy;
+import com.github.saftsau.xrel4j.converters.PaginationStreamConverterFactory;
+import com.github.saftsau.xrel4j.deadline.DeadlineCallAdapterFactory;
+import com.github.saftsau.xrel4j.hedging.HedgingCallAdapterFactory;
+import com.github.saftsau.xrel4j.hedging.HedgingPolicy;
+import com.github.saftsau.xrel4j.metrics.JfrInterceptor;
+import com.github.saftsau.xrel4j.metrics.MetricsInterceptor;
+import com.github.saftsau.xrel4j.metrics.XrelMetrics;
+import com.github.saftsau.xrel4j.ratelimit.RateLimitInterceptor;
+import com.github.saftsau.xrel4j.ratelimit.RateLimiter;
+import com.github.saftsau.xrel4j.ratelimit.XrelRateLimiter;
+import com.github.saftsau.xrel4j.retry.RetryInterceptor;
+import com.github.saftsau.xrel4j.retry.RetryPolicy;
+import com.github.saftsau.xrel4j.scheduler.Priority;
+import com.github.saftsau.xrel4j.scheduler.RequestScheduler;
+import com.github.saftsau.xrel4j.scheduler.SchedulerInterceptor;
+import com.github.saftsau.xrel4j.scheduler.SchedulerPolicy;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class RestClient {
     
@@ -32,12 +63,25 @@ public class RestClient {
         static final RestClient INSTANCE = create();
     }
     
+    private static final class ObjectMapperHolder {
+        static final ObjectMapper INSTANCE = createObjectMapper();
+    }
+    
     public static final String BASE_XREL_URL = "https://api.xrel.to/v2/";
     
-    private final OkHttpClient httpClient;
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    
+    private static final String NATIVE_IMAGE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+    
+    private final Builder settings;
+    private final String baseUrl;
+    private final Supplier<ObjectMapper> objectMapper;
     private final ResponseInterceptor responseInterceptor;
-    private final Retrofit retrofit;
-    private final XrelService xrelService;
+    private final XrelMetrics metrics;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RequestScheduler scheduler;
+    private volatile Internals internals;
     
     public static RestClient getInstance() {
         return InstanceHolder.INSTANCE;
@@ -51,37 +95,291 @@ public class RestClient {
         return create(null);
     }
     
-    public static RestClient create(Consumer<OkHttpClient.Builder> httpClientBuilderConsumer) {
-        final OkHttpClient.Builder httpClientBuilder = createHttpClientBuilder();
-        final ResponseInterceptor responseInterceptor = new ResponseInterceptor();
-        httpClientBuilder.addInterceptor(responseInterceptor);
-        if (httpClientBuilderConsumer != null) {
-            httpClientBuilderConsumer.accept(httpClientBuilder);
+    /**
+     * Creates a new {@link ObjectMapper} tuned for the xREL API. Unknown properties are ignored, so
+     * additions to the API don't break deserialization, and the JSR-310 module is registered. If
+     * the Jackson Blackbird module is on the classpath, it is registered as well to replace
+     * reflection with generated accessors, except in a GraalVM native image.
+     *
+     * @return The new {@link ObjectMapper}
+     */
+    public static ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.registerModule(new JavaTimeModule());
+        registerBlackbirdModule(objectMapper);
+        return objectMapper;
+    }
+    
+    /**
+     * Gets the shared {@link ObjectMapper} as created by {@link #createObjectMapper()}. It is used
+     * by all RestClients created without an {@link ObjectMapper} consumer, so its deserializers are
+     * only built once. It must not be reconfigured.
+     *
+     * @return The shared {@link ObjectMapper}
+     */
+    public static ObjectMapper getSharedObjectMapper() {
+        return ObjectMapperHolder.INSTANCE;
+    }
+    
+    private static void registerBlackbirdModule(ObjectMapper objectMapper) {
+        if (System.getProperty(NATIVE_IMAGE_PROPERTY) != null) {
+            // Blackbird generates classes at runtime, which a native image can't load
+            return;
+        }
+        final Class<?> moduleClass;
+        try {
+            moduleClass = Class.forName(BLACKBIRD_MODULE);
+        } catch (ClassNotFoundException | LinkageError e) {
+            // Optional dependency not on the classpath
+            return;
+        }
+        try {
+            objectMapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Could not register " + BLACKBIRD_MODULE, e);
         }
-        return new RestClient(httpClientBuilder.build(), responseInterceptor);
     }
     
-    private RestClient(OkHttpClient httpClient, ResponseInterceptor responseInterceptor) {
-        this(httpClient, responseInterceptor, new Retrofit.Builder().baseUrl(BASE_XREL_URL)
-                .addConverterFactory(JacksonConverterFactory.create())
-                .client(httpClient)
-                .build());
+    public static RestClient create(Consumer<OkHttpClient.Builder> httpClientBuilderConsumer) {
+        return create(httpClientBuilderConsumer, null);
+    }
+    
+    /**
+     * Creates a new RestClient. The given {@link ObjectMapper} consumer can be used to customize the
+     * Jackson deserialization, e.g. by installing a {@link StringPool}. Without it, the shared
+     * {@link ObjectMapper} is used.
+     *
+     * @param httpClientBuilderConsumer Optional consumer to customize the {@link OkHttpClient}
+     * @param objectMapperConsumer Optional consumer to customize the {@link ObjectMapper}
+     *
+     * @return The new RestClient
+     */
+    public static RestClient create(Consumer<OkHttpClient.Builder> httpClientBuilderConsumer, Consumer<ObjectMapper> objectMapperConsumer) {
+        return create(BASE_XREL_URL, httpClientBuilderConsumer, objectMapperConsumer);
     }
     
-    private RestClient(OkHttpClient httpClient, ResponseInterceptor responseInterceptor, Retrofit retrofit) {
-        this(httpClient, responseInterceptor, retrofit, retrofit.create(XrelService.class));
+    /**
+     * Creates a new RestClient for the xREL API at the given base URL, e.g. a local simulator
+     * instead of {@link #BASE_XREL_URL}.
+     *
+     * @param baseUrl The base URL of the xREL API, ending with {@code /}
+     * @param httpClientBuilderConsumer Optional consumer to customize the {@link OkHttpClient}
+     * @param objectMapperConsumer Optional consumer to customize the {@link ObjectMapper}
+     *
+     * @return The new RestClient
+     */
+    public static RestClient create(String baseUrl, Consumer<OkHttpClient.Builder> httpClientBuilderConsumer, Consumer<ObjectMapper> objectMapperConsumer) {
+        return create(baseUrl, httpClientBuilderConsumer, objectMapperConsumer, null);
     }
     
-    private RestClient(OkHttpClient httpClient, ResponseInterceptor responseInterceptor, Retrofit retrofit, XrelService xrelService) {
-        this.httpClient = httpClient;
+    /**
+     * Creates a new RestClient for the xREL API at the given base URL reporting every request to
+     * the given {@link XrelMetrics}. The {@link MetricsInterceptor} is installed as the first
+     * interceptor, so it covers the interceptors added by the {@link OkHttpClient} consumer too.
+     *
+     * @param baseUrl The base URL of the xREL API, ending with {@code /}
+     * @param httpClientBuilderConsumer Optional consumer to customize the {@link OkHttpClient}
+     * @param objectMapperConsumer Optional consumer to customize the {@link ObjectMapper}
+     * @param metrics Optional {@link XrelMetrics} to report to
+     *
+     * @return The new RestClient
+     */
+    public static RestClient create(String baseUrl, Consumer<OkHttpClient.Builder> httpClientBuilderConsumer, Consumer<ObjectMapper> objectMapperConsumer,
+            XrelMetrics metrics) {
+        return builder().baseUrl(baseUrl).httpClient(httpClientBuilderConsumer).objectMapper(objectMapperConsumer).metrics(metrics).build();
+    }
+    
+    /**
+     * Creates a new {@link Builder} for a RestClient using {@link #BASE_XREL_URL}.
+     *
+     * @return The new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    private static RestClient build(Builder builder) {
+        final Builder settings = builder.copy();
+        final Supplier<ObjectMapper> objectMapper;
+        if (settings.objectMapperConsumer == null) {
+            objectMapper = RestClient::getSharedObjectMapper;
+        } else {
+            objectMapper = new Lazy<>(() -> {
+                final ObjectMapper customObjectMapper = createObjectMapper();
+                settings.objectMapperConsumer.accept(customObjectMapper);
+                return customObjectMapper;
+            });
+        }
+        final XrelMetrics metrics = settings.metrics == null ? XrelMetrics.NONE : settings.metrics;
+        // Hedges and the reserves of the scheduler have to be charged against a rate limiter
+        final RateLimiter rateLimiter = settings.rateLimiter == null && (settings.hedgingPolicy != null || settings.schedulerPolicy != null)
+                ? new XrelRateLimiter()
+                : settings.rateLimiter;
+        final CircuitBreaker circuitBreaker = settings.circuitBreakerPolicy == null ? null : new CircuitBreaker(settings.circuitBreakerPolicy);
+        final RequestScheduler scheduler = settings.schedulerPolicy == null ? null : new RequestScheduler(settings.schedulerPolicy, rateLimiter);
+        return new RestClient(settings, objectMapper, new ResponseInterceptor(objectMapper), metrics, rateLimiter, circuitBreaker, scheduler);
+    }
+    
+    private RestClient(Builder settings, Supplier<ObjectMapper> objectMapper, ResponseInterceptor responseInterceptor, XrelMetrics metrics,
+            RateLimiter rateLimiter, CircuitBreaker circuitBreaker, RequestScheduler scheduler) {
+        this.settings = settings;
+        this.baseUrl = settings.baseUrl;
+        this.objectMapper = objectMapper;
         this.responseInterceptor = responseInterceptor;
-        this.retrofit = retrofit;
-        this.xrelService = xrelService;
+        this.metrics = metrics;
+        this.rateLimiter = rateLimiter == null ? RateLimiter.NONE : rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.scheduler = scheduler;
+    }
+    
+    /**
+     * The expensive parts of a RestClient, created on first use.
+     */
+    private static final class Internals {
+        
+        private final OkHttpClient httpClient;
+        private final Retrofit retrofit;
+        private final XrelService xrelService;
+        
+        private Internals(OkHttpClient httpClient, Retrofit retrofit) {
+            this.httpClient = httpClient;
+            this.retrofit = retrofit;
+            this.xrelService = retrofit.create(XrelService.class);
+        }
+        
+    }
+    
+    /**
+     * {@link Supplier} creating its value on first use.
+     *
+     * @param <T> The type of the value
+     */
+    private static final class Lazy<T> implements Supplier<T> {
+        
+        private final Supplier<T> factory;
+        private volatile T value;
+        
+        private Lazy(Supplier<T> factory) {
+            this.factory = factory;
+        }
+        
+        @Override
+        public T get() {
+            T current = value;
+            if (current == null) {
+                synchronized (this) {
+                    current = value;
+                    if (current == null) {
+                        current = value = factory.get();
+                    }
+                }
+            }
+            return current;
+        }
+        
+    }
+    
+    private Internals internals() {
+        Internals current = internals;
+        if (current == null) {
+            synchronized (this) {
+                current = internals;
+                if (current == null) {
+                    current = internals = createInternals(false);
+                }
+            }
+        }
+        return current;
+    }
+    
+    private Internals createInternals(boolean validateEagerly) {
+        final OkHttpClient.Builder httpClientBuilder = new OkHttpClient.Builder();
+        // The interceptors are created before the client, so they look the cache up once it exists
+        final AtomicReference<OkHttpClient> httpClientReference = new AtomicReference<>();
+        final BooleanSupplier cacheEnabled = () -> {
+            final OkHttpClient httpClient = httpClientReference.get();
+            return httpClient != null && httpClient.cache() != null;
+        };
+        if (circuitBreaker != null) {
+            httpClientBuilder.addInterceptor(new CircuitBreakerInterceptor(circuitBreaker, metrics, cacheEnabled));
+        }
+        if (scheduler != null) {
+            httpClientBuilder.addInterceptor(new SchedulerInterceptor(scheduler));
+        }
+        if (settings.retryPolicy != null && settings.retryPolicy.getMaxAttempts() > 1) {
+            httpClientBuilder.addInterceptor(new RetryInterceptor(settings.retryPolicy, metrics, responseInterceptor::getXRateLimitReset));
+        }
+        if (settings.metrics != null) {
+            httpClientBuilder.addInterceptor(new MetricsInterceptor(settings.metrics, () -> {
+                final OkHttpClient httpClient = httpClientReference.get();
+                return httpClient == null ? null : httpClient.dispatcher();
+            }));
+        }
+        if (JfrInterceptor.isAvailable()) {
+            httpClientBuilder.addInterceptor(new JfrInterceptor(cacheEnabled));
+        }
+        httpClientBuilder.addInterceptor(responseInterceptor);
+        if (rateLimiter != RateLimiter.NONE) {
+            httpClientBuilder.addInterceptor(new RateLimitInterceptor(rateLimiter));
+        }
+        if (settings.profile != null) {
+            settings.profile.applySettings(httpClientBuilder);
+        }
+        final Dispatcher dispatcher = settings.dispatcher == null && settings.profile != null ? settings.profile.createDispatcher() : settings.dispatcher;
+        if (dispatcher != null) {
+            httpClientBuilder.dispatcher(dispatcher);
+        }
+        final ConnectionPool connectionPool = settings.connectionPool == null && settings.profile != null
+                ? settings.profile.createConnectionPool()
+                : settings.connectionPool;
+        if (connectionPool != null) {
+            httpClientBuilder.connectionPool(connectionPool);
+        }
+        if (settings.httpClientBuilderConsumer != null) {
+            settings.httpClientBuilderConsumer.accept(httpClientBuilder);
+        }
+        final OkHttpClient httpClient = httpClientBuilder.build();
+        httpClientReference.set(httpClient);
+        final Retrofit.Builder retrofitBuilder = new Retrofit.Builder().baseUrl(baseUrl)
+                .addConverterFactory(PaginationStreamConverterFactory.create(objectMapper.get()))
+                .addConverterFactory(JacksonConverterFactory.create(objectMapper.get()))
+                .client(httpClient)
+                .validateEagerly(validateEagerly)
+                .addCallAdapterFactory(new DeadlineCallAdapterFactory());
+        if (settings.hedgingPolicy != null) {
+            retrofitBuilder.addCallAdapterFactory(new HedgingCallAdapterFactory(settings.hedgingPolicy, rateLimiter, metrics));
+        }
+        return new Internals(httpClient, retrofitBuilder.build());
+    }
+    
+    /**
+     * Creates everything needed for requests right away instead of on the first request: the
+     * {@link OkHttpClient}, the {@link XrelService} with all its methods parsed and the Jackson
+     * deserializers of all response types. Clients making more than a few requests or serving
+     * latency-sensitive requests can call it at startup, short-lived ones should not.
+     *
+     * @return This RestClient
+     */
+    public RestClient prewarm() {
+        final Internals current;
+        synchronized (this) {
+            if (internals == null) {
+                internals = createInternals(true);
+            }
+            current = internals;
+        }
+        for (Method method : XrelService.class.getMethods()) {
+            if (method.getGenericReturnType() instanceof ParameterizedType returnType) {
+                current.retrofit.responseBodyConverter(returnType.getActualTypeArguments()[0], method.getAnnotations());
+            }
+        }
+        return this;
     }
     
     public String getOAuth2Auth(String responseType, String clientId, Optional<String> redirectUri, Optional<String> state, Optional<String[]> scope) {
         String url;
-        url = BASE_XREL_URL + "oauth2/auth?response_type=" + URLEncoder.encode(responseType, StandardCharsets.UTF_8) + "&client_id=" + clientId;
+        url = baseUrl + "oauth2/auth?response_type=" + URLEncoder.encode(responseType, StandardCharsets.UTF_8) + "&client_id=" + clientId;
         if (redirectUri.isPresent()) {
             url = url + "&redirect_uri=" + URLEncoder.encode(redirectUri.get(), StandardCharsets.UTF_8);
         }
@@ -94,20 +392,290 @@ public class RestClient {
         return url;
     }
     
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+    
     public OkHttpClient getHttpClient() {
-        return httpClient;
+        return internals().httpClient;
     }
     
     public ResponseInterceptor getResponseInterceptor() {
         return responseInterceptor;
     }
     
+    public XrelMetrics getMetrics() {
+        return metrics;
+    }
+    
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+    
+    public Optional<CircuitBreaker> getCircuitBreaker() {
+        return Optional.ofNullable(circuitBreaker);
+    }
+    
+    public Optional<RequestScheduler> getScheduler() {
+        return Optional.ofNullable(scheduler);
+    }
+    
+    /**
+     * Gets the number of asynchronous calls waiting in the {@link okhttp3.Dispatcher} queue of the
+     * {@link OkHttpClient}.
+     *
+     * @return The dispatcher queue depth
+     */
+    public int getDispatcherQueueDepth() {
+        return internals().httpClient.dispatcher().queuedCallsCount();
+    }
+    
     public Retrofit getRetrofit() {
-        return retrofit;
+        return internals().retrofit;
     }
     
     public XrelService getXrelService() {
-        return xrelService;
+        return internals().xrelService;
+    }
+    
+    /**
+     * Builder of a {@link RestClient}. All settings are optional.
+     */
+    public static final class Builder {
+        
+        private String baseUrl = BASE_XREL_URL;
+        private Consumer<OkHttpClient.Builder> httpClientBuilderConsumer;
+        private Consumer<ObjectMapper> objectMapperConsumer;
+        private XrelMetrics metrics;
+        private RetryPolicy retryPolicy;
+        private RateLimiter rateLimiter;
+        private HedgingPolicy hedgingPolicy;
+        private CircuitBreakerPolicy circuitBreakerPolicy;
+        private SchedulerPolicy schedulerPolicy;
+        private PerformanceProfile profile;
+        private Dispatcher dispatcher;
+        private ConnectionPool connectionPool;
+        
+        private Builder() {
+        }
+        
+        /**
+         * Sets the base URL of the xREL API, e.g. a local simulator. Default is
+         * {@link RestClient#BASE_XREL_URL}.
+         *
+         * @param baseUrl The base URL of the xREL API, ending with {@code /}
+         *
+         * @return This Builder
+         */
+        public Builder baseUrl(String baseUrl) {
+            Objects.requireNonNull(baseUrl, "baseUrl missing");
+            if (!baseUrl.endsWith("/")) {
+                throw new IllegalArgumentException("baseUrl must end in /: " + baseUrl);
+            }
+            this.baseUrl = baseUrl;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link PerformanceProfile} of the {@link OkHttpClient}. It is applied before the
+         * {@link OkHttpClient} consumer, which can still override single settings. By default,
+         * OkHttp's defaults are used.
+         *
+         * @param profile The {@link PerformanceProfile} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder profile(PerformanceProfile profile) {
+            this.profile = profile;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link Dispatcher} of the {@link OkHttpClient}, so several RestClients share its
+         * threads and limits. By default, a new one is created, with the limits of the
+         * {@link PerformanceProfile} if set.
+         *
+         * @param dispatcher The {@link Dispatcher} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder dispatcher(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link ConnectionPool} of the {@link OkHttpClient}, so several RestClients reuse
+         * the same connections. By default, a new one is created, with the limits of the
+         * {@link PerformanceProfile} if set.
+         *
+         * @param connectionPool The {@link ConnectionPool} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder connectionPool(ConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+        
+        /**
+         * Shares the {@link Dispatcher} and {@link ConnectionPool} of the given RestClient, so
+         * RestClients with different base URLs, policies or profiles cost no extra threads or
+         * connections. All other settings are independent. The {@link OkHttpClient} of the given
+         * RestClient is created if it wasn't used yet.
+         *
+         * @param restClient The RestClient to share with
+         *
+         * @return This Builder
+         */
+        public Builder shareConnections(RestClient restClient) {
+            Objects.requireNonNull(restClient, "restClient missing");
+            this.dispatcher = restClient.getHttpClient().dispatcher();
+            this.connectionPool = restClient.getHttpClient().connectionPool();
+            return this;
+        }
+        
+        /**
+         * Sets a consumer to customize the {@link OkHttpClient}. It is called after the interceptors
+         * of the RestClient were added.
+         *
+         * @param httpClientBuilderConsumer The consumer or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder httpClient(Consumer<OkHttpClient.Builder> httpClientBuilderConsumer) {
+            this.httpClientBuilderConsumer = httpClientBuilderConsumer;
+            return this;
+        }
+        
+        /**
+         * Sets a consumer to customize the {@link ObjectMapper}, e.g. by installing a
+         * {@link StringPool}. Without it, the shared {@link ObjectMapper} is used.
+         *
+         * @param objectMapperConsumer The consumer or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder objectMapper(Consumer<ObjectMapper> objectMapperConsumer) {
+            this.objectMapperConsumer = objectMapperConsumer;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link XrelMetrics} to report every request to. A {@link MetricsInterceptor} is
+         * installed before the interceptors added by the {@link OkHttpClient} consumer, so it covers
+         * them too.
+         *
+         * @param metrics The {@link XrelMetrics} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder metrics(XrelMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link RetryPolicy} for failed idempotent requests. A {@link RetryInterceptor} is
+         * installed before all other interceptors but the {@link CircuitBreakerInterceptor}, so every
+         * attempt is reported to the {@link XrelMetrics}. By default, no request is retried.
+         *
+         * @param retryPolicy The {@link RetryPolicy} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link RateLimiter} to charge every request to. A {@link RateLimitInterceptor} is
+         * installed after the interceptor handling xREL API errors, so requests exceeding the limit
+         * fail without being sent. By default, there is no client-side rate limit unless hedging or
+         * scheduling is enabled, which use an {@link XrelRateLimiter}.
+         *
+         * @param rateLimiter The {@link RateLimiter} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link HedgingPolicy} for slow idempotent requests. By default, no request is
+         * hedged.
+         *
+         * @param hedgingPolicy The {@link HedgingPolicy} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link CircuitBreakerPolicy} of a {@link CircuitBreaker} guarding all requests. A
+         * {@link CircuitBreakerInterceptor} is installed as the first interceptor, so requests fail
+         * fast or are served from the HTTP cache while the xREL API is unavailable. By default, there
+         * is no circuit breaker.
+         *
+         * @param circuitBreakerPolicy The {@link CircuitBreakerPolicy} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder circuitBreaker(CircuitBreakerPolicy circuitBreakerPolicy) {
+            this.circuitBreakerPolicy = circuitBreakerPolicy;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link SchedulerPolicy} of a {@link RequestScheduler} admitting all requests by
+         * the {@link Priority} entered on the executing thread. A {@link SchedulerInterceptor} is
+         * installed right after the {@link CircuitBreakerInterceptor}. All priorities share the
+         * budget of the {@link RateLimiter}, an {@link XrelRateLimiter} unless another one is set.
+         * By default, requests are not scheduled.
+         *
+         * @param schedulerPolicy The {@link SchedulerPolicy} or {@code null}
+         *
+         * @return This Builder
+         */
+        public Builder scheduler(SchedulerPolicy schedulerPolicy) {
+            this.schedulerPolicy = schedulerPolicy;
+            return this;
+        }
+        
+        private Builder copy() {
+            final Builder copy = new Builder();
+            copy.baseUrl = baseUrl;
+            copy.httpClientBuilderConsumer = httpClientBuilderConsumer;
+            copy.objectMapperConsumer = objectMapperConsumer;
+            copy.metrics = metrics;
+            copy.retryPolicy = retryPolicy;
+            copy.rateLimiter = rateLimiter;
+            copy.hedgingPolicy = hedgingPolicy;
+            copy.circuitBreakerPolicy = circuitBreakerPolicy;
+            copy.schedulerPolicy = schedulerPolicy;
+            copy.profile = profile;
+            copy.dispatcher = dispatcher;
+            copy.connectionPool = connectionPool;
+            return copy;
+        }
+        
+        /**
+         * Creates the {@link RestClient}. Only the policies are set up right away, the
+         * {@link OkHttpClient}, the {@link XrelService} and the {@link ObjectMapper} are created on
+         * first use or by {@link RestClient#prewarm()}.
+         *
+         * @return The new {@link RestClient}
+         */
+        public RestClient build() {
+            return RestClient.build(this);
+        }
+        
     }
     
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Enum represents the OAuth scopes offered by the xREL API to access protected methods.
+ *
+ * @see <a href="https://www.xrel.to/wiki/6436/api-oauth2.html">API: OAuth 2.0</a>
+ */
+public enum Scope {
+    
+    /**
+     * Needed for {@link Xrel#getNfoRelease(com.github.saftsau.xrel4j.release.scene.Release, Token)}
+     * and {@link Xrel#getNfoP2pRls(com.github.saftsau.xrel4j.release.p2p.P2pRelease, Token)}.
+     */
+    VIEWNFO("viewnfo"),
+    /**
+     * Needed for {@link Xrel#postReleaseAddProof(java.util.List, String, Token)}.
+     */
+    ADDPROOF("addproof");
+    
+    private static final Scope[] VALUES = values();
+    
+    private final String value;
+    
+    Scope(String value) {
+        this.value = value;
+    }
+    
+    /**
+     * Gets the name of this Scope as used by the xREL API.
+     *
+     * @return The name
+     */
+    public String getValue() {
+        return value;
+    }
+    
+    /**
+     * Gets the Scope with the given name as used by the xREL API.
+     *
+     * @param value The name of the Scope
+     *
+     * @return The Scope or {@code null} if there is no Scope with this name
+     */
+    public static Scope fromValue(String value) {
+        for (Scope scope : VALUES) {
+            if (scope.value.equals(value)) {
+                return scope;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Creates an immutable {@link Set} of all known Scopes contained in the given names. Unknown
+     * names are skipped.
+     *
+     * @param values The names of the Scopes, can be {@code null}
+     *
+     * @return The immutable {@link Set} of Scopes
+     */
+    public static Set<Scope> setOf(String[] values) {
+        final EnumSet<Scope> scopes = EnumSet.noneOf(Scope.class);
+        if (values != null) {
+            for (String value : values) {
+                final Scope scope = fromValue(value);
+                if (scope != null) {
+                    scopes.add(scope);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(scopes);
+    }
+    
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, thread-safe pool used to deduplicate low-cardinality {@link String}s like group names,
+ * video and audio types or size units while deserializing responses. Once installed on the
+ * {@link ObjectMapper} of a {@link RestClient}, every field annotated with
+ * {@link InterningStringDeserializer} resolves to the pooled instance, so millions of retained
+ * releases share a handful of {@link String} objects instead of one copy per release.
+ * <p>
+ * The pool stops admitting new values once {@link #getMaxSize()} is reached and never pools values
+ * longer than {@link #getMaxLength()}, so high-cardinality input can not grow it without bound.
+ */
+public final class StringPool {
+    
+    public static final int DEFAULT_MAX_SIZE = 16384;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+    
+    private final ConcurrentHashMap<String, String> pool;
+    private final int maxSize;
+    private final int maxLength;
+    
+    /**
+     * Constructs a new StringPool with {@link #DEFAULT_MAX_SIZE} and {@link #DEFAULT_MAX_LENGTH}.
+     */
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_LENGTH);
+    }
+    
+    /**
+     * Constructs a new StringPool.
+     *
+     * @param maxSize The maximum number of pooled values
+     * @param maxLength The maximum length of a value to be pooled
+     */
+    public StringPool(int maxSize, int maxLength) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be 1 or greater");
+        }
+        this.pool = new ConcurrentHashMap<>(Math.min(maxSize, 256));
+        this.maxSize = maxSize;
+        this.maxLength = maxLength;
+    }
+    
+    /**
+     * Gets the StringPool installed on the {@link ObjectMapper} the given context belongs to.
+     *
+     * @param deserializationContext The current {@link DeserializationContext}
+     *
+     * @return The StringPool or {@code null} if none is installed
+     */
+    public static StringPool from(DeserializationContext deserializationContext) {
+        return (StringPool) deserializationContext.getAttribute(StringPool.class);
+    }
+    
+    /**
+     * Installs this StringPool on the given {@link ObjectMapper}, so it is used by all fields
+     * annotated with {@link InterningStringDeserializer}. Other default attributes of the
+     * {@link ObjectMapper} are kept.
+     *
+     * @param objectMapper The {@link ObjectMapper} to install this StringPool on
+     */
+    public void install(ObjectMapper objectMapper) {
+        objectMapper.setDefaultAttributes(objectMapper.getDeserializationConfig().getAttributes().withSharedAttribute(StringPool.class, this));
+    }
+    
+    /**
+     * Returns the pooled instance equal to the given {@link String}. If there is none yet and the
+     * pool still has room, the given {@link String} is pooled and returned.
+     *
+     * @param string The {@link String} to intern, can be {@code null}
+     *
+     * @return The pooled instance or the given {@link String} if it can't be pooled
+     */
+    public String intern(String string) {
+        if (string == null || string.length() > maxLength) {
+            return string;
+        }
+        final String pooled = pool.get(string);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maxSize) {
+            return string;
+        }
+        final String previous = pool.putIfAbsent(string, string);
+        return previous == null ? string : previous;
+    }
+    
+    /**
+     * Gets the current number of pooled values.
+     *
+     * @return The number of pooled values
+     */
+    public int size() {
+        return pool.size();
+    }
+    
+    /**
+     * Removes all pooled values. Already deserialized objects keep their references.
+     */
+    public void clear() {
+        pool.clear();
+    }
+    
+    /**
+     * Gets the maximum number of pooled values.
+     *
+     * @return The maximum number of pooled values
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+    
+    /**
+     * Gets the maximum length of a value to be pooled.
+     *
+     * @return The maximum length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+    
+    @Override
+    public String toString() {
+        return "StringPool [size()=" + size() + ", getMaxSize()=" + getMaxSize() + ", getMaxLength()=" + getMaxLength() + "]";
+    }
+    
+}
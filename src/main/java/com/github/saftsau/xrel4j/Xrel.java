@@ -30,11 +30,19 @@ import com.github.saftsau.xrel4j.release.p2p.P2pGroup;
 import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
 import com.github.saftsau.xrel4j.release.scene.Release;
 import com.github.saftsau.xrel4j.release.scene.ReleaseAddProof;
+import com.github.saftsau.xrel4j.view.CommentView;
+import com.github.saftsau.xrel4j.view.ExtInfoView;
+import com.github.saftsau.xrel4j.view.FavoriteView;
+import com.github.saftsau.xrel4j.view.P2pReleaseView;
+import com.github.saftsau.xrel4j.view.ReleaseView;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Response;
 
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Java implementation of the xREL API v2. Method and parameter names are based on the xREL API with
@@ -70,6 +78,7 @@ public class Xrel {
     private static final String MESSAGE_TEXT_MISSING = "text missing";
     private static final String MESSAGE_GRANT_TYPE_MISSING = "grantType missing";
     private static final String MESSAGE_CODE_MISSING = "code missing";
+    private static final String MESSAGE_CONSUMER_MISSING = "consumer missing";
     
     private static final String EXCEPTION_MESSAGE_EITHER_SCENE_OR_P2P_MUST_BE_SET_TO_TRUE = "either scene or p2p must be set to true";
     private static final String EXCEPTION_MESSAGE_LIMIT_MUST_BE_1_OR_GREATER = "limit must be 1 or greater";
@@ -84,10 +93,12 @@ public class Xrel {
     
     private final RestClient restClient;
     private final Optional<String> clientId;
-    private Optional<String> clientSecret;
-    private Optional<String> redirectUri;
-    private Optional<String> state;
-    private Optional<String[]> scope;
+    private final Optional<String> clientSecret;
+    private final Optional<String> redirectUri;
+    private final Optional<String> state;
+    private final Optional<String[]> scope;
+    private final Set<Scope> scopes;
+    private final String scopeParameter;
     
     /**
      * Constructs a new xREL object without any oAuth information.
@@ -106,8 +117,7 @@ public class Xrel {
      * @see <a href="https://www.xrel.to/wiki/6436/api-oauth2.html">API: OAuth 2.0</a>
      */
     public Xrel(RestClient restClient) {
-        this.restClient = restClient;
-        this.clientId = Optional.empty();
+        this(restClient, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
     }
     
     /**
@@ -132,12 +142,7 @@ public class Xrel {
      * @see <a href="https://www.xrel.to/wiki/6436/api-oauth2.html">API: OAuth 2.0</a>
      */
     public Xrel(RestClient restClient, String clientId, String clientSecret) {
-        this.restClient = restClient;
-        this.clientId = Optional.of(clientId);
-        this.clientSecret = Optional.of(clientSecret);
-        this.redirectUri = Optional.empty();
-        this.state = Optional.empty();
-        this.scope = Optional.empty();
+        this(restClient, Optional.of(clientId), Optional.of(clientSecret), Optional.empty(), Optional.empty(), Optional.empty());
     }
     
     /**
@@ -170,12 +175,7 @@ public class Xrel {
      * @see <a href="https://www.xrel.to/wiki/6436/api-oauth2.html">API: OAuth 2.0</a>
      */
     public Xrel(RestClient restClient, String clientId, String clientSecret, Optional<String> redirectUri, Optional<String> state) {
-        this.restClient = restClient;
-        this.clientId = Optional.of(clientId);
-        this.clientSecret = Optional.of(clientSecret);
-        this.redirectUri = redirectUri;
-        this.state = state;
-        this.scope = Optional.empty();
+        this(restClient, Optional.of(clientId), Optional.of(clientSecret), redirectUri, state, Optional.empty());
     }
     
     /**
@@ -208,12 +208,7 @@ public class Xrel {
      * @see <a href="https://www.xrel.to/wiki/6436/api-oauth2.html">API: OAuth 2.0</a>
      */
     public Xrel(RestClient restClient, String clientId, String clientSecret, String[] scope) {
-        this.restClient = restClient;
-        this.clientId = Optional.of(clientId);
-        this.clientSecret = Optional.of(clientSecret);
-        this.redirectUri = Optional.empty();
-        this.state = Optional.empty();
-        this.scope = Optional.of(scope);
+        this(restClient, Optional.of(clientId), Optional.of(clientSecret), Optional.empty(), Optional.empty(), Optional.of(scope));
     }
     
     /**
@@ -254,12 +249,30 @@ public class Xrel {
      * @see <a href="https://www.xrel.to/wiki/6436/api-oauth2.html">API: OAuth 2.0</a>
      */
     public Xrel(RestClient restClient, String clientId, String clientSecret, Optional<String> redirectUri, Optional<String> state, String[] scope) {
+        this(restClient, Optional.of(clientId), Optional.of(clientSecret), redirectUri, state, Optional.of(scope));
+    }
+    
+    /**
+     * Constructs a new xREL object. All values are final, the given scope array is copied and the
+     * known {@link Scope}s are resolved once, so a single instance can safely be shared between
+     * threads.
+     *
+     * @param restClient The RestClient
+     * @param clientId Your optional consumer key.
+     * @param clientSecret Your optional consumer secret.
+     * @param redirectUri Optional URI to redirect to after the authentication.
+     * @param state Optionally any string, returned after the authentication.
+     * @param scope Optional scopes needed to access protected methods.
+     */
+    private Xrel(RestClient restClient, Optional<String> clientId, Optional<String> clientSecret, Optional<String> redirectUri, Optional<String> state, Optional<String[]> scope) {
         this.restClient = restClient;
-        this.clientId = Optional.of(clientId);
-        this.clientSecret = Optional.of(clientSecret);
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
         this.redirectUri = redirectUri;
         this.state = state;
-        this.scope = Optional.of(scope);
+        this.scope = scope.map(String[]::clone);
+        this.scopes = Scope.setOf(this.scope.orElse(null));
+        this.scopeParameter = this.scope.filter(strings -> strings.length > 0).map(strings -> String.join(" ", strings)).orElse(null);
     }
     
     /**
@@ -326,12 +339,32 @@ public class Xrel {
     }
     
     /**
-     * Gets the set scope.
+     * Gets the set scope. The returned array is a copy.
      *
      * @return The scope
      */
     public Optional<String[]> getScope() {
-        return scope;
+        return scope.map(String[]::clone);
+    }
+    
+    /**
+     * Gets the known {@link Scope}s contained in the set scope.
+     *
+     * @return The immutable {@link Set} of {@link Scope}s
+     */
+    public Set<Scope> getScopes() {
+        return scopes;
+    }
+    
+    /**
+     * Checks if a specific {@link Scope} was given at creation time.
+     *
+     * @param scope The {@link Scope} to check for
+     *
+     * @return {@code true} if found, {@code false} otherwise
+     */
+    public boolean hasScope(Scope scope) {
+        return scopes.contains(scope);
     }
     
     /**
@@ -344,7 +377,7 @@ public class Xrel {
      *
      * @return An array with perPage on [0] and page on [1]
      */
-    private int[] normalizePageValues(int perPage, int page) {
+    int[] normalizePageValues(int perPage, int page) {
         if (perPage < getPaginationPerPageMin()) {
             perPage = getPaginationPerPageMin();
         } else if (perPage > getPaginationPerPageMax()) {
@@ -397,23 +430,16 @@ public class Xrel {
     }
     
     /**
-     * Checks if a specific scope is not given at creation time.
+     * Checks if a specific {@link Scope} was given at creation time.
      *
-     * @param scope The scope to check for
+     * @param scope The {@link Scope} to check for
      *
-     * @return {@code false} if found, {@code true} otherwise
+     * @throws XrelException If the {@link Scope} was not given
      */
-    private boolean denyScope(String scope) {
-        final Optional<String[]> optional = getScope();
-        if (optional.isEmpty()) {
-            throw new XrelException("No Scope provided");
+    private void requireScope(Scope scope) {
+        if (!hasScope(scope)) {
+            throw new XrelException(scope.getValue() + " scope not provided");
         }
-        for (String string : optional.get()) {
-            if (Objects.equals(string, scope)) {
-                return false;
-            }
-        }
-        return true;
     }
     
     /**
@@ -699,6 +725,17 @@ public class Xrel {
         if (categorySet == null) {
             throw new XrelException("No ReleaseCategory found");
         }
+        linkParentCategories(categorySet);
+        return categorySet;
+    }
+    
+    /**
+     * Sets the parent {@link ReleaseCategory} of every given {@link ReleaseCategory} by its parent
+     * category name.
+     *
+     * @param categorySet The set of {@link ReleaseCategory} to link
+     */
+    static void linkParentCategories(Set<ReleaseCategory> categorySet) {
         // We put all categories we found into a map, so we can calculate the parent
         // categories
         final Map<String, ReleaseCategory> hashMap = new HashMap<>();
@@ -708,7 +745,6 @@ public class Xrel {
         for (ReleaseCategory releaseCategory : categorySet) {
             releaseCategory.setParentCat(hashMap.get(releaseCategory.getParentCatName()));
         }
-        return categorySet;
     }
     
     /**
@@ -803,6 +839,272 @@ public class Xrel {
         return response.body();
     }
     
+    /**
+     * Streams the latest releases. Works like
+     * {@link #getReleaseLatest(String, int, int, Filter, Token)}, but hands every {@link Release} to
+     * the given consumer as soon as it is parsed instead of collecting the whole page first. You can
+     * either provide a {@link Filter}, a {@code Token} or neither, but not both.
+     *
+     * @param archive YYYY-MM for archive or {@code null}.
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param filter Filter (from {@link #getReleaseFilters()}) or {@code null}.
+     * @param token Uses the overview filter of the respective user or {@code null}
+     * @param consumer Consumer for every {@link Release} of the page
+     *
+     * @return The {@link PaginationList} with total count and pagination, but an empty list
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href="https://www.xrel.to/wiki/2994/api-release-latest.html">API: release/latest
+     * method</a>
+     */
+    public PaginationList<Release> streamReleaseLatest(String archive, int perPage, int page, Filter filter, Token token, Consumer<? super Release> consumer) {
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        String filterParam = null;
+        if (filter != null && token == null) {
+            filterParam = String.valueOf(filter.id());
+        }
+        if (filter == null && token != null) {
+            filterParam = "overview";
+        }
+        final String bearerToken = token == null ? null : token.createBearerHeader();
+        return stream(restClient.getXrelService()
+                .releaseLatestStream(bearerToken, normalizedPageValues[0], normalizedPageValues[1], archive, filterParam), consumer);
+    }
+    
+    /**
+     * Streams the latest releases, handing every {@link Release} to the given consumer as soon as it
+     * is parsed.
+     *
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param consumer Consumer for every {@link Release} of the page
+     *
+     * @return The {@link PaginationList} with total count and pagination, but an empty list
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href="https://www.xrel.to/wiki/2994/api-release-latest.html">API: release/latest
+     * method</a>
+     */
+    public PaginationList<Release> streamReleaseLatest(int perPage, int page, Consumer<? super Release> consumer) {
+        return streamReleaseLatest(null, perPage, page, null, null, consumer);
+    }
+    
+    /**
+     * Streams scene releases from the given category, handing every {@link Release} to the given
+     * consumer as soon as it is parsed.
+     *
+     * @param category Category from {@link #getReleaseCategories()}
+     * @param extInfoType Use one of: {@code movie}|{@code tv}|{@code game}|{@code console}|{@code
+     * software}|{@code xxx} or {@code null}
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param consumer Consumer for every {@link Release} of the page
+     *
+     * @return The {@link PaginationList} with total count and pagination, but an empty list
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/3751/api-release-browse-category.html">API:
+     * release/browse_category method</a>
+     */
+    public PaginationList<Release> streamReleaseBrowseCategory(ReleaseCategory category, String extInfoType, int perPage, int page, Consumer<? super Release> consumer) {
+        Objects.requireNonNull(category, MESSAGE_CATEGORY_MISSING);
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        return stream(restClient.getXrelService()
+                .releaseBrowseCategoryStream(category.getName(), extInfoType, normalizedPageValues[0], normalizedPageValues[1]), consumer);
+    }
+    
+    /**
+     * Streams all releases associated with a given Ext Info, handing every {@link Release} to the
+     * given consumer as soon as it is parsed.
+     *
+     * @param extInfo Ext info.
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param consumer Consumer for every {@link Release} of the page
+     *
+     * @return The {@link PaginationList} with total count and pagination, but an empty list
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     */
+    public PaginationList<Release> streamReleaseExtInfo(ExtInfo extInfo, int perPage, int page, Consumer<? super Release> consumer) {
+        Objects.requireNonNull(extInfo, MESSAGE_EXT_INFO_MISSING);
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        return stream(restClient.getXrelService()
+                .releaseExtInfoStream(extInfo.getId(), normalizedPageValues[0], normalizedPageValues[1]), consumer);
+    }
+    
+    /**
+     * Executes the given call and hands every entry of the returned page to the given consumer.
+     *
+     * @param call The call to execute
+     * @param consumer Consumer for every entry of the page
+     * @param <T> The type of the entries
+     *
+     * @return The {@link PaginationList} with total count and pagination, but an empty list
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     */
+    private static <T extends Serializable> PaginationList<T> stream(Call<PaginationStream<T>> call, Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, MESSAGE_CONSUMER_MISSING);
+        final Response<PaginationStream<T>> response;
+        try {
+            response = call.execute();
+        } catch (Exception e) {
+            throw new XrelException(e);
+        }
+        final PaginationStream<T> paginationStream = response.body();
+        if (paginationStream == null) {
+            return null;
+        }
+        try {
+            return paginationStream.forEach(consumer);
+        } catch (IOException e) {
+            throw new XrelException(e);
+        }
+    }
+    
+    /**
+     * Returns information about a single release as an immutable {@link ReleaseView}, specified by
+     * the complete dirname.
+     *
+     * @param dir Dirname of the release
+     *
+     * @return The corresponding {@link ReleaseView}
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href="https://www.xrel.to/wiki/1680/api-release-info.html">API: release/info method</a>
+     */
+    public ReleaseView viewReleaseInfoDir(String dir) {
+        Objects.requireNonNull(dir, MESSAGE_DIR_MISSING);
+        
+        return execute(restClient.getXrelService().releaseInfoView(null, dir));
+    }
+    
+    /**
+     * Returns information about a single release as an immutable {@link ReleaseView}, specified by
+     * the API release id.
+     *
+     * @param id API id of the release
+     *
+     * @return The corresponding {@link ReleaseView}
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href="https://www.xrel.to/wiki/1680/api-release-info.html">API: release/info method</a>
+     */
+    public ReleaseView viewReleaseInfoId(String id) {
+        Objects.requireNonNull(id, MESSAGE_ID_MISSING);
+        
+        return execute(restClient.getXrelService().releaseInfoView(id, null));
+    }
+    
+    /**
+     * Returns the latest releases as immutable {@link ReleaseView}. Works like
+     * {@link #getReleaseLatest(String, int, int, Filter, Token)}. You can either provide a
+     * {@link Filter}, a {@code Token} or neither, but not both.
+     *
+     * @param archive YYYY-MM for archive or {@code null}.
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param filter Filter (from {@link #getReleaseFilters()}) or {@code null}.
+     * @param token Uses the overview filter of the respective user or {@code null}
+     *
+     * @return The list of {@link ReleaseView} matching the criteria
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href="https://www.xrel.to/wiki/2994/api-release-latest.html">API: release/latest
+     * method</a>
+     */
+    public PaginationList<ReleaseView> viewReleaseLatest(String archive, int perPage, int page, Filter filter, Token token) {
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        String filterParam = null;
+        if (filter != null && token == null) {
+            filterParam = String.valueOf(filter.id());
+        }
+        if (filter == null && token != null) {
+            filterParam = "overview";
+        }
+        final String bearerToken = token == null ? null : token.createBearerHeader();
+        return execute(restClient.getXrelService()
+                .releaseLatestView(bearerToken, normalizedPageValues[0], normalizedPageValues[1], archive, filterParam));
+    }
+    
+    /**
+     * Returns the latest releases as immutable {@link ReleaseView}.
+     *
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     *
+     * @return The list of {@link ReleaseView} matching the criteria
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href="https://www.xrel.to/wiki/2994/api-release-latest.html">API: release/latest
+     * method</a>
+     */
+    public PaginationList<ReleaseView> viewReleaseLatest(int perPage, int page) {
+        return viewReleaseLatest(null, perPage, page, null, null);
+    }
+    
+    /**
+     * Returns scene releases from the given category as immutable {@link ReleaseView}.
+     *
+     * @param category Category from {@link #getReleaseCategories()}
+     * @param extInfoType Use one of: {@code movie}|{@code tv}|{@code game}|{@code console}|{@code
+     * software}|{@code xxx} or {@code null}
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     *
+     * @return The list of {@link ReleaseView} matching the criteria
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/3751/api-release-browse-category.html">API:
+     * release/browse_category method</a>
+     */
+    public PaginationList<ReleaseView> viewReleaseBrowseCategory(ReleaseCategory category, String extInfoType, int perPage, int page) {
+        Objects.requireNonNull(category, MESSAGE_CATEGORY_MISSING);
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        return execute(restClient.getXrelService()
+                .releaseBrowseCategoryView(category.getName(), extInfoType, normalizedPageValues[0], normalizedPageValues[1]));
+    }
+    
+    /**
+     * Returns all releases associated with a given Ext Info as immutable {@link ReleaseView}.
+     *
+     * @param extInfo Ext info.
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     *
+     * @return The list of {@link ReleaseView} matching the criteria
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     */
+    public PaginationList<ReleaseView> viewReleaseExtInfo(ExtInfoView extInfo, int perPage, int page) {
+        Objects.requireNonNull(extInfo, MESSAGE_EXT_INFO_MISSING);
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        return execute(restClient.getXrelService()
+                .releaseExtInfoView(extInfo.id(), normalizedPageValues[0], normalizedPageValues[1]));
+    }
+    
+    /**
+     * Executes the given call and returns its body.
+     *
+     * @param call The call to execute
+     * @param <T> The type of the body
+     *
+     * @return The body of the response
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     */
+    private static <T> T execute(Call<T> call) {
+        final Response<T> response;
+        try {
+            response = call.execute();
+        } catch (Exception e) {
+            throw new XrelException(e);
+        }
+        return response.body();
+    }
+    
     /**
      * Returns a set of public, predefined release filters. You can use the filter ID in
      * {@code #getReleaseLatest(Optional, int, int, Optional, Optional)}. You should avoid calling
@@ -844,9 +1146,7 @@ public class Xrel {
         Objects.requireNonNull(releaseList, MESSAGE_RELEASE_LIST_MISSING);
         Objects.requireNonNull(image, MESSAGE_IMAGE_MISSING);
         Objects.requireNonNull(token, MESSAGE_TOKEN_MISSING);
-        if (getScope().isEmpty() || denyScope("addproof")) {
-            throw new XrelException("addproof scope not provided");
-        }
+        requireScope(Scope.ADDPROOF);
         final Set<String> ids = new HashSet<>();
         for (Release release : releaseList) {
             ids.add(release.getId());
@@ -1048,6 +1348,31 @@ public class Xrel {
         return getP2pReleasesPrivate(perPage, page, p2pCategory, p2pGroup, extInfo);
     }
     
+    /**
+     * Streams P2P/non-scene releases, handing every {@link P2pRelease} to the given consumer as soon
+     * as it is parsed.
+     *
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param p2pCategory Optional P2P category ID from {@link #getP2pCategories()} or {@code null}
+     * @param p2pGroup Optional P2P release group or {@code null}
+     * @param extInfo Optional ExtInfo or {@code null}
+     * @param consumer Consumer for every {@link P2pRelease} of the page
+     *
+     * @return The {@link PaginationList} with total count and pagination, but an empty list
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/3699/api-p2p-releases.html">API: p2p/releases</a>
+     */
+    public PaginationList<P2pRelease> streamP2pReleases(int perPage, int page, P2pCategory p2pCategory, P2pGroup p2pGroup, ExtInfo extInfo, Consumer<? super P2pRelease> consumer) {
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        final String categoryId = p2pCategory == null ? null : p2pCategory.getId();
+        final String groupId = p2pGroup == null ? null : p2pGroup.id();
+        final String extInfoId = extInfo == null ? null : extInfo.getId();
+        return stream(restClient.getXrelService()
+                .p2pReleasesStream(normalizedPageValues[0], normalizedPageValues[1], categoryId, groupId, extInfoId), consumer);
+    }
+    
     /**
      * Returns a set of available P2P release categories and their IDs. You can use the category in
      * {@link #getP2pReleases(int, int, P2pCategory, P2pGroup, ExtInfo)}.
@@ -1130,6 +1455,64 @@ public class Xrel {
         return getP2pRlsInfo(id, true);
     }
     
+    /**
+     * Browse P2P/non-scene releases as immutable {@link P2pReleaseView}. Works like
+     * {@link #getP2pReleases(int, int, P2pCategory, P2pGroup, ExtInfo)}.
+     *
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     * @param p2pCategory Optional P2P category ID from {@link #getP2pCategories()} or {@code null}
+     * @param p2pGroup Optional P2P release group or {@code null}
+     * @param extInfo Optional ExtInfo or {@code null}
+     *
+     * @return The list of {@link P2pReleaseView} matching the criteria
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/3699/api-p2p-releases.html">API: p2p/releases</a>
+     */
+    public PaginationList<P2pReleaseView> viewP2pReleases(int perPage, int page, P2pCategory p2pCategory, P2pGroup p2pGroup, ExtInfoView extInfo) {
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        final String categoryId = p2pCategory == null ? null : p2pCategory.getId();
+        final String groupId = p2pGroup == null ? null : p2pGroup.id();
+        final String extInfoId = extInfo == null ? null : extInfo.id();
+        return execute(restClient.getXrelService()
+                .p2pReleasesView(normalizedPageValues[0], normalizedPageValues[1], categoryId, groupId, extInfoId));
+    }
+    
+    /**
+     * Returns information about a single P2P/non-scene release as an immutable
+     * {@link P2pReleaseView}, specified by the complete dirname.
+     *
+     * @param dir The dirname
+     *
+     * @return The {@link P2pReleaseView}
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/3697/api-p2p-rls-info.html">API: p2p/rls_info</a>
+     */
+    public P2pReleaseView viewP2pRlsInfoDir(String dir) {
+        Objects.requireNonNull(dir, MESSAGE_DIR_MISSING);
+        
+        return execute(restClient.getXrelService().p2pRlsInfoView(null, dir));
+    }
+    
+    /**
+     * Returns information about a single P2P/non-scene release as an immutable
+     * {@link P2pReleaseView}, specified by the API P2P release id.
+     *
+     * @param id The API P2P release id
+     *
+     * @return The {@link P2pReleaseView}
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/3697/api-p2p-rls-info.html">API: p2p/rls_info</a>
+     */
+    public P2pReleaseView viewP2pRlsInfoId(String id) {
+        Objects.requireNonNull(id, MESSAGE_ID_MISSING);
+        
+        return execute(restClient.getXrelService().p2pRlsInfoView(id, null));
+    }
+    
     /**
      * Returns an image of a NFO file for a given API release.
      *
@@ -1144,9 +1527,7 @@ public class Xrel {
     public byte[] getNfoRelease(Release release, Token token) {
         Objects.requireNonNull(release, MESSAGE_RELEASE_MISSING);
         Objects.requireNonNull(token, MESSAGE_TOKEN_MISSING);
-        if (getScope().isEmpty() || denyScope("viewnfo")) {
-            throw new XrelException("viewnfo scope not provided");
-        }
+        requireScope(Scope.VIEWNFO);
         final Call<ResponseBody> call = restClient.getXrelService().nfoRelease(token.createBearerHeader(), release.getId());
         final byte[] nfo;
         try {
@@ -1172,9 +1553,7 @@ public class Xrel {
     public byte[] getNfoP2pRls(P2pRelease p2pRelease, Token token) {
         Objects.requireNonNull(p2pRelease, MESSAGE_P2P_RELEASE_MISSING);
         Objects.requireNonNull(token, MESSAGE_TOKEN_MISSING);
-        if (getScope().isEmpty() || denyScope("viewnfo")) {
-            throw new XrelException("viewnfo scope not provided");
-        }
+        requireScope(Scope.VIEWNFO);
         final Call<ResponseBody> call = restClient.getXrelService().nfoP2pRelease(token.createBearerHeader(), p2pRelease.getId());
         try {
             return Objects.requireNonNull(call.execute().body()).bytes();
@@ -1276,6 +1655,25 @@ public class Xrel {
         return getExtInfoInfoPrivate(extInfo, token);
     }
     
+    /**
+     * Returns information about an Ext Info as an immutable {@link ExtInfoView}.
+     *
+     * @param extInfo The {@link ExtInfoView} you want more info about.
+     * @param token The {@link Token} with all needed info or {@code null}. If set, the response
+     * includes the user's own rating.
+     *
+     * @return The new {@link ExtInfoView}.
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/2725/api-ext-info-info.html">API: ext_info/info
+     * method</a>
+     */
+    public ExtInfoView viewExtInfoInfo(ExtInfoView extInfo, Token token) {
+        Objects.requireNonNull(extInfo, MESSAGE_EXT_INFO_MISSING);
+        final String authorization = token == null ? null : token.createBearerHeader();
+        return execute(restClient.getXrelService().extInfoInfoView(authorization, extInfo.id()));
+    }
+    
     /**
      * Returns media associated with an Ext Info.
      *
@@ -1574,6 +1972,22 @@ public class Xrel {
         return response.body();
     }
     
+    /**
+     * Returns a list of all the current user's favorite lists as immutable {@link FavoriteView}.
+     *
+     * @param token The {@link Token} with all needed info.
+     *
+     * @return A list of all {@link FavoriteView}.
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/1754/api-favs-lists.html">API: favs/lists method</a>
+     */
+    public List<FavoriteView> viewFavsLists(Token token) {
+        Objects.requireNonNull(token, MESSAGE_TOKEN_MISSING);
+        
+        return execute(restClient.getXrelService().favsListsView(token.createBearerHeader()));
+    }
+    
     /**
      * Retrieves entries of a favorite list and adds the retrieved entries to the {@link Favorite}
      * object you provided.
@@ -1840,6 +2254,46 @@ public class Xrel {
         return getCommentsGet(null, p2pRelease, perPage, page);
     }
     
+    /**
+     * Returns comments for a given {@link ReleaseView} as immutable {@link CommentView}.
+     *
+     * @param release The corresponding {@link ReleaseView}.
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     *
+     * @return The {@link PaginationList} containing the {@link CommentView}.
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/6313/api-comments-get.html">API: comments/get
+     * method</a>
+     */
+    public PaginationList<CommentView> viewCommentsGet(ReleaseView release, int perPage, int page) {
+        Objects.requireNonNull(release, MESSAGE_RELEASE_MISSING);
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        return execute(restClient.getXrelService()
+                .commentsGetView(release.id(), RELEASE_TYPE_SCENE, normalizedPageValues[0], normalizedPageValues[1]));
+    }
+    
+    /**
+     * Returns comments for a given {@link P2pReleaseView} as immutable {@link CommentView}.
+     *
+     * @param p2pRelease The corresponding {@link P2pReleaseView}.
+     * @param perPage Number of releases per page. Min. 5, max. 100.
+     * @param page Page number (1 to N).
+     *
+     * @return The {@link PaginationList} containing the {@link CommentView}.
+     *
+     * @throws XrelException If there is an error returned by the xREL API
+     * @see <a href= "https://www.xrel.to/wiki/6313/api-comments-get.html">API: comments/get
+     * method</a>
+     */
+    public PaginationList<CommentView> viewCommentsGet(P2pReleaseView p2pRelease, int perPage, int page) {
+        Objects.requireNonNull(p2pRelease, MESSAGE_P2P_RELEASE_MISSING);
+        final int[] normalizedPageValues = normalizePageValues(perPage, page);
+        return execute(restClient.getXrelService()
+                .commentsGetView(p2pRelease.id(), RELEASE_TYPE_P2P, normalizedPageValues[0], normalizedPageValues[1]));
+    }
+    
     /**
      * Add a comment to a given {@link Release} or {@link P2pRelease}. The text may contain BBCode.
      * Supplying either a text, a rating (both audio and video) or both is mandatory.
@@ -2114,18 +2568,14 @@ public class Xrel {
         checkOauth2TokenParameter(grantType, code, token, grantsRefreshToken);
         String refreshToken = null;
         String redirectUriString = null;
-        String scopeString = null;
         if (grantsRefreshToken) {
             refreshToken = token.getRefreshToken();
         }
         if (!grantsRefreshToken && getRedirectUri().isPresent()) {
             redirectUriString = getRedirectUri().get();
         }
-        if (getScope().isPresent() && getScope().get().length > 0) {
-            scopeString = String.join(" ", getScope().get());
-        }
         final Call<Token> call = restClient.getXrelService()
-                .oauth2Token(grantType, getClientId().get(), getClientSecret().get(), code, redirectUriString, refreshToken, scopeString);
+                .oauth2Token(grantType, getClientId().get(), getClientSecret().get(), code, redirectUriString, refreshToken, scopeParameter);
         final Response<Token> response;
         try {
             response = call.execute();
@@ -29,6 +29,11 @@ import com.github.saftsau.xrel4j.release.p2p.P2pCategory;
 import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
 import com.github.saftsau.xrel4j.release.scene.Release;
 import com.github.saftsau.xrel4j.release.scene.ReleaseAddProof;
+import com.github.saftsau.xrel4j.view.CommentView;
+import com.github.saftsau.xrel4j.view.ExtInfoView;
+import com.github.saftsau.xrel4j.view.FavoriteView;
+import com.github.saftsau.xrel4j.view.P2pReleaseView;
+import com.github.saftsau.xrel4j.view.ReleaseView;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.*;
@@ -44,18 +49,39 @@ public interface XrelService {
     @GET("release/info" + Xrel.FORMAT)
     Call<Release> releaseInfo(@Query(value = "id") String id, @Query(value = "dirname") String dirname);
     
+    @GET("release/info" + Xrel.FORMAT)
+    Call<ReleaseView> releaseInfoView(@Query(value = "id") String id, @Query(value = "dirname") String dirname);
+    
     @GET("release/latest" + Xrel.FORMAT)
     Call<PaginationList<Release>> releaseLatest(@Header(Xrel.AUTHORIZATION_HEADER) String bearerToken, @Query(value = "per_page") int perPage, @Query(value = "page") int page, @Query(value = "archive") String archive, @Query(value = "filter") String filter);
     
+    @GET("release/latest" + Xrel.FORMAT)
+    Call<PaginationStream<Release>> releaseLatestStream(@Header(Xrel.AUTHORIZATION_HEADER) String bearerToken, @Query(value = "per_page") int perPage, @Query(value = "page") int page, @Query(value = "archive") String archive, @Query(value = "filter") String filter);
+    
+    @GET("release/latest" + Xrel.FORMAT)
+    Call<PaginationList<ReleaseView>> releaseLatestView(@Header(Xrel.AUTHORIZATION_HEADER) String bearerToken, @Query(value = "per_page") int perPage, @Query(value = "page") int page, @Query(value = "archive") String archive, @Query(value = "filter") String filter);
+    
     @GET("release/categories" + Xrel.FORMAT)
     Call<Set<ReleaseCategory>> releaseCategories();
     
     @GET("release/browse_category" + Xrel.FORMAT)
     Call<PaginationList<Release>> releaseBrowseCategory(@Query(value = "category_name") String categoryName, @Query(value = "ext_info_type") String extInfoType, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
     
+    @GET("release/browse_category" + Xrel.FORMAT)
+    Call<PaginationStream<Release>> releaseBrowseCategoryStream(@Query(value = "category_name") String categoryName, @Query(value = "ext_info_type") String extInfoType, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
+    
+    @GET("release/browse_category" + Xrel.FORMAT)
+    Call<PaginationList<ReleaseView>> releaseBrowseCategoryView(@Query(value = "category_name") String categoryName, @Query(value = "ext_info_type") String extInfoType, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
+    
     @GET("release/ext_info" + Xrel.FORMAT)
     Call<PaginationList<Release>> releaseExtInfo(@Query(value = "id") String id, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
     
+    @GET("release/ext_info" + Xrel.FORMAT)
+    Call<PaginationStream<Release>> releaseExtInfoStream(@Query(value = "id") String id, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
+    
+    @GET("release/ext_info" + Xrel.FORMAT)
+    Call<PaginationList<ReleaseView>> releaseExtInfoView(@Query(value = "id") String id, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
+    
     @GET("release/filters" + Xrel.FORMAT)
     Call<Set<Filter>> releaseFilters();
     
@@ -66,12 +92,21 @@ public interface XrelService {
     @GET("p2p/releases" + Xrel.FORMAT)
     Call<PaginationList<P2pRelease>> p2pReleases(@Query(value = "per_page") int perPage, @Query(value = "page") int page, @Query(value = "category_id") String categoryId, @Query(value = "group_id") String groupId, @Query(value = "ext_info_id") String extInfoId);
     
+    @GET("p2p/releases" + Xrel.FORMAT)
+    Call<PaginationStream<P2pRelease>> p2pReleasesStream(@Query(value = "per_page") int perPage, @Query(value = "page") int page, @Query(value = "category_id") String categoryId, @Query(value = "group_id") String groupId, @Query(value = "ext_info_id") String extInfoId);
+    
+    @GET("p2p/releases" + Xrel.FORMAT)
+    Call<PaginationList<P2pReleaseView>> p2pReleasesView(@Query(value = "per_page") int perPage, @Query(value = "page") int page, @Query(value = "category_id") String categoryId, @Query(value = "group_id") String groupId, @Query(value = "ext_info_id") String extInfoId);
+    
     @GET("p2p/categories" + Xrel.FORMAT)
     Call<Set<P2pCategory>> p2pCategories();
     
     @GET("p2p/rls_info" + Xrel.FORMAT)
     Call<P2pRelease> p2pRlsInfo(@Query(value = "id") String id, @Query(value = "dirname") String dirname);
     
+    @GET("p2p/rls_info" + Xrel.FORMAT)
+    Call<P2pReleaseView> p2pRlsInfoView(@Query(value = "id") String id, @Query(value = "dirname") String dirname);
+    
     @GET("nfo/release" + Xrel.FORMAT)
     Call<ResponseBody> nfoRelease(@Header("Authorization") String authorization, @Query(value = "id") String id);
     
@@ -84,6 +119,9 @@ public interface XrelService {
     @GET("ext_info/info" + Xrel.FORMAT)
     Call<ExtInfo> extInfoInfo(@Header("Authorization") String authorization, @Query(value = "id") String id);
     
+    @GET("ext_info/info" + Xrel.FORMAT)
+    Call<ExtInfoView> extInfoInfoView(@Header("Authorization") String authorization, @Query(value = "id") String id);
+    
     @GET("ext_info/media" + Xrel.FORMAT)
     Call<List<ExtInfoMedia>> extInfoMedia(@Query(value = "id") String id);
     
@@ -100,6 +138,9 @@ public interface XrelService {
     @GET("favs/lists" + Xrel.FORMAT)
     Call<List<Favorite>> favsLists(@Header("Authorization") String authorization);
     
+    @GET("favs/lists" + Xrel.FORMAT)
+    Call<List<FavoriteView>> favsListsView(@Header("Authorization") String authorization);
+    
     @GET("favs/list_entries" + Xrel.FORMAT)
     Call<List<ExtInfo>> favsListEntries(@Header("Authorization") String authorization, @Query(value = "id") long id, @Query(value = "get_releases") boolean getReleases);
     
@@ -118,6 +159,9 @@ public interface XrelService {
     @GET("comments/get" + Xrel.FORMAT)
     Call<PaginationList<Comment>> commentsGet(@Query(value = "id") String id, @Query(value = "type") String type, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
     
+    @GET("comments/get" + Xrel.FORMAT)
+    Call<PaginationList<CommentView>> commentsGetView(@Query(value = "id") String id, @Query(value = "type") String type, @Query(value = "per_page") int perPage, @Query(value = "page") int page);
+    
     @FormUrlEncoded
     @POST("comments/add" + Xrel.FORMAT)
     Call<Comment> commentsAdd(@Header("Authorization") String authorization, @Field(value = "id") String id, @Field(value = "type") String type, @Field(value = "text") String text, @Field(value = "video_rating") Integer videoRating, @Field(value = "audio_rating") Integer audioRating);
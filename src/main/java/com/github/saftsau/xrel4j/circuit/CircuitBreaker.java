@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.circuit;
+
+import java.util.Objects;
+
+/**
+ * Circuit breaker around the xREL API as configured by a {@link CircuitBreakerPolicy}. Every request
+ * has to acquire a permit with {@link #tryAcquire()} and report its outcome with
+ * {@link #onSuccess(long, long)} or {@link #onFailure(long, long)}, which
+ * {@link CircuitBreakerInterceptor} does. A permit is only valid in the state it was acquired in,
+ * so the outcome of a request which was sent before the last state change is ignored. The outcomes
+ * are kept in a ring buffer, so recording never allocates. All methods are thread-safe.
+ */
+public final class CircuitBreaker {
+    
+    /**
+     * The state of a CircuitBreaker.
+     */
+    public enum State {
+        /**
+         * All requests are let through.
+         */
+        CLOSED,
+        /**
+         * All requests fail fast.
+         */
+        OPEN,
+        /**
+         * A limited number of probes is let through to check if the API recovered.
+         */
+        HALF_OPEN
+    }
+    
+    /**
+     * Returned by {@link #tryAcquire()} if the request has to fail fast.
+     */
+    public static final long NO_PERMIT = -1;
+    
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+    
+    private final CircuitBreakerPolicy policy;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final byte[] outcomes;
+    private State state = State.CLOSED;
+    private long generation;
+    private int index;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int probes;
+    private int successfulProbes;
+    
+    /**
+     * Creates a new closed CircuitBreaker.
+     *
+     * @param policy The {@link CircuitBreakerPolicy}
+     */
+    public CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = Objects.requireNonNull(policy, "policy missing");
+        this.slowCallNanos = policy.getSlowCallDuration().toNanos();
+        this.openNanos = policy.getOpenDuration().toNanos();
+        this.outcomes = new byte[policy.getWindowSize()];
+    }
+    
+    /**
+     * Gets the {@link CircuitBreakerPolicy} of this breaker.
+     *
+     * @return The {@link CircuitBreakerPolicy}
+     */
+    public CircuitBreakerPolicy getPolicy() {
+        return policy;
+    }
+    
+    /**
+     * Gets the current {@link State}. An open breaker whose open duration passed is still reported
+     * as open until the next request.
+     *
+     * @return The {@link State}
+     */
+    public synchronized State getState() {
+        return state;
+    }
+    
+    /**
+     * Tries to acquire a permit for a request.
+     *
+     * @return The permit to pass to {@link #onSuccess(long, long)}, {@link #onFailure(long, long)} or
+     *         {@link #release(long)}, {@link #NO_PERMIT} if the request has to fail fast
+     */
+    @SuppressWarnings("fallthrough")
+    public synchronized long tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return generation;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return NO_PERMIT;
+                }
+                transition(State.HALF_OPEN);
+                probes = 0;
+                successfulProbes = 0;
+                // Fall through to the first probe
+            case HALF_OPEN:
+            default:
+                if (probes >= policy.getHalfOpenCalls()) {
+                    return NO_PERMIT;
+                }
+                probes++;
+                return generation;
+        }
+    }
+    
+    /**
+     * Records a successful request, which still counts as slow call if it took too long.
+     *
+     * @param permit The permit of the request
+     * @param latencyNanos The latency of the request in nanoseconds
+     */
+    public synchronized void onSuccess(long permit, long latencyNanos) {
+        record(permit, latencyNanos >= slowCallNanos ? SLOW : 0);
+    }
+    
+    /**
+     * Records a failed request.
+     *
+     * @param permit The permit of the request
+     * @param latencyNanos The latency of the request in nanoseconds
+     */
+    public synchronized void onFailure(long permit, long latencyNanos) {
+        record(permit, (byte) (FAILURE | (latencyNanos >= slowCallNanos ? SLOW : 0)));
+    }
+    
+    /**
+     * Releases a permit without recording an outcome, e.g. for a cancelled request.
+     *
+     * @param permit The permit of the request
+     */
+    public synchronized void release(long permit) {
+        if (permit == generation && state == State.HALF_OPEN && probes > successfulProbes) {
+            probes--;
+        }
+    }
+    
+    private void record(long permit, byte outcome) {
+        if (permit != generation) {
+            // Late outcome of a request sent before the last state change
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (outcome != 0) {
+                open();
+            } else if (++successfulProbes >= policy.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        final byte previous = outcomes[index];
+        if (calls == outcomes.length) {
+            failures -= previous & FAILURE;
+            slowCalls -= (previous & SLOW) >> 1;
+        } else {
+            calls++;
+        }
+        outcomes[index] = outcome;
+        index = (index + 1) % outcomes.length;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+        if (calls >= policy.getMinimumCalls() && (failures * 100.0 / calls >= policy.getFailureRateThreshold()
+                || slowCalls * 100.0 / calls >= policy.getSlowCallRateThreshold())) {
+            open();
+        }
+    }
+    
+    private void transition(State newState) {
+        state = newState;
+        generation++;
+    }
+    
+    private void open() {
+        transition(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+    
+    private void close() {
+        transition(State.CLOSED);
+        index = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreaker [getState()=" + state + ", calls=" + calls + ", failures=" + failures + ", slowCalls=" + slowCalls + "]";
+    }
+    
+}
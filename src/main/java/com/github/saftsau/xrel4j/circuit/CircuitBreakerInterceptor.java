@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.circuit;
+
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.metrics.MetricsInterceptor;
+import com.github.saftsau.xrel4j.metrics.XrelMetrics;
+import com.github.saftsau.xrel4j.retry.RetryPolicy;
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link Interceptor} guarding all requests with a {@link CircuitBreaker}. It has to be the first
+ * interceptor, so a request is rejected before any other work is done and the breaker sees the
+ * outcome after all retries. Failures are the errors {@link RetryPolicy#classify(Throwable)}
+ * considers transient, i.e. I/O errors and 5xx responses. Errors returned by the xREL API prove
+ * that it is available and count as success, cancelled requests are not counted at all.
+ * <p>
+ * While the breaker is open, GET requests are answered from the HTTP cache of the client if the
+ * {@link CircuitBreakerPolicy} allows it. Only cached successful responses are used: the xREL API
+ * returns errors with status 200, so they are cached as well, but are never replayed. All other
+ * requests fail with a {@link CircuitBreakerOpenException}, which is reported to the
+ * {@link XrelMetrics}.
+ */
+public final class CircuitBreakerInterceptor implements Interceptor {
+    
+    private final CircuitBreaker circuitBreaker;
+    private final XrelMetrics metrics;
+    private final BooleanSupplier cacheEnabled;
+    
+    /**
+     * Creates a new CircuitBreakerInterceptor.
+     *
+     * @param circuitBreaker The {@link CircuitBreaker}
+     * @param metrics The {@link XrelMetrics} to report rejected requests to
+     * @param cacheEnabled Supplies if the {@link okhttp3.OkHttpClient} has a cache
+     */
+    public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker, XrelMetrics metrics, BooleanSupplier cacheEnabled) {
+        this.circuitBreaker = Objects.requireNonNull(circuitBreaker, "circuitBreaker missing");
+        this.metrics = Objects.requireNonNull(metrics, "metrics missing");
+        this.cacheEnabled = Objects.requireNonNull(cacheEnabled, "cacheEnabled missing");
+    }
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.NO_PERMIT) {
+            return fallback(chain, request);
+        }
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            if (chain.call().isCanceled()) {
+                circuitBreaker.release(permit);
+            } else if (isFailure(e)) {
+                circuitBreaker.onFailure(permit, System.nanoTime() - start);
+            } else {
+                circuitBreaker.onSuccess(permit, System.nanoTime() - start);
+            }
+            throw e;
+        }
+        circuitBreaker.onSuccess(permit, System.nanoTime() - start);
+        return response;
+    }
+    
+    /**
+     * Checks if the given error counts as failure of the xREL API.
+     *
+     * @param throwable The error
+     *
+     * @return {@code true} if it is an I/O error or a 5xx response
+     */
+    public static boolean isFailure(Throwable throwable) {
+        return RetryPolicy.defaults().classify(throwable) == RetryPolicy.Decision.RETRY;
+    }
+    
+    private Response fallback(Chain chain, Request request) throws IOException {
+        if (circuitBreaker.getPolicy().isFallbackToCache() && "GET".equals(request.method()) && cacheEnabled.getAsBoolean()) {
+            try {
+                return chain.proceed(request.newBuilder().cacheControl(CacheControl.FORCE_CACHE).build());
+            } catch (XrelException e) {
+                // Nothing cached or a cached error, which must not hide that the breaker is open
+            }
+        }
+        final CircuitBreakerOpenException exception = new CircuitBreakerOpenException("Circuit breaker open, " + request.method() + " "
+                + request.url().encodedPath() + " rejected");
+        metrics.recordError(MetricsInterceptor.endpoint(request), 0, exception);
+        throw exception;
+    }
+    
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.circuit;
+
+import java.io.IOException;
+
+/**
+ * Thrown for requests failing fast, because the {@link CircuitBreaker} is open and no cached
+ * response is available.
+ */
+public class CircuitBreakerOpenException extends IOException {
+    
+    private static final long serialVersionUID = 4034517356915470526L;
+    
+    /**
+     * Constructs a CircuitBreakerOpenException with the given message.
+     *
+     * @param message The error message
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+    
+}
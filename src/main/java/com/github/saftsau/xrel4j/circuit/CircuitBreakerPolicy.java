@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.circuit;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Immutable configuration of a {@link CircuitBreaker}. Use {@link #builder()} to create one or
+ * {@link #defaults()} for sensible defaults.
+ * <p>
+ * The breaker records the outcome of the last {@link #getWindowSize()} requests. Once at least
+ * {@link #getMinimumCalls()} were recorded and the share of failed requests reaches
+ * {@link #getFailureRateThreshold()} or the share of requests slower than
+ * {@link #getSlowCallDuration()} reaches {@link #getSlowCallRateThreshold()}, it opens. While open,
+ * requests fail fast or are served from the HTTP cache if {@link #isFallbackToCache()}. After
+ * {@link #getOpenDuration()} it lets {@link #getHalfOpenCalls()} probes through and closes again
+ * if all of them succeed.
+ */
+public final class CircuitBreakerPolicy {
+    
+    private static final CircuitBreakerPolicy DEFAULTS = builder().build();
+    
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final boolean fallbackToCache;
+    
+    private CircuitBreakerPolicy(Builder builder) {
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.openDuration = builder.openDuration;
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.fallbackToCache = builder.fallbackToCache;
+    }
+    
+    /**
+     * Gets a CircuitBreakerPolicy with the defaults of {@link Builder}.
+     *
+     * @return The default CircuitBreakerPolicy
+     */
+    public static CircuitBreakerPolicy defaults() {
+        return DEFAULTS;
+    }
+    
+    /**
+     * Creates a new {@link Builder} initialized with the defaults.
+     *
+     * @return The new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Gets the number of recent requests the rates are computed of.
+     *
+     * @return The window size
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+    
+    /**
+     * Gets the number of requests to record before the breaker can open.
+     *
+     * @return The minimum number of calls
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+    
+    /**
+     * Gets the share of failed requests in percent opening the breaker.
+     *
+     * @return The failure rate threshold
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+    
+    /**
+     * Gets the share of slow requests in percent opening the breaker.
+     *
+     * @return The slow call rate threshold
+     */
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+    
+    /**
+     * Gets the time after which a request counts as slow.
+     *
+     * @return The slow call duration
+     */
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+    
+    /**
+     * Gets the time the breaker stays open before probing.
+     *
+     * @return The open duration
+     */
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+    
+    /**
+     * Gets the number of probes let through while half-open.
+     *
+     * @return The number of half-open calls
+     */
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+    
+    /**
+     * Checks if requests are served from the HTTP cache of the client while the breaker is open.
+     *
+     * @return {@code true} if the cache is used as fallback
+     */
+    public boolean isFallbackToCache() {
+        return fallbackToCache;
+    }
+    
+    @Override
+    public String toString() {
+        return "CircuitBreakerPolicy [getWindowSize()=" + getWindowSize() + ", getMinimumCalls()=" + getMinimumCalls() + ", getFailureRateThreshold()="
+                + getFailureRateThreshold() + ", getSlowCallRateThreshold()=" + getSlowCallRateThreshold() + ", getSlowCallDuration()="
+                + getSlowCallDuration() + ", getOpenDuration()=" + getOpenDuration() + ", getHalfOpenCalls()=" + getHalfOpenCalls()
+                + ", isFallbackToCache()=" + isFallbackToCache() + "]";
+    }
+    
+    /**
+     * Builder of a {@link CircuitBreakerPolicy}.
+     */
+    public static final class Builder {
+        
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 50;
+        private double slowCallRateThreshold = 50;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+        private boolean fallbackToCache = true;
+        
+        private Builder() {
+        }
+        
+        /**
+         * Sets the number of recent requests the rates are computed of. Default is 20.
+         *
+         * @param windowSize The window size, at least 1
+         *
+         * @return This Builder
+         */
+        public Builder windowSize(int windowSize) {
+            this.windowSize = requirePositive(windowSize, "windowSize");
+            return this;
+        }
+        
+        /**
+         * Sets the number of requests to record before the breaker can open. Default is 10.
+         *
+         * @param minimumCalls The minimum number of calls, at least 1
+         *
+         * @return This Builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = requirePositive(minimumCalls, "minimumCalls");
+            return this;
+        }
+        
+        /**
+         * Sets the share of failed requests in percent opening the breaker. Failures are I/O errors
+         * and responses with status 5xx, but not errors returned by the xREL API. Default is 50.
+         *
+         * @param failureRateThreshold The failure rate threshold between 0 and 100
+         *
+         * @return This Builder
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = requirePercentage(failureRateThreshold, "failureRateThreshold");
+            return this;
+        }
+        
+        /**
+         * Sets the share of slow requests in percent opening the breaker. Default is 50.
+         *
+         * @param slowCallRateThreshold The slow call rate threshold between 0 and 100
+         *
+         * @return This Builder
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = requirePercentage(slowCallRateThreshold, "slowCallRateThreshold");
+            return this;
+        }
+        
+        /**
+         * Sets the time after which a request counts as slow. Default is 5 s.
+         *
+         * @param slowCallDuration The slow call duration
+         *
+         * @return This Builder
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = requireNonNegative(slowCallDuration, "slowCallDuration");
+            return this;
+        }
+        
+        /**
+         * Sets the time the breaker stays open before probing. Default is 30 s.
+         *
+         * @param openDuration The open duration
+         *
+         * @return This Builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = requireNonNegative(openDuration, "openDuration");
+            return this;
+        }
+        
+        /**
+         * Sets the number of probes let through while half-open. Default is 3.
+         *
+         * @param halfOpenCalls The number of half-open calls, at least 1
+         *
+         * @return This Builder
+         */
+        public Builder halfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = requirePositive(halfOpenCalls, "halfOpenCalls");
+            return this;
+        }
+        
+        /**
+         * Sets if requests are served from the HTTP cache of the client while the breaker is open.
+         * Only cached responses are used then, stale or not. Default is {@code true}.
+         *
+         * @param fallbackToCache {@code true} to use the cache as fallback
+         *
+         * @return This Builder
+         */
+        public Builder fallbackToCache(boolean fallbackToCache) {
+            this.fallbackToCache = fallbackToCache;
+            return this;
+        }
+        
+        /**
+         * Creates the {@link CircuitBreakerPolicy}.
+         *
+         * @return The new {@link CircuitBreakerPolicy}
+         */
+        public CircuitBreakerPolicy build() {
+            if (minimumCalls > windowSize) {
+                throw new IllegalArgumentException("minimumCalls must not exceed windowSize: " + minimumCalls + " > " + windowSize);
+            }
+            return new CircuitBreakerPolicy(this);
+        }
+        
+        private static int requirePositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be at least 1: " + value);
+            }
+            return value;
+        }
+        
+        private static double requirePercentage(double value, String name) {
+            if (!(value >= 0 && value <= 100)) {
+                throw new IllegalArgumentException(name + " must be between 0 and 100: " + value);
+            }
+            return value;
+        }
+        
+        private static Duration requireNonNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " missing");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative: " + duration);
+            }
+            return duration;
+        }
+        
+    }
+    
+}
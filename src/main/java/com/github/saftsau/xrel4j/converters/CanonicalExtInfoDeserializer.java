@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.converters;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.extinfo.ExtInfoCache;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+public class CanonicalExtInfoDeserializer extends StdDeserializer<ExtInfo> implements ResolvableDeserializer {
+    
+    private JsonDeserializer<Object> extInfoDeserializer;
+    
+    public CanonicalExtInfoDeserializer() {
+        super(ExtInfo.class);
+    }
+    
+    @Override
+    public void resolve(DeserializationContext deserializationContext) throws JsonMappingException {
+        extInfoDeserializer = deserializationContext.findRootValueDeserializer(deserializationContext.constructType(ExtInfo.class));
+    }
+    
+    @Override
+    public ExtInfo deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        final ExtInfoCache extInfoCache = ExtInfoCache.from(deserializationContext);
+        if (extInfoCache == null) {
+            return (ExtInfo) extInfoDeserializer.deserialize(parser, deserializationContext);
+        }
+        // The cache needs to know which fields were returned, so the object is read as a tree first
+        final JsonNode node = deserializationContext.readTree(parser);
+        final Set<String> fields = new HashSet<>();
+        node.fieldNames().forEachRemaining(fields::add);
+        final ExtInfo extInfo;
+        try (JsonParser nodeParser = node.traverse(parser.getCodec())) {
+            nodeParser.nextToken();
+            extInfo = (ExtInfo) extInfoDeserializer.deserialize(nodeParser, deserializationContext);
+        }
+        return extInfoCache.canonicalize(extInfo, fields, deserializationContext);
+    }
+    
+}
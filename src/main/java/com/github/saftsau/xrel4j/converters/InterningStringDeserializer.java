@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.converters;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.github.saftsau.xrel4j.StringPool;
+
+import java.io.IOException;
+
+public class InterningStringDeserializer extends StdScalarDeserializer<String> {
+    
+    public InterningStringDeserializer() {
+        super(String.class);
+    }
+    
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        final String value = StringDeserializer.instance.deserialize(parser, deserializationContext);
+        final StringPool stringPool = StringPool.from(deserializationContext);
+        if (stringPool == null) {
+            return value;
+        }
+        return stringPool.intern(value);
+    }
+    
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.converters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.saftsau.xrel4j.Pagination;
+import com.github.saftsau.xrel4j.PaginationStream;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.extinfo.ExtInfoCache;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+
+public final class PaginationStreamConverterFactory extends Converter.Factory {
+    
+    private final ObjectMapper objectMapper;
+    
+    private PaginationStreamConverterFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    public static PaginationStreamConverterFactory create(ObjectMapper objectMapper) {
+        return new PaginationStreamConverterFactory(objectMapper);
+    }
+    
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(type) != PaginationStream.class) {
+            return null;
+        }
+        if (!(type instanceof ParameterizedType)) {
+            throw new IllegalArgumentException("PaginationStream must be parameterized as PaginationStream<Foo>");
+        }
+        final Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+        final ObjectReader elementReader = objectMapper.readerFor(objectMapper.constructType(elementType));
+        final ObjectReader paginationReader = objectMapper.readerFor(Pagination.class);
+        return body -> {
+            ObjectReader pageReader = elementReader;
+            final Object extInfoCache = elementReader.getConfig().getAttributes().getAttribute(ExtInfoCache.class);
+            if (extInfoCache instanceof ExtInfoCache cache && cache.getMode() == ExtInfoCache.Mode.PAGE) {
+                // Share the page scoped identity map between all entries of this page
+                pageReader = elementReader.withAttribute(cache, new HashMap<String, ExtInfo>());
+            }
+            return new PaginationStream<>(pageReader.createParser(body.byteStream()), pageReader, paginationReader);
+        };
+    }
+    
+}
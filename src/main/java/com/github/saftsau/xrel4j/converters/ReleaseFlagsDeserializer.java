@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.converters;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlag;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlags;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ReleaseFlagsDeserializer extends StdDeserializer<ReleaseFlags> {
+    
+    public ReleaseFlagsDeserializer() {
+        super(ReleaseFlags.class);
+    }
+    
+    @Override
+    public ReleaseFlags deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            // PHP encodes empty objects as empty arrays
+            parser.skipChildren();
+            return ReleaseFlags.EMPTY;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        int bits = 0;
+        int present = 0;
+        Map<String, Boolean> unknownFlags = null;
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final String name = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+            final boolean value = switch (valueToken) {
+                case VALUE_TRUE -> true;
+                case VALUE_NUMBER_INT -> parser.getIntValue() != 0;
+                case VALUE_STRING -> "1".equals(parser.getText()) || "true".equalsIgnoreCase(parser.getText());
+                default -> {
+                    parser.skipChildren();
+                    yield false;
+                }
+            };
+            final ReleaseFlag flag = ReleaseFlag.fromValue(name);
+            if (flag == null) {
+                if (unknownFlags == null) {
+                    unknownFlags = new LinkedHashMap<>();
+                }
+                unknownFlags.put(name, value);
+                continue;
+            }
+            present |= flag.mask();
+            if (value) {
+                bits |= flag.mask();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            return (ReleaseFlags) deserializationContext.handleUnexpectedToken(ReleaseFlags.class, parser);
+        }
+        return ReleaseFlags.of(bits, present, unknownFlags);
+    }
+    
+    @Override
+    public ReleaseFlags getEmptyValue(DeserializationContext deserializationContext) {
+        return ReleaseFlags.EMPTY;
+    }
+    
+}
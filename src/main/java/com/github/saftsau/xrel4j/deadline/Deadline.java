@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.deadline;
+
+import retrofit2.Call;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Time budget of an operation consisting of several requests, e.g. a pagination crawl or
+ * {@link com.github.saftsau.xrel4j.Xrel#getExtInfoInfo(com.github.saftsau.xrel4j.extinfo.ExtInfo)}
+ * followed by {@link com.github.saftsau.xrel4j.Xrel#getExtInfoMedia(com.github.saftsau.xrel4j.extinfo.ExtInfo)}. While a Deadline is entered on a
+ * thread, every request made on it by a {@link com.github.saftsau.xrel4j.RestClient} is bounded by
+ * the remaining budget: it fails with a {@link DeadlineExceededException} if the budget is used
+ * up before it is sent, and it is cancelled once the budget runs out while it is in flight. Retries
+ * and hedges don't extend the budget.
+ * <p>
+ * A Deadline created while another one is entered never ends after the outer one.
+ *
+ * <pre>
+ * try (Deadline.Scope scope = Deadline.after(Duration.ofSeconds(2)).enter()) {
+ *     final ExtInfo info = xrel.getExtInfoInfo(extInfo);
+ *     xrel.getExtInfoMedia(info);
+ * }
+ * </pre>
+ */
+public final class Deadline {
+    
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    
+    private final long nanoTime;
+    private final Set<Call<?>> calls = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+    
+    private Deadline(long nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+    
+    /**
+     * Creates a Deadline ending after the given budget, or with the current Deadline if that ends
+     * earlier.
+     *
+     * @param budget The time budget
+     *
+     * @return The new Deadline
+     */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget, "budget missing");
+        final long nanoTime = System.nanoTime() + budget.toNanos();
+        final Deadline current = CURRENT.get();
+        return new Deadline(current != null && current.nanoTime - nanoTime < 0 ? current.nanoTime : nanoTime);
+    }
+    
+    /**
+     * Gets the Deadline entered on the current thread.
+     *
+     * @return The current Deadline or {@code null} if there is none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Enters this Deadline on the current thread until the returned {@link Scope} is closed.
+     *
+     * @return The {@link Scope} to close
+     */
+    public Scope enter() {
+        final Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+    
+    /**
+     * Runs the given operation with this Deadline entered.
+     *
+     * @param <T> The type of the result
+     * @param operation The operation to run
+     *
+     * @return The result of the operation
+     */
+    public <T> T run(Supplier<T> operation) {
+        final Scope scope = enter();
+        try {
+            return operation.get();
+        } finally {
+            scope.close();
+        }
+    }
+    
+    /**
+     * Gets the end of this Deadline as {@link System#nanoTime()}.
+     *
+     * @return The end in nanoseconds
+     */
+    public long nanoTime() {
+        return nanoTime;
+    }
+    
+    /**
+     * Gets the remaining budget.
+     *
+     * @return The remaining budget in nanoseconds, at least {@code 0}
+     */
+    public long remainingNanos() {
+        return cancelled ? 0 : Math.max(0, nanoTime - System.nanoTime());
+    }
+    
+    /**
+     * Checks if this Deadline was reached or cancelled.
+     *
+     * @return {@code true} if no budget remains
+     */
+    public boolean isExpired() {
+        return remainingNanos() == 0;
+    }
+    
+    /**
+     * Cancels this Deadline and all requests made within it which are still in flight.
+     */
+    public void cancel() {
+        cancelled = true;
+        calls.forEach(Call::cancel);
+    }
+    
+    void register(Call<?> call) {
+        calls.add(call);
+        if (cancelled) {
+            call.cancel();
+        }
+    }
+    
+    void unregister(Call<?> call) {
+        calls.remove(call);
+    }
+    
+    @Override
+    public String toString() {
+        return "Deadline [remainingNanos()=" + remainingNanos() + "]";
+    }
+    
+    /**
+     * The scope of an entered {@link Deadline}. Closing it restores the previous Deadline of the
+     * thread.
+     */
+    public static final class Scope implements AutoCloseable {
+        
+        private final Deadline previous;
+        
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+        
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        
+    }
+    
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.deadline;
+
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+
+/**
+ * {@link Call} bounded by the {@link Deadline} of the executing thread. The deadline is set on the
+ * {@link Timeout} of the delegate, so OkHttp cancels the request once it is reached.
+ *
+ * @param <T> The type of the response body
+ */
+final class DeadlineCall<T> implements Call<T> {
+    
+    private final Call<T> delegate;
+    
+    DeadlineCall(Call<T> delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public Response<T> execute() throws IOException {
+        final Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return delegate.execute();
+        }
+        if (deadline.isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded before " + delegate.request().url().encodedPath());
+        }
+        final Timeout timeout = delegate.timeout();
+        if (!timeout.hasDeadline() || timeout.deadlineNanoTime() - deadline.nanoTime() > 0) {
+            timeout.deadlineNanoTime(deadline.nanoTime());
+        }
+        deadline.register(this);
+        try {
+            return delegate.execute();
+        } catch (IOException e) {
+            if (!deadline.isExpired()) {
+                throw e;
+            }
+            final DeadlineExceededException exceeded = new DeadlineExceededException("Deadline exceeded during "
+                    + delegate.request().url().encodedPath());
+            exceeded.initCause(e);
+            throw exceeded;
+        } finally {
+            deadline.unregister(this);
+        }
+    }
+    
+    @Override
+    public void enqueue(Callback<T> callback) {
+        delegate.enqueue(callback);
+    }
+    
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+    
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+    
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+    
+    @Override
+    public Call<T> clone() {
+        return new DeadlineCall<>(delegate.clone());
+    }
+    
+    @Override
+    public Request request() {
+        return delegate.request();
+    }
+    
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+    
+}
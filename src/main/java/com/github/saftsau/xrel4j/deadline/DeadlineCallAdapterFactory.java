@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.deadline;
+
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * {@link CallAdapter.Factory} binding the {@link Call}s of the
+ * {@link com.github.saftsau.xrel4j.XrelService} to the {@link Deadline} of the executing thread.
+ * It wraps the {@link Call} of the next {@link CallAdapter}, so it has to be added before all
+ * other factories. Without a {@link Deadline}, calls are executed as they are.
+ */
+public final class DeadlineCallAdapterFactory extends CallAdapter.Factory {
+    
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Call.class) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        final CallAdapter<Object, Call<Object>> next = (CallAdapter<Object, Call<Object>>) retrofit.nextCallAdapter(this, returnType, annotations);
+        return new CallAdapter<Object, Call<Object>>() {
+            
+            @Override
+            public Type responseType() {
+                return next.responseType();
+            }
+            
+            @Override
+            public Call<Object> adapt(Call<Object> call) {
+                return new DeadlineCall<>(next.adapt(call));
+            }
+            
+        };
+    }
+    
+}
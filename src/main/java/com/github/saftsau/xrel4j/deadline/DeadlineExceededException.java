@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.deadline;
+
+import java.io.InterruptedIOException;
+
+/**
+ * Thrown for requests which were not sent or were cancelled, because the budget of their
+ * {@link Deadline} was used up.
+ */
+public class DeadlineExceededException extends InterruptedIOException {
+    
+    private static final long serialVersionUID = -2305969004418322563L;
+    
+    /**
+     * Constructs a DeadlineExceededException with the given message.
+     *
+     * @param message The error message
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+    
+}
@@ -18,6 +18,8 @@
 package com.github.saftsau.xrel4j.extinfo;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
 import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
 import com.github.saftsau.xrel4j.release.scene.Release;
 
@@ -30,6 +32,7 @@ import java.util.List;
  */
 public class ExtInfo implements Serializable {
 
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String type;
   private String id;
   private String title;
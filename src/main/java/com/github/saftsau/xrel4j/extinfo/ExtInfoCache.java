@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.extinfo;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.converters.CanonicalExtInfoDeserializer;
+import com.github.saftsau.xrel4j.release.ReleaseBase;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identity map used to canonicalize {@link ExtInfo} objects by their API ID while deserializing
+ * {@link ReleaseBase#getExtInfo()}. Once installed on the {@link ObjectMapper} of a
+ * {@link com.github.saftsau.xrel4j.RestClient}, all releases referencing the same {@link ExtInfo}
+ * share one instance, so its data is stored once and enrichment like
+ * {@link com.github.saftsau.xrel4j.Xrel#getExtInfoMedia(ExtInfo)} applies to all of them at once.
+ * <p>
+ * The first deserialized {@link ExtInfo} with a given ID becomes the canonical instance. Each later
+ * {@link ExtInfo} with this ID is merged into it: only the fields present in its JSON replace those
+ * of the canonical instance, so enrichment and ratings returned by other endpoints aren't lost and
+ * the canonical instance reflects the latest response. Shared instances are mutable, so
+ * callers enriching them from multiple threads have to synchronize on the instance.
+ */
+public final class ExtInfoCache {
+    
+    /**
+     * Defines how long canonical {@link ExtInfo} instances are kept.
+     */
+    public enum Mode {
+        /**
+         * Canonicalizes within a single response (e.g. one page of releases).
+         */
+        PAGE,
+        /**
+         * Canonicalizes across all responses until {@link #clear()} is called (e.g. one crawl).
+         */
+        SHARED,
+        /**
+         * Canonicalizes across all responses as long as the canonical instance is still referenced.
+         */
+        WEAK
+    }
+    
+    private static final String FIELD_RATING = "rating";
+    private static final String FIELD_NUM_RATINGS = "num_ratings";
+    private static final String FIELD_OWN_RATING = "own_rating";
+    
+    private final Mode mode;
+    private final ConcurrentHashMap<String, ExtInfo> strongMap;
+    private final ConcurrentHashMap<String, KeyedReference> weakMap;
+    private final ReferenceQueue<ExtInfo> referenceQueue;
+    
+    private ExtInfoCache(Mode mode) {
+        this.mode = mode;
+        this.strongMap = mode == Mode.SHARED ? new ConcurrentHashMap<>() : null;
+        this.weakMap = mode == Mode.WEAK ? new ConcurrentHashMap<>() : null;
+        this.referenceQueue = mode == Mode.WEAK ? new ReferenceQueue<>() : null;
+    }
+    
+    /**
+     * Creates an ExtInfoCache canonicalizing within a single response.
+     *
+     * @return The new ExtInfoCache
+     */
+    public static ExtInfoCache perPage() {
+        return new ExtInfoCache(Mode.PAGE);
+    }
+    
+    /**
+     * Creates an ExtInfoCache canonicalizing across all responses until it is cleared.
+     *
+     * @return The new ExtInfoCache
+     */
+    public static ExtInfoCache shared() {
+        return new ExtInfoCache(Mode.SHARED);
+    }
+    
+    /**
+     * Creates an ExtInfoCache canonicalizing across all responses, holding the canonical instances
+     * only weakly.
+     *
+     * @return The new ExtInfoCache
+     */
+    public static ExtInfoCache weak() {
+        return new ExtInfoCache(Mode.WEAK);
+    }
+    
+    /**
+     * Gets the ExtInfoCache installed on the {@link ObjectMapper} the given context belongs to.
+     *
+     * @param deserializationContext The current {@link DeserializationContext}
+     *
+     * @return The ExtInfoCache or {@code null} if none is installed
+     */
+    public static ExtInfoCache from(DeserializationContext deserializationContext) {
+        return (ExtInfoCache) deserializationContext.getAttribute(ExtInfoCache.class);
+    }
+    
+    /**
+     * Installs this ExtInfoCache on the given {@link ObjectMapper}, so it is used by all fields
+     * annotated with {@link CanonicalExtInfoDeserializer}. Other default attributes of the
+     * {@link ObjectMapper} are kept.
+     *
+     * @param objectMapper The {@link ObjectMapper} to install this ExtInfoCache on
+     */
+    public void install(ObjectMapper objectMapper) {
+        objectMapper.setDefaultAttributes(objectMapper.getDeserializationConfig().getAttributes().withSharedAttribute(ExtInfoCache.class, this));
+    }
+    
+    /**
+     * Returns the canonical instance for the given {@link ExtInfo} while it is being deserialized.
+     *
+     * @param extInfo The freshly deserialized {@link ExtInfo}
+     * @param fields The names of the JSON properties the {@link ExtInfo} was deserialized from
+     * @param deserializationContext The current {@link DeserializationContext}
+     *
+     * @return The canonical instance
+     */
+    public ExtInfo canonicalize(ExtInfo extInfo, Set<String> fields, DeserializationContext deserializationContext) {
+        Objects.requireNonNull(fields, "fields missing");
+        if (mode != Mode.PAGE) {
+            return canonicalize(extInfo, fields);
+        }
+        if (extInfo == null || extInfo.getId() == null) {
+            return extInfo;
+        }
+        @SuppressWarnings("unchecked") Map<String, ExtInfo> pageMap = (Map<String, ExtInfo>) deserializationContext.getAttribute(this);
+        if (pageMap == null) {
+            pageMap = new HashMap<>();
+            deserializationContext.setAttribute(this, pageMap);
+        }
+        final ExtInfo canonical = pageMap.putIfAbsent(extInfo.getId(), extInfo);
+        return canonical == null ? extInfo : merge(canonical, extInfo, fields);
+    }
+    
+    /**
+     * Returns the canonical instance for the given {@link ExtInfo}. If there is none yet, the given
+     * {@link ExtInfo} becomes the canonical instance, otherwise it is merged into the canonical
+     * instance. As there is no JSON, its rating, number of ratings and own rating always replace
+     * those of the canonical instance. In {@link Mode#PAGE} the given {@link ExtInfo} is returned as
+     * is.
+     *
+     * @param extInfo The {@link ExtInfo} to canonicalize, can be {@code null}
+     *
+     * @return The canonical instance
+     */
+    public ExtInfo canonicalize(ExtInfo extInfo) {
+        return canonicalize(extInfo, null);
+    }
+    
+    private ExtInfo canonicalize(ExtInfo extInfo, Set<String> fields) {
+        if (extInfo == null || extInfo.getId() == null) {
+            return extInfo;
+        }
+        switch (mode) {
+            case SHARED -> {
+                final ExtInfo canonical = strongMap.putIfAbsent(extInfo.getId(), extInfo);
+                return canonical == null ? extInfo : merge(canonical, extInfo, fields);
+            }
+            case WEAK -> {
+                expungeStaleReferences();
+                final String id = extInfo.getId();
+                final KeyedReference reference = new KeyedReference(id, extInfo, referenceQueue);
+                while (true) {
+                    final KeyedReference existing = weakMap.putIfAbsent(id, reference);
+                    if (existing == null) {
+                        return extInfo;
+                    }
+                    final ExtInfo canonical = existing.get();
+                    if (canonical != null) {
+                        return merge(canonical, extInfo, fields);
+                    }
+                    if (weakMap.replace(id, existing, reference)) {
+                        return extInfo;
+                    }
+                }
+            }
+            default -> {
+                return extInfo;
+            }
+        }
+    }
+    
+    /**
+     * Gets the canonical {@link ExtInfo} with the given API ID. Always {@code null} in
+     * {@link Mode#PAGE}.
+     *
+     * @param id The API ID of the {@link ExtInfo}
+     *
+     * @return The canonical {@link ExtInfo} or {@code null} if there is none
+     */
+    public ExtInfo get(String id) {
+        return switch (mode) {
+            case SHARED -> strongMap.get(id);
+            case WEAK -> {
+                final KeyedReference reference = weakMap.get(id);
+                yield reference == null ? null : reference.get();
+            }
+            default -> null;
+        };
+    }
+    
+    /**
+     * Gets the number of canonical {@link ExtInfo} instances currently held. Always {@code 0} in
+     * {@link Mode#PAGE}.
+     *
+     * @return The number of held instances
+     */
+    public int size() {
+        return switch (mode) {
+            case SHARED -> strongMap.size();
+            case WEAK -> {
+                expungeStaleReferences();
+                yield weakMap.size();
+            }
+            default -> 0;
+        };
+    }
+    
+    /**
+     * Removes all canonical {@link ExtInfo} instances. Already deserialized releases keep their
+     * references.
+     */
+    public void clear() {
+        if (strongMap != null) {
+            strongMap.clear();
+        }
+        if (weakMap != null) {
+            weakMap.clear();
+        }
+    }
+    
+    /**
+     * Gets the {@link Mode} of this ExtInfoCache.
+     *
+     * @return The mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+    
+    private static ExtInfo merge(ExtInfo canonical, ExtInfo extInfo, Set<String> fields) {
+        if (canonical == extInfo) {
+            return canonical;
+        }
+        synchronized (canonical) {
+            // Primitives can't tell a missing value from 0, so only present ones are taken
+            if (fields == null || fields.contains(FIELD_RATING)) {
+                canonical.setRating(extInfo.getRating());
+            }
+            if (fields == null || fields.contains(FIELD_NUM_RATINGS)) {
+                canonical.setNumRatings(extInfo.getNumRatings());
+            }
+            if (fields == null || fields.contains(FIELD_OWN_RATING)) {
+                canonical.setOwnRating(extInfo.getOwnRating());
+            }
+            if (extInfo.getType() != null) {
+                canonical.setType(extInfo.getType());
+            }
+            if (extInfo.getTitle() != null) {
+                canonical.setTitle(extInfo.getTitle());
+            }
+            if (extInfo.getLinkHref() != null) {
+                canonical.setLinkHref(extInfo.getLinkHref());
+            }
+            if (extInfo.getGenre() != null) {
+                canonical.setGenre(extInfo.getGenre());
+            }
+            if (extInfo.getAltTitle() != null) {
+                canonical.setAltTitle(extInfo.getAltTitle());
+            }
+            if (extInfo.getCoverUrl() != null) {
+                canonical.setCoverUrl(extInfo.getCoverUrl());
+            }
+            if (extInfo.getUris() != null) {
+                canonical.setUris(extInfo.getUris());
+            }
+            if (extInfo.getReleaseDates() != null) {
+                canonical.setReleaseDates(extInfo.getReleaseDates());
+            }
+            if (extInfo.getExternals() != null) {
+                canonical.setExternals(extInfo.getExternals());
+            }
+            if (extInfo.getExtInfoMedia() != null) {
+                canonical.setExtInfoMedia(extInfo.getExtInfoMedia());
+            }
+            if (extInfo.getReleases() != null) {
+                canonical.setReleases(extInfo.getReleases());
+            }
+            if (extInfo.getP2pReleases() != null) {
+                canonical.setP2pReleases(extInfo.getP2pReleases());
+            }
+        }
+        return canonical;
+    }
+    
+    /**
+     * Clears and enqueues the reference to the canonical instance with the given ID in
+     * {@link Mode#WEAK}, just like the garbage collector does once the instance is unreachable.
+     *
+     * @param id The API ID of the {@link ExtInfo}
+     *
+     * @return {@code true} if a reference was enqueued
+     */
+    boolean enqueue(String id) {
+        final KeyedReference reference = weakMap == null ? null : weakMap.get(id);
+        return reference != null && reference.enqueue();
+    }
+    
+    private void expungeStaleReferences() {
+        Reference<? extends ExtInfo> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            final KeyedReference keyedReference = (KeyedReference) reference;
+            weakMap.remove(keyedReference.id, keyedReference);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "ExtInfoCache [getMode()=" + getMode() + ", size()=" + size() + "]";
+    }
+    
+    private static final class KeyedReference extends WeakReference<ExtInfo> {
+        
+        private final String id;
+        
+        private KeyedReference(String id, ExtInfo extInfo, ReferenceQueue<ExtInfo> referenceQueue) {
+            super(extInfo, referenceQueue);
+            this.id = id;
+        }
+        
+    }
+    
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
 
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -30,6 +31,7 @@ import java.time.LocalDate;
  */
 public class ReleaseDate implements Serializable {
 
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String type;
   @JsonDeserialize(using = LocalDateDeserializer.class)  
   @JsonSerialize(using = LocalDateSerializer.class)  
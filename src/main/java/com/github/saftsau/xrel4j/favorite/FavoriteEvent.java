@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.favorite;
+
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.release.ReleaseBase;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Change of a {@link Favorite} list found by a {@link FavoriteSync}.
+ */
+public final class FavoriteEvent {
+    
+    /**
+     * The kind of a FavoriteEvent.
+     */
+    public enum Type {
+        /**
+         * An entry was added to the list.
+         */
+        ADDED,
+        /**
+         * An entry was removed from the list, or the list was deleted.
+         */
+        REMOVED,
+        /**
+         * An entry has unread releases which weren't unread before. Only reported if the sync
+         * fetches releases.
+         */
+        NEW_UNREAD
+    }
+    
+    private final Type type;
+    private final long favoriteId;
+    private final ExtInfo extInfo;
+    private final List<ReleaseBase> releases;
+    
+    FavoriteEvent(Type type, long favoriteId, ExtInfo extInfo, List<ReleaseBase> releases) {
+        this.type = Objects.requireNonNull(type, "type missing");
+        this.favoriteId = favoriteId;
+        this.extInfo = Objects.requireNonNull(extInfo, "extInfo missing");
+        this.releases = List.copyOf(releases);
+    }
+    
+    /**
+     * Gets the {@link Type} of this event.
+     *
+     * @return The {@link Type}
+     */
+    public Type getType() {
+        return type;
+    }
+    
+    /**
+     * Gets the API ID of the {@link Favorite} list.
+     *
+     * @return The ID
+     */
+    public long getFavoriteId() {
+        return favoriteId;
+    }
+    
+    /**
+     * Gets the entry this event is about.
+     *
+     * @return The {@link ExtInfo}
+     */
+    public ExtInfo getExtInfo() {
+        return extInfo;
+    }
+    
+    /**
+     * Gets the new unread releases of a {@link Type#NEW_UNREAD} event.
+     *
+     * @return The unmodifiable releases, empty for other types
+     */
+    public List<ReleaseBase> getReleases() {
+        return releases;
+    }
+    
+    @Override
+    public String toString() {
+        return "FavoriteEvent [getType()=" + getType() + ", getFavoriteId()=" + getFavoriteId() + ", getExtInfo()=" + getExtInfo().getId()
+                + ", getReleases()=" + getReleases().size() + "]";
+    }
+    
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.favorite;
+
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Immutable local state of a {@link Favorite} list as seen by the last {@link FavoriteSync}: its
+ * counters and entries. Snapshots are {@link Serializable}, so a sync can be resumed after a
+ * restart with {@link FavoriteSync#FavoriteSync(com.github.saftsau.xrel4j.Xrel, boolean, java.util.Collection)}.
+ */
+public final class FavoriteSnapshot implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final long favoriteId;
+    private final String name;
+    private final long entryCount;
+    private final long unreadReleases;
+    private final List<ExtInfo> entries;
+    
+    FavoriteSnapshot(Favorite favorite, List<ExtInfo> entries) {
+        this.favoriteId = favorite.getId();
+        this.name = favorite.getName();
+        this.entryCount = favorite.getEntryCount();
+        this.unreadReleases = favorite.getUnreadReleases();
+        this.entries = List.copyOf(entries);
+    }
+    
+    /**
+     * Gets the API ID of the {@link Favorite} list.
+     *
+     * @return The ID
+     */
+    public long getFavoriteId() {
+        return favoriteId;
+    }
+    
+    /**
+     * Gets the name of the {@link Favorite} list.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Gets the number of entries the list had.
+     *
+     * @return The number of entries
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+    
+    /**
+     * Gets the number of unread releases the list had.
+     *
+     * @return The number of unread releases
+     */
+    public long getUnreadReleases() {
+        return unreadReleases;
+    }
+    
+    /**
+     * Gets the entries the list had.
+     *
+     * @return The unmodifiable entries
+     */
+    public List<ExtInfo> getEntries() {
+        return entries;
+    }
+    
+    /**
+     * Checks if the counters of the given list differ from this snapshot, i.e. its entries have to
+     * be fetched again.
+     *
+     * @param favorite The current {@link Favorite} list
+     *
+     * @return {@code true} if the list changed
+     */
+    boolean isChanged(Favorite favorite) {
+        return favorite.getEntryCount() != entryCount || favorite.getUnreadReleases() != unreadReleases;
+    }
+    
+    @Override
+    public String toString() {
+        return "FavoriteSnapshot [getFavoriteId()=" + getFavoriteId() + ", getName()=" + getName() + ", getEntryCount()=" + getEntryCount()
+                + ", getUnreadReleases()=" + getUnreadReleases() + ", getEntries()=" + getEntries().size() + "]";
+    }
+    
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.favorite;
+
+import com.github.saftsau.xrel4j.Token;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.release.ReleaseBase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Incremental synchronization of the {@link Favorite} lists of a user. Each {@link #sync(Token)}
+ * fetches the lists once and the entries only of lists whose {@code entry_count} or
+ * {@code unread_releases} changed since the last sync, so polling many lists costs one request in
+ * the common case. The entries are compared with the local {@link FavoriteSnapshot} of the list and
+ * reported as {@link FavoriteEvent}s.
+ * <p>
+ * An entry removed and another one added between two syncs leave the counters unchanged and are
+ * only noticed once a counter changes. All methods are thread-safe.
+ *
+ * <pre>
+ * final FavoriteSync sync = new FavoriteSync(xrel, true);
+ * for (FavoriteEvent event : sync.sync(token)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class FavoriteSync {
+    
+    private final Xrel xrel;
+    private final boolean getReleases;
+    private final Map<Long, FavoriteSnapshot> snapshots = new LinkedHashMap<>();
+    
+    /**
+     * Creates a new FavoriteSync without local state, so the first sync reports all entries as
+     * added.
+     *
+     * @param xrel The {@link Xrel} to use
+     * @param getReleases If {@code true}, the unread releases of the entries are fetched and new
+     *        ones reported as {@link FavoriteEvent.Type#NEW_UNREAD}
+     */
+    public FavoriteSync(Xrel xrel, boolean getReleases) {
+        this(xrel, getReleases, List.of());
+    }
+    
+    /**
+     * Creates a new FavoriteSync resuming from the given snapshots, e.g. those of
+     * {@link #getSnapshots()} persisted by an earlier run.
+     *
+     * @param xrel The {@link Xrel} to use
+     * @param getReleases If {@code true}, the unread releases of the entries are fetched and new
+     *        ones reported as {@link FavoriteEvent.Type#NEW_UNREAD}
+     * @param snapshots The snapshots to resume from
+     */
+    public FavoriteSync(Xrel xrel, boolean getReleases, Collection<FavoriteSnapshot> snapshots) {
+        this.xrel = Objects.requireNonNull(xrel, "xrel missing");
+        this.getReleases = getReleases;
+        Objects.requireNonNull(snapshots, "snapshots missing").forEach(snapshot -> this.snapshots.put(snapshot.getFavoriteId(), snapshot));
+    }
+    
+    /**
+     * Synchronizes all lists of the user with the local snapshots.
+     *
+     * @param token The {@link Token} with all needed info
+     *
+     * @return The changes since the last sync, in the order of the lists
+     *
+     * @throws com.github.saftsau.xrel4j.XrelException If there is an error returned by the xREL API.
+     *         No snapshot is changed, so the next sync reports all changes again.
+     */
+    public synchronized List<FavoriteEvent> sync(Token token) {
+        Objects.requireNonNull(token, "token missing");
+        final List<FavoriteEvent> events = new ArrayList<>();
+        final Set<Long> deleted = new HashSet<>(snapshots.keySet());
+        // Committed only once all lists are synchronized, as the events are lost on an error
+        final Map<Long, FavoriteSnapshot> updated = new LinkedHashMap<>();
+        for (Favorite favorite : xrel.getFavsLists(token)) {
+            deleted.remove(favorite.getId());
+            final FavoriteSnapshot previous = snapshots.get(favorite.getId());
+            if (previous != null && !previous.isChanged(favorite)) {
+                continue;
+            }
+            xrel.getFavsListEntries(favorite, getReleases, token);
+            final List<ExtInfo> entries = favorite.getEntries();
+            diff(favorite.getId(), previous == null ? List.of() : previous.getEntries(), entries, events);
+            updated.put(favorite.getId(), new FavoriteSnapshot(favorite, entries));
+        }
+        snapshots.putAll(updated);
+        for (Long favoriteId : deleted) {
+            for (ExtInfo extInfo : snapshots.remove(favoriteId).getEntries()) {
+                events.add(new FavoriteEvent(FavoriteEvent.Type.REMOVED, favoriteId, extInfo, List.of()));
+            }
+        }
+        return events;
+    }
+    
+    private void diff(long favoriteId, List<ExtInfo> previousEntries, List<ExtInfo> entries, List<FavoriteEvent> events) {
+        final Map<String, ExtInfo> previousById = new LinkedHashMap<>();
+        previousEntries.forEach(extInfo -> previousById.put(extInfo.getId(), extInfo));
+        for (ExtInfo extInfo : entries) {
+            final ExtInfo previous = previousById.remove(extInfo.getId());
+            if (previous == null) {
+                events.add(new FavoriteEvent(FavoriteEvent.Type.ADDED, favoriteId, extInfo, List.of()));
+            } else if (getReleases) {
+                final Set<String> knownIds = new HashSet<>();
+                releases(previous).forEach(release -> knownIds.add(release.getId()));
+                final List<ReleaseBase> unread = new ArrayList<>();
+                releases(extInfo).stream().filter(release -> !knownIds.contains(release.getId())).forEach(unread::add);
+                if (!unread.isEmpty()) {
+                    events.add(new FavoriteEvent(FavoriteEvent.Type.NEW_UNREAD, favoriteId, extInfo, unread));
+                }
+            }
+        }
+        for (ExtInfo removed : previousById.values()) {
+            events.add(new FavoriteEvent(FavoriteEvent.Type.REMOVED, favoriteId, removed, List.of()));
+        }
+    }
+    
+    private static List<ReleaseBase> releases(ExtInfo extInfo) {
+        final List<ReleaseBase> releases = new ArrayList<>();
+        if (extInfo.getReleases() != null) {
+            releases.addAll(extInfo.getReleases());
+        }
+        if (extInfo.getP2pReleases() != null) {
+            releases.addAll(extInfo.getP2pReleases());
+        }
+        return releases;
+    }
+    
+    /**
+     * Gets the local snapshots of all lists seen by the last sync.
+     *
+     * @return The unmodifiable snapshots in the order of the lists
+     */
+    public synchronized List<FavoriteSnapshot> getSnapshots() {
+        return Collections.unmodifiableList(new ArrayList<>(snapshots.values()));
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "FavoriteSync [getReleases=" + getReleases + ", getSnapshots()=" + snapshots.values() + "]";
+    }
+    
+}
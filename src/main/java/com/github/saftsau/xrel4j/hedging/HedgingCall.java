@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.hedging;
+
+import com.github.saftsau.xrel4j.metrics.MetricsInterceptor;
+import com.github.saftsau.xrel4j.scheduler.Priority;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link Call} sending a hedge if the delegate is slow. The first response wins, the other call is
+ * cancelled and its response closed.
+ *
+ * @param <T> The type of the response body
+ */
+final class HedgingCall<T> implements Call<T> {
+    
+    private final Call<T> delegate;
+    private final HedgingCallAdapterFactory factory;
+    private volatile Hedge hedge;
+    
+    HedgingCall(Call<T> delegate, HedgingCallAdapterFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+    
+    /**
+     * The state of one hedge. It is only started while the delegate is still running.
+     */
+    private final class Hedge implements Runnable {
+        
+        private final String endpoint;
+        private final Priority priority = Priority.current();
+        private final AtomicBoolean decided = new AtomicBoolean();
+        private boolean primaryDone;
+        private Call<T> call;
+        private CompletableFuture<Response<T>> result;
+        
+        Hedge(String endpoint) {
+            this.endpoint = endpoint;
+        }
+        
+        @Override
+        public void run() {
+            final Call<T> hedgeCall;
+            synchronized (this) {
+                if (primaryDone || !factory.tryHedge(endpoint)) {
+                    return;
+                }
+                hedgeCall = call = delegate.clone();
+                result = new CompletableFuture<>();
+            }
+            // The hedge must not outlive the deadline of the delegate
+            final Timeout timeout = delegate.timeout();
+            if (timeout.hasDeadline()) {
+                hedgeCall.timeout().deadlineNanoTime(timeout.deadlineNanoTime());
+            }
+            // The hedge is scheduled like the delegate
+            final Priority.Scope scope = priority.enter();
+            try {
+                final Response<T> response = hedgeCall.execute();
+                if (decided.compareAndSet(false, true)) {
+                    delegate.cancel();
+                    result.complete(response);
+                } else {
+                    closeQuietly(response);
+                    result.complete(null);
+                }
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            } finally {
+                scope.close();
+            }
+        }
+        
+        /**
+         * Marks the delegate as done, so no hedge is started anymore.
+         *
+         * @return The result of the hedge or {@code null} if it wasn't started
+         */
+        synchronized CompletableFuture<Response<T>> primaryDone() {
+            primaryDone = true;
+            return result;
+        }
+        
+        synchronized void cancel() {
+            if (call != null) {
+                call.cancel();
+            }
+        }
+        
+    }
+    
+    @Override
+    public Response<T> execute() throws IOException {
+        final Request request = delegate.request();
+        final String endpoint = MetricsInterceptor.endpoint(request);
+        if (!"GET".equals(request.method()) || !factory.getPolicy().isHedged(endpoint)) {
+            return delegate.execute();
+        }
+        final Hedge currentHedge = hedge = new Hedge(endpoint);
+        final long start = System.nanoTime();
+        final ScheduledFuture<?> timer = factory.schedule(currentHedge, factory.getDelayNanos(endpoint));
+        final Response<T> response;
+        try {
+            response = delegate.execute();
+        } catch (IOException | RuntimeException e) {
+            timer.cancel(false);
+            // The delegate fails if it was cancelled by a successful hedge
+            final CompletableFuture<Response<T>> hedgeResult = currentHedge.primaryDone();
+            if (hedgeResult == null) {
+                throw e;
+            }
+            final Response<T> hedgeResponse;
+            try {
+                hedgeResponse = await(hedgeResult);
+            } catch (IOException | RuntimeException hedgeException) {
+                e.addSuppressed(hedgeException);
+                throw e;
+            }
+            if (hedgeResponse == null) {
+                throw e;
+            }
+            factory.recordLatency(endpoint, System.nanoTime() - start);
+            return hedgeResponse;
+        }
+        timer.cancel(false);
+        final CompletableFuture<Response<T>> hedgeResult = currentHedge.primaryDone();
+        if (currentHedge.decided.compareAndSet(false, true)) {
+            currentHedge.cancel();
+            factory.recordLatency(endpoint, System.nanoTime() - start);
+            return response;
+        }
+        // The hedge won while the delegate completed anyway
+        closeQuietly(response);
+        return await(hedgeResult);
+    }
+    
+    private Response<T> await(CompletableFuture<Response<T>> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            final InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for hedge");
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+    
+    private static void closeQuietly(Response<?> response) {
+        if (response.body() instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // Nothing, the response is discarded anyway
+            }
+        }
+    }
+    
+    @Override
+    public void enqueue(Callback<T> callback) {
+        delegate.enqueue(callback);
+    }
+    
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+    
+    @Override
+    public void cancel() {
+        delegate.cancel();
+        final Hedge currentHedge = hedge;
+        if (currentHedge != null) {
+            currentHedge.cancel();
+        }
+    }
+    
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+    
+    @Override
+    public Call<T> clone() {
+        return new HedgingCall<>(delegate.clone(), factory);
+    }
+    
+    @Override
+    public Request request() {
+        return delegate.request();
+    }
+    
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+    
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.hedging;
+
+import com.github.saftsau.xrel4j.metrics.Histogram;
+import com.github.saftsau.xrel4j.metrics.XrelMetrics;
+import com.github.saftsau.xrel4j.ratelimit.RateLimiter;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link CallAdapter.Factory} hedging the {@link Call}s of the
+ * {@link com.github.saftsau.xrel4j.XrelService} according to a {@link HedgingPolicy}. The first
+ * request is executed on the calling thread, hedges are sent from a shared pool of daemon threads.
+ * Asynchronous calls with {@link Call#enqueue(retrofit2.Callback)} are not hedged.
+ */
+public final class HedgingCallAdapterFactory extends CallAdapter.Factory {
+    
+    private static final int DELAY_UPDATE_INTERVAL = 16;
+    
+    private static final class Executors {
+        static final ScheduledExecutorService TIMER = createTimer();
+        static final ExecutorService HEDGES = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                daemonThreadFactory("xrel-hedge-"));
+    }
+    
+    private final HedgingPolicy policy;
+    private final RateLimiter rateLimiter;
+    private final XrelMetrics metrics;
+    private final ConcurrentMap<String, EndpointLatency> latencies = new ConcurrentHashMap<>();
+    
+    /**
+     * Observed latencies of one endpoint and the hedge delay derived from them.
+     */
+    private final class EndpointLatency {
+        
+        private final Histogram histogram = new Histogram();
+        private volatile long delayNanos = policy.getMaxDelay().toNanos();
+        
+        void record(long latencyNanos) {
+            histogram.record(latencyNanos);
+            final long count = histogram.getTotalCount();
+            // Reading a percentile scans the whole histogram, so the delay is only updated regularly
+            if (count >= policy.getMinSamples() && count % DELAY_UPDATE_INTERVAL == 0) {
+                delayNanos = Math.max(policy.getMinDelay().toNanos(),
+                        Math.min(policy.getMaxDelay().toNanos(), histogram.getValueAtPercentile(policy.getPercentile())));
+            }
+        }
+        
+    }
+    
+    /**
+     * Creates a new HedgingCallAdapterFactory.
+     *
+     * @param policy The {@link HedgingPolicy}
+     * @param rateLimiter The {@link RateLimiter} hedges are charged against
+     * @param metrics The {@link XrelMetrics} to report hedges to
+     */
+    public HedgingCallAdapterFactory(HedgingPolicy policy, RateLimiter rateLimiter, XrelMetrics metrics) {
+        this.policy = Objects.requireNonNull(policy, "policy missing");
+        this.rateLimiter = Objects.requireNonNull(rateLimiter, "rateLimiter missing");
+        this.metrics = Objects.requireNonNull(metrics, "metrics missing");
+    }
+    
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Call.class || !(returnType instanceof ParameterizedType)) {
+            return null;
+        }
+        final Type responseType = getParameterUpperBound(0, (ParameterizedType) returnType);
+        return new CallAdapter<Object, Call<?>>() {
+            
+            @Override
+            public Type responseType() {
+                return responseType;
+            }
+            
+            @Override
+            public Call<?> adapt(Call<Object> call) {
+                return new HedgingCall<>(call, HedgingCallAdapterFactory.this);
+            }
+            
+        };
+    }
+    
+    /**
+     * Gets the {@link HedgingPolicy} of this factory.
+     *
+     * @return The {@link HedgingPolicy}
+     */
+    public HedgingPolicy getPolicy() {
+        return policy;
+    }
+    
+    /**
+     * Gets the current hedge delay of the given endpoint.
+     *
+     * @param endpoint The endpoint
+     *
+     * @return The delay in nanoseconds
+     */
+    public long getDelayNanos(String endpoint) {
+        final EndpointLatency latency = latencies.get(endpoint);
+        return latency == null ? policy.getMaxDelay().toNanos() : latency.delayNanos;
+    }
+    
+    void recordLatency(String endpoint, long latencyNanos) {
+        latencies.computeIfAbsent(endpoint, e -> new EndpointLatency()).record(latencyNanos);
+    }
+    
+    boolean tryHedge(String endpoint) {
+        if (rateLimiter.getAvailable(endpoint) <= policy.getRateLimitReserve()) {
+            return false;
+        }
+        metrics.recordHedge(endpoint);
+        return true;
+    }
+    
+    ScheduledFuture<?> schedule(Runnable hedge, long delayNanos) {
+        return Executors.TIMER.schedule(() -> Executors.HEDGES.execute(hedge), delayNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private static ScheduledExecutorService createTimer() {
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("xrel-hedge-timer-"));
+        timer.setRemoveOnCancelPolicy(true);
+        timer.setKeepAliveTime(60, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        return timer;
+    }
+    
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+}
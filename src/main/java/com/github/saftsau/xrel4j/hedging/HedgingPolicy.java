@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.hedging;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable configuration of request hedging. Use {@link #builder()} to create one.
+ * <p>
+ * If an idempotent GET request of a hedged endpoint hasn't completed after the hedge delay, a
+ * second identical request is sent. The first response wins and the other request is cancelled.
+ * The hedge delay is the {@link #getPercentile()} of the latencies observed for the endpoint,
+ * bounded by {@link #getMinDelay()} and {@link #getMaxDelay()}. Until {@link #getMinSamples()}
+ * latencies were observed, {@link #getMaxDelay()} is used.
+ * <p>
+ * Hedges are charged against the {@link com.github.saftsau.xrel4j.ratelimit.RateLimiter} of the
+ * client and are only sent while more than {@link #getRateLimitReserve()} permits are available,
+ * so they never cause rate limit errors for regular requests.
+ */
+public final class HedgingPolicy {
+    
+    private final Set<String> endpoints;
+    private final double percentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final int minSamples;
+    private final int rateLimitReserve;
+    
+    private HedgingPolicy(Builder builder) {
+        this.endpoints = builder.endpoints;
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.maxDelay = builder.maxDelay;
+        this.minSamples = builder.minSamples;
+        this.rateLimitReserve = builder.rateLimitReserve;
+    }
+    
+    /**
+     * Creates a new {@link Builder} initialized with the defaults.
+     *
+     * @return The new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Checks if requests to the given endpoint are hedged.
+     *
+     * @param endpoint The name of the {@link com.github.saftsau.xrel4j.XrelService} method
+     *
+     * @return {@code true} if the endpoint is hedged
+     */
+    public boolean isHedged(String endpoint) {
+        return endpoints.isEmpty() || endpoints.contains(endpoint);
+    }
+    
+    /**
+     * Gets the hedged endpoints.
+     *
+     * @return The names of the hedged {@link com.github.saftsau.xrel4j.XrelService} methods, empty
+     * if all GET endpoints are hedged
+     */
+    public Set<String> getEndpoints() {
+        return endpoints;
+    }
+    
+    /**
+     * Gets the percentile of the observed latencies used as hedge delay.
+     *
+     * @return The percentile between 0 and 100
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+    
+    /**
+     * Gets the shortest hedge delay.
+     *
+     * @return The minimum delay
+     */
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+    
+    /**
+     * Gets the longest hedge delay, which is also used until enough latencies were observed.
+     *
+     * @return The maximum delay
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+    
+    /**
+     * Gets the number of latencies to observe per endpoint before the percentile is used.
+     *
+     * @return The minimum number of samples
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+    
+    /**
+     * Gets the number of rate limit permits which have to remain available for regular requests.
+     *
+     * @return The rate limit reserve
+     */
+    public int getRateLimitReserve() {
+        return rateLimitReserve;
+    }
+    
+    @Override
+    public String toString() {
+        return "HedgingPolicy [getEndpoints()=" + getEndpoints() + ", getPercentile()=" + getPercentile() + ", getMinDelay()=" + getMinDelay()
+                + ", getMaxDelay()=" + getMaxDelay() + ", getMinSamples()=" + getMinSamples() + ", getRateLimitReserve()=" + getRateLimitReserve() + "]";
+    }
+    
+    /**
+     * Builder of a {@link HedgingPolicy}.
+     */
+    public static final class Builder {
+        
+        private Set<String> endpoints = Set.of();
+        private double percentile = 95;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private int minSamples = 20;
+        private int rateLimitReserve = 50;
+        
+        private Builder() {
+        }
+        
+        /**
+         * Sets the hedged endpoints, e.g. {@code releaseInfo} and {@code extInfoInfo}. Only GET
+         * endpoints are hedged in any case. Default is all GET endpoints.
+         *
+         * @param endpoints The names of the {@link com.github.saftsau.xrel4j.XrelService} methods
+         *
+         * @return This Builder
+         */
+        public Builder endpoints(String... endpoints) {
+            this.endpoints = Set.of(endpoints);
+            return this;
+        }
+        
+        /**
+         * Sets the percentile of the observed latencies used as hedge delay. Default is 95.
+         *
+         * @param percentile The percentile between 0 and 100
+         *
+         * @return This Builder
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+            }
+            this.percentile = percentile;
+            return this;
+        }
+        
+        /**
+         * Sets the shortest hedge delay. Default is 10 ms.
+         *
+         * @param minDelay The minimum delay
+         *
+         * @return This Builder
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = requireNonNegative(minDelay, "minDelay");
+            return this;
+        }
+        
+        /**
+         * Sets the longest hedge delay, which is also used until enough latencies were observed.
+         * Default is 1 s.
+         *
+         * @param maxDelay The maximum delay
+         *
+         * @return This Builder
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = requireNonNegative(maxDelay, "maxDelay");
+            return this;
+        }
+        
+        /**
+         * Sets the number of latencies to observe per endpoint before the percentile is used.
+         * Default is 20.
+         *
+         * @param minSamples The minimum number of samples
+         *
+         * @return This Builder
+         */
+        public Builder minSamples(int minSamples) {
+            if (minSamples < 0) {
+                throw new IllegalArgumentException("minSamples must not be negative: " + minSamples);
+            }
+            this.minSamples = minSamples;
+            return this;
+        }
+        
+        /**
+         * Sets the number of rate limit permits which have to remain available for regular
+         * requests. Default is 50.
+         *
+         * @param rateLimitReserve The rate limit reserve
+         *
+         * @return This Builder
+         */
+        public Builder rateLimitReserve(int rateLimitReserve) {
+            if (rateLimitReserve < 0) {
+                throw new IllegalArgumentException("rateLimitReserve must not be negative: " + rateLimitReserve);
+            }
+            this.rateLimitReserve = rateLimitReserve;
+            return this;
+        }
+        
+        /**
+         * Creates the {@link HedgingPolicy}.
+         *
+         * @return The new {@link HedgingPolicy}
+         */
+        public HedgingPolicy build() {
+            if (minDelay.compareTo(maxDelay) > 0) {
+                throw new IllegalArgumentException("minDelay must not exceed maxDelay: " + minDelay + " > " + maxDelay);
+            }
+            return new HedgingPolicy(this);
+        }
+        
+        private static Duration requireNonNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " missing");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative: " + duration);
+            }
+            return duration;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link ResponseBody} counting the bytes read and reporting them once the body is exhausted or
+ * closed.
+ */
+final class CountingResponseBody extends ResponseBody {
+    
+    private final ResponseBody delegate;
+    private final LongConsumer consumer;
+    private final BufferedSource source;
+    private long bytes;
+    private boolean reported;
+    
+    /**
+     * Creates a new CountingResponseBody.
+     *
+     * @param delegate The {@link ResponseBody} to read from
+     * @param consumer The consumer of the number of bytes read, called once
+     */
+    CountingResponseBody(ResponseBody delegate, LongConsumer consumer) {
+        this.delegate = delegate;
+        this.consumer = consumer;
+        this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+            
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                final long read = super.read(sink, byteCount);
+                if (read < 0) {
+                    report();
+                } else {
+                    bytes += read;
+                }
+                return read;
+            }
+            
+            @Override
+            public void close() throws IOException {
+                report();
+                super.close();
+            }
+            
+        });
+    }
+    
+    private void report() {
+        if (!reported) {
+            reported = true;
+            consumer.accept(bytes);
+        }
+    }
+    
+    @Override
+    public MediaType contentType() {
+        return delegate.contentType();
+    }
+    
+    @Override
+    public long contentLength() {
+        return delegate.contentLength();
+    }
+    
+    @Override
+    public BufferedSource source() {
+        return source;
+    }
+    
+}
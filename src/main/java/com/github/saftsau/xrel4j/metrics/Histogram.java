@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative values, e.g. latencies in nanoseconds, in the
+ * style of HdrHistogram. Each power of two is split into 64 linear buckets, so the relative error
+ * of a percentile is below 1.6 %. Recording never allocates and can be done by any number of
+ * threads concurrently. Reads are not atomic across buckets, so a percentile read during recording
+ * may not include the values recorded at the same time.
+ */
+public final class Histogram {
+    
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    
+    /**
+     * Records a value.
+     *
+     * @param value The value to record, negative values are recorded as {@code 0}
+     */
+    public void record(long value) {
+        final long nonNegative = Math.max(0, value);
+        counts.incrementAndGet(index(nonNegative));
+        totalCount.increment();
+        long currentMax;
+        while (nonNegative > (currentMax = max.get()) && !max.compareAndSet(currentMax, nonNegative)) {
+            // Retry with the new maximum
+        }
+    }
+    
+    /**
+     * Adds all values of the given Histogram to this one.
+     *
+     * @param other The Histogram to add
+     */
+    public void add(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            final long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getTotalCount());
+        max.accumulateAndGet(other.getMax(), Math::max);
+    }
+    
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The number of values
+     */
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+    
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The largest value or {@code 0} if nothing was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+    
+    /**
+     * Gets the value at the given percentile, i.e. the upper bound of the bucket containing it.
+     *
+     * @param percentile The percentile between 0 and 100
+     *
+     * @return The value or {@code 0} if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        final long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        final long currentMax = getMax();
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += snapshot[i];
+            if (count >= rank) {
+                final long upperBound = upperBound(i);
+                // The upper bound of the last buckets overflows
+                return upperBound < 0 ? currentMax : Math.min(upperBound, currentMax);
+            }
+        }
+        return currentMax;
+    }
+    
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // value >>> shift is in [HALF_SUB_BUCKETS, SUB_BUCKETS)
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) ((value >>> shift) - HALF_SUB_BUCKETS);
+    }
+    
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        final long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+    
+    @Override
+    public String toString() {
+        return "Histogram [getTotalCount()=" + getTotalCount() + ", getValueAtPercentile(50)=" + getValueAtPercentile(50) + ", getValueAtPercentile(99)="
+                + getValueAtPercentile(99) + ", getMax()=" + getMax() + "]";
+    }
+    
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import com.github.saftsau.xrel4j.Error;
+import com.github.saftsau.xrel4j.XrelException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link XrelMetrics} keeping all metrics in memory, per endpoint. All recording is lock-free.
+ * Read the metrics with {@link #getEndpoints()} or {@link #getEndpoint(String)}.
+ */
+public class InMemoryXrelMetrics implements XrelMetrics {
+    
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger maxDispatcherQueueDepth = new AtomicInteger();
+    private volatile int dispatcherQueueDepth;
+    
+    /**
+     * The metrics of one endpoint.
+     */
+    public static final class EndpointMetrics {
+        
+        private final String endpoint;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final Histogram latency = new Histogram();
+        private final Histogram responseSize = new Histogram();
+        private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+        
+        private EndpointMetrics(String endpoint) {
+            this.endpoint = endpoint;
+        }
+        
+        /**
+         * Gets the name of the endpoint.
+         *
+         * @return The name of the endpoint
+         */
+        public String getEndpoint() {
+            return endpoint;
+        }
+        
+        /**
+         * Gets the number of requests, successful or not.
+         *
+         * @return The number of requests
+         */
+        public long getRequests() {
+            return requests.sum();
+        }
+        
+        /**
+         * Gets the number of responses served by the HTTP cache.
+         *
+         * @return The number of cache hits
+         */
+        public long getCacheHits() {
+            return cacheHits.sum();
+        }
+        
+        /**
+         * Gets the number of retries.
+         *
+         * @return The number of retries
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+        
+        /**
+         * Gets the number of hedged requests.
+         *
+         * @return The number of hedges
+         */
+        public long getHedges() {
+            return hedges.sum();
+        }
+        
+        /**
+         * Gets the total number of bytes read from response bodies.
+         *
+         * @return The number of bytes
+         */
+        public long getResponseBytes() {
+            return responseBytes.sum();
+        }
+        
+        /**
+         * Gets the latency {@link Histogram} of all requests in nanoseconds.
+         *
+         * @return The latency {@link Histogram}
+         */
+        public Histogram getLatency() {
+            return latency;
+        }
+        
+        /**
+         * Gets the {@link Histogram} of the response body sizes in bytes.
+         *
+         * @return The response size {@link Histogram}
+         */
+        public Histogram getResponseSize() {
+            return responseSize;
+        }
+        
+        /**
+         * Gets the number of failed requests.
+         *
+         * @return The number of errors
+         */
+        public long getErrors() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+        
+        /**
+         * Gets the number of failed requests by error type, see
+         * {@link InMemoryXrelMetrics#errorType(Throwable)}.
+         *
+         * @return The sorted map of error types to the number of errors
+         */
+        public Map<String, Long> getErrorTypes() {
+            final Map<String, Long> result = new TreeMap<>();
+            errors.forEach((type, count) -> result.put(type, count.sum()));
+            return result;
+        }
+        
+        @Override
+        public String toString() {
+            return "EndpointMetrics [getEndpoint()=" + getEndpoint() + ", getRequests()=" + getRequests() + ", getCacheHits()=" + getCacheHits()
+                    + ", getRetries()=" + getRetries() + ", getHedges()=" + getHedges() + ", getResponseBytes()=" + getResponseBytes() + ", getLatency()="
+                    + getLatency() + ", getErrorTypes()=" + getErrorTypes() + "]";
+        }
+        
+    }
+    
+    /**
+     * Gets the metrics of all endpoints called so far.
+     *
+     * @return An unmodifiable view of the metrics by endpoint
+     */
+    public Map<String, EndpointMetrics> getEndpoints() {
+        return Collections.unmodifiableMap(endpoints);
+    }
+    
+    /**
+     * Gets the metrics of the given endpoint.
+     *
+     * @param endpoint The name of the endpoint, e.g. {@code releaseLatest}
+     *
+     * @return The metrics or {@code null} if the endpoint was not called yet
+     */
+    public EndpointMetrics getEndpoint(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+    
+    /**
+     * Gets the number of calls waiting in the {@link okhttp3.Dispatcher} queue when the last request
+     * started.
+     *
+     * @return The dispatcher queue depth
+     */
+    public int getDispatcherQueueDepth() {
+        return dispatcherQueueDepth;
+    }
+    
+    /**
+     * Gets the largest number of calls seen waiting in the {@link okhttp3.Dispatcher} queue.
+     *
+     * @return The maximum dispatcher queue depth
+     */
+    public int getMaxDispatcherQueueDepth() {
+        return maxDispatcherQueueDepth.get();
+    }
+    
+    /**
+     * Removes all metrics.
+     */
+    public void reset() {
+        endpoints.clear();
+        dispatcherQueueDepth = 0;
+        maxDispatcherQueueDepth.set(0);
+    }
+    
+    /**
+     * Gets the type of the given failure. For errors returned by the xREL API this is the error
+     * code, e.g. {@code invalid_request}, or {@code http_} with the response code if there was no
+     * error object. Other failures are identified by their class name.
+     *
+     * @param throwable The failure
+     *
+     * @return The error type
+     */
+    public static String errorType(Throwable throwable) {
+        if (throwable instanceof XrelException xrelException) {
+            final String error = xrelException.getError().map(Error::getError).orElse(null);
+            if (error != null) {
+                return error;
+            } else if (xrelException.getResponseCode() >= 0) {
+                return "http_" + xrelException.getResponseCode();
+            }
+        }
+        return throwable.getClass().getSimpleName();
+    }
+    
+    private EndpointMetrics endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, EndpointMetrics::new);
+    }
+    
+    @Override
+    public void recordResponse(String endpoint, long latencyNanos, int responseCode, boolean cacheHit) {
+        final EndpointMetrics endpointMetrics = endpoint(endpoint);
+        endpointMetrics.requests.increment();
+        endpointMetrics.latency.record(latencyNanos);
+        if (cacheHit) {
+            endpointMetrics.cacheHits.increment();
+        }
+    }
+    
+    @Override
+    public void recordResponseSize(String endpoint, long bytes) {
+        final EndpointMetrics endpointMetrics = endpoint(endpoint);
+        endpointMetrics.responseBytes.add(bytes);
+        endpointMetrics.responseSize.record(bytes);
+    }
+    
+    @Override
+    public void recordError(String endpoint, long latencyNanos, Throwable throwable) {
+        final EndpointMetrics endpointMetrics = endpoint(endpoint);
+        endpointMetrics.requests.increment();
+        endpointMetrics.latency.record(latencyNanos);
+        endpointMetrics.errors.computeIfAbsent(errorType(throwable), type -> new LongAdder()).increment();
+    }
+    
+    @Override
+    public void recordRetry(String endpoint) {
+        endpoint(endpoint).retries.increment();
+    }
+    
+    @Override
+    public void recordHedge(String endpoint) {
+        endpoint(endpoint).hedges.increment();
+    }
+    
+    @Override
+    public void recordDispatcherQueue(int queuedCalls, int runningCalls) {
+        dispatcherQueueDepth = queuedCalls;
+        maxDispatcherQueueDepth.accumulateAndGet(queuedCalls, Math::max);
+    }
+    
+    @Override
+    public String toString() {
+        return "InMemoryXrelMetrics [getEndpoints()=" + new TreeMap<>(endpoints).values() + ", getDispatcherQueueDepth()=" + getDispatcherQueueDepth()
+                + ", getMaxDispatcherQueueDepth()=" + getMaxDispatcherQueueDepth() + "]";
+    }
+    
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import com.github.saftsau.xrel4j.XrelException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link Interceptor} emitting Java Flight Recorder events for every request: an
+ * {@link XrelRequestEvent} per exchange, an {@link XrelTokenEvent} per OAuth 2.0 token request and
+ * an {@link XrelCacheEvent} per lookup in the HTTP cache. If none of these events is enabled in a
+ * running recording, requests are passed on without any further work. It has to be placed before
+ * the interceptor handling xREL API errors, so it sees failed requests as well.
+ */
+public final class JfrInterceptor implements Interceptor {
+    
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+    private static final String TOKEN_METHOD = "oauth2Token";
+    
+    private final BooleanSupplier cacheEnabled;
+    
+    /**
+     * Creates a new JfrInterceptor.
+     *
+     * @param cacheEnabled Supplies if the {@link okhttp3.OkHttpClient} has a cache, so cache misses
+     * are only reported if there is a cache
+     */
+    public JfrInterceptor(BooleanSupplier cacheEnabled) {
+        this.cacheEnabled = Objects.requireNonNull(cacheEnabled, "cacheEnabled missing");
+    }
+    
+    /**
+     * Checks if the {@code jdk.jfr} module is available in this JVM. The events of this package must
+     * only be used if it is.
+     *
+     * @return {@code true} if Java Flight Recorder events can be emitted
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final XrelRequestEvent event = new XrelRequestEvent();
+        final XrelTokenEvent tokenEvent = new XrelTokenEvent();
+        final Invocation invocation = request.tag(Invocation.class);
+        final boolean tokenRequest = tokenEvent.isEnabled() && invocation != null && TOKEN_METHOD.equals(invocation.method().getName());
+        final boolean cacheLookup = new XrelCacheEvent().isEnabled() && cacheEnabled.getAsBoolean();
+        if (!event.isEnabled() && !tokenRequest && !cacheLookup) {
+            return chain.proceed(request);
+        }
+        final String endpoint = MetricsInterceptor.endpoint(request);
+        event.setEndpoint(endpoint);
+        event.setMethod(request.method());
+        event.begin();
+        if (tokenRequest) {
+            tokenEvent.setGrantType(String.valueOf(invocation.arguments().get(0)));
+            tokenEvent.begin();
+        }
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof XrelException xrelException) {
+                event.setStatus(xrelException.getResponseCode());
+            }
+            event.setError(InMemoryXrelMetrics.errorType(e));
+            event.commit();
+            if (tokenRequest) {
+                tokenEvent.commit();
+            }
+            throw e;
+        }
+        if (tokenRequest) {
+            tokenEvent.setSuccess(response.isSuccessful());
+            tokenEvent.commit();
+        }
+        if (cacheLookup) {
+            final XrelCacheEvent cacheEvent = new XrelCacheEvent();
+            cacheEvent.setEndpoint(endpoint);
+            cacheEvent.setResult(response.cacheResponse() == null ? "miss" : response.networkResponse() == null ? "hit" : "conditional_hit");
+            cacheEvent.commit();
+        }
+        if (!event.isEnabled()) {
+            return response;
+        }
+        event.setStatus(response.code());
+        event.setCache(response.cacheResponse() == null ? "network" : response.networkResponse() == null ? "hit" : "conditional_hit");
+        final String remaining = response.header("X-RateLimit-Remaining");
+        if (remaining != null) {
+            try {
+                event.setRateLimitRemaining(Integer.parseInt(remaining));
+            } catch (NumberFormatException e) {
+                // Nothing, keep it unknown
+            }
+        }
+        final ResponseBody body = response.body();
+        if (body == null) {
+            event.commit();
+            return response;
+        }
+        return response.newBuilder().body(new CountingResponseBody(body, bytes -> {
+            event.setResponseBytes(bytes);
+            event.commit();
+        })).build();
+    }
+    
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link Interceptor} reporting every request to {@link XrelMetrics}. It has to be placed before
+ * the interceptor handling xREL API errors, so it sees the errors thrown for xREL API error
+ * responses as well, and after a {@link com.github.saftsau.xrel4j.retry.RetryInterceptor}, so every
+ * attempt is reported.
+ */
+public final class MetricsInterceptor implements Interceptor {
+    
+    private final XrelMetrics metrics;
+    private final Supplier<Dispatcher> dispatcher;
+    
+    /**
+     * Creates a new MetricsInterceptor.
+     *
+     * @param metrics The {@link XrelMetrics} to report to
+     */
+    public MetricsInterceptor(XrelMetrics metrics) {
+        this(metrics, () -> null);
+    }
+    
+    /**
+     * Creates a new MetricsInterceptor also reporting the load of the given {@link Dispatcher}.
+     *
+     * @param metrics The {@link XrelMetrics} to report to
+     * @param dispatcher Supplies the {@link Dispatcher} of the client, or {@code null} while it
+     *        isn't known
+     */
+    public MetricsInterceptor(XrelMetrics metrics, Supplier<Dispatcher> dispatcher) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics missing");
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher missing");
+    }
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final String endpoint = endpoint(request);
+        final Dispatcher currentDispatcher = dispatcher.get();
+        if (currentDispatcher != null) {
+            metrics.recordDispatcherQueue(currentDispatcher.queuedCallsCount(), currentDispatcher.runningCallsCount());
+        }
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            metrics.recordError(endpoint, System.nanoTime() - start, e);
+            throw e;
+        }
+        metrics.recordResponse(endpoint, System.nanoTime() - start, response.code(), response.cacheResponse() != null && response.networkResponse() == null);
+        final ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        return response.newBuilder().body(new CountingResponseBody(body, bytes -> metrics.recordResponseSize(endpoint, bytes))).build();
+    }
+    
+    /**
+     * Gets the name of the endpoint of the given request, which is the name of the
+     * {@link com.github.saftsau.xrel4j.XrelService} method or the path for requests not made by
+     * Retrofit.
+     *
+     * @param request The request
+     *
+     * @return The name of the endpoint
+     */
+    public static String endpoint(Request request) {
+        final Invocation invocation = request.tag(Invocation.class);
+        return invocation == null ? request.url().encodedPath() : invocation.method().getName();
+    }
+    
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a lookup in the HTTP cache of the client. Only emitted if the
+ * {@link okhttp3.OkHttpClient} has a cache.
+ */
+@Name(XrelCacheEvent.NAME)
+@Label("xREL Cache Lookup")
+@Category("xREL4J")
+@Description("Lookup of an xREL API response in the HTTP cache")
+@StackTrace(false)
+public final class XrelCacheEvent extends Event {
+    
+    public static final String NAME = "com.github.saftsau.xrel4j.Cache";
+    
+    @Label("Endpoint")
+    @Description("Name of the XrelService method")
+    private String endpoint;
+    
+    @Label("Result")
+    @Description("hit, conditional_hit or miss")
+    private String result;
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public void setResult(String result) {
+        this.result = result;
+    }
+    
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+/**
+ * Service provider interface for metrics of the requests to the xREL API. An implementation is
+ * passed to {@link com.github.saftsau.xrel4j.RestClient#create(String, java.util.function.Consumer,
+ * java.util.function.Consumer, XrelMetrics)} and called by a {@link MetricsInterceptor} for every
+ * request, so all methods of {@link com.github.saftsau.xrel4j.Xrel} are covered. Endpoints are
+ * identified by the name of their {@link com.github.saftsau.xrel4j.XrelService} method, e.g.
+ * {@code releaseLatest}.
+ * <p>
+ * Implementations must be thread-safe and should not block, as they are called on the thread
+ * executing the request. All methods do nothing by default, so an implementation only needs to
+ * override what it is interested in. {@link InMemoryXrelMetrics} is a simple implementation
+ * without further dependencies; adapters for metrics libraries can be written in a few lines.
+ */
+public interface XrelMetrics {
+    
+    /**
+     * XrelMetrics recording nothing.
+     */
+    XrelMetrics NONE = new XrelMetrics() {
+    };
+    
+    /**
+     * Records a successful response.
+     *
+     * @param endpoint The endpoint
+     * @param latencyNanos The time from sending the request until the response headers were
+     * received in nanoseconds
+     * @param responseCode The HTTP response code
+     * @param cacheHit {@code true} if the response was served by the HTTP cache without a network
+     * request
+     */
+    default void recordResponse(String endpoint, long latencyNanos, int responseCode, boolean cacheHit) {
+    }
+    
+    /**
+     * Records the size of a successful response once its body was read and closed.
+     *
+     * @param endpoint The endpoint
+     * @param bytes The number of bytes read from the body
+     */
+    default void recordResponseSize(String endpoint, long bytes) {
+    }
+    
+    /**
+     * Records a failed request, either an error returned by the xREL API as
+     * {@link com.github.saftsau.xrel4j.XrelException} or an I/O error.
+     *
+     * @param endpoint The endpoint
+     * @param latencyNanos The time from sending the request until the failure in nanoseconds
+     * @param throwable The cause of the failure
+     */
+    default void recordError(String endpoint, long latencyNanos, Throwable throwable) {
+    }
+    
+    /**
+     * Records a retry of a request.
+     *
+     * @param endpoint The endpoint
+     */
+    default void recordRetry(String endpoint) {
+    }
+    
+    /**
+     * Records a hedged request, i.e. a second request sent because the first one was slow.
+     *
+     * @param endpoint The endpoint
+     */
+    default void recordHedge(String endpoint) {
+    }
+    
+    /**
+     * Records the load of the {@link okhttp3.Dispatcher} when a request starts. Asynchronous calls
+     * beyond its limits wait in its queue, a growing queue means its limits are too low for the
+     * load. Synchronous calls, as made by {@link com.github.saftsau.xrel4j.Xrel}, bypass the queue,
+     * so {@code queuedCalls} only counts asynchronous calls and is always 0 if there are none.
+     *
+     * @param queuedCalls The number of asynchronous calls waiting in the queue
+     * @param runningCalls The number of running calls
+     */
+    default void recordDispatcherQueue(int queuedCalls, int runningCalls) {
+    }
+    
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for a thread waiting because of a rate limit of the xREL API. It has
+ * to be begun before and committed after the wait. Classes waiting for a rate limit should only
+ * create it if {@link JfrInterceptor#isAvailable()}.
+ */
+@Name(XrelRateLimitWaitEvent.NAME)
+@Label("xREL Rate Limit Wait")
+@Category("xREL4J")
+@Description("Wait for a rate limit of the xREL API")
+public final class XrelRateLimitWaitEvent extends Event {
+    
+    public static final String NAME = "com.github.saftsau.xrel4j.RateLimitWait";
+    
+    @Label("Endpoint")
+    @Description("Name of the XrelService method")
+    private String endpoint;
+    
+    @Label("Reason")
+    @Description("The limit waited for, e.g. search, X-RateLimit-Reset or scheduler")
+    private String reason;
+    
+    @Label("Remaining")
+    @Description("Remaining request budget when the wait started, -1 if unknown")
+    private int remaining = -1;
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+    
+    public void setRemaining(int remaining) {
+        this.remaining = remaining;
+    }
+    
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for an HTTP exchange with the xREL API. The event spans from sending
+ * the request until the response body was read and closed, or until the request failed.
+ */
+@Name(XrelRequestEvent.NAME)
+@Label("xREL Request")
+@Category("xREL4J")
+@Description("HTTP exchange with the xREL API")
+@StackTrace(false)
+public final class XrelRequestEvent extends Event {
+    
+    public static final String NAME = "com.github.saftsau.xrel4j.Request";
+    
+    @Label("Endpoint")
+    @Description("Name of the XrelService method")
+    private String endpoint;
+    
+    @Label("HTTP Method")
+    private String method;
+    
+    @Label("Status")
+    @Description("HTTP response code, -1 if the request failed without a response")
+    private int status = -1;
+    
+    @Label("Response Size")
+    @DataAmount
+    private long responseBytes;
+    
+    @Label("Cache")
+    @Description("hit, conditional_hit or network")
+    private String cache;
+    
+    @Label("Rate Limit Remaining")
+    @Description("X-RateLimit-Remaining of the response, -1 if not present")
+    private int rateLimitRemaining = -1;
+    
+    @Label("Error")
+    @Description("Error type of a failed request")
+    private String error;
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public void setMethod(String method) {
+        this.method = method;
+    }
+    
+    public void setStatus(int status) {
+        this.status = status;
+    }
+    
+    public void setResponseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+    }
+    
+    public void setCache(String cache) {
+        this.cache = cache;
+    }
+    
+    public void setRateLimitRemaining(int rateLimitRemaining) {
+        this.rateLimitRemaining = rateLimitRemaining;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for an OAuth 2.0 token request, e.g. a token refresh.
+ */
+@Name(XrelTokenEvent.NAME)
+@Label("xREL Token Request")
+@Category("xREL4J")
+@Description("OAuth 2.0 token request to the xREL API")
+@StackTrace(false)
+public final class XrelTokenEvent extends Event {
+    
+    public static final String NAME = "com.github.saftsau.xrel4j.Token";
+    
+    @Label("Grant Type")
+    @Description("authorization_code, client_credentials or refresh_token")
+    private String grantType;
+    
+    @Label("Success")
+    private boolean success;
+    
+    public void setGrantType(String grantType) {
+        this.grantType = grantType;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.ratelimit;
+
+import com.github.saftsau.xrel4j.Error;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.metrics.MetricsInterceptor;
+import com.github.saftsau.xrel4j.retry.RetryPolicy;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * {@link Interceptor} charging every request to a {@link RateLimiter}. Requests exceeding the
+ * limit are not sent, but fail with the same {@link XrelException} the xREL API returns, i.e. the
+ * error {@code rate_limit_exceeded} with status 429, so they are handled like a rejection by the
+ * server. The {@code X-RateLimit-*} headers of all responses are passed to
+ * {@link RateLimiter#update(int, int, long)}. It has to be placed after the interceptor handling
+ * xREL API errors, so it sees the headers of error responses as well.
+ */
+public final class RateLimitInterceptor implements Interceptor {
+    
+    private static final int TOO_MANY_REQUESTS = 429;
+    
+    private final RateLimiter rateLimiter;
+    
+    /**
+     * Creates a new RateLimitInterceptor.
+     *
+     * @param rateLimiter The {@link RateLimiter} to charge
+     */
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = Objects.requireNonNull(rateLimiter, "rateLimiter missing");
+    }
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        // Requests only answered from the cache don't reach the xREL API
+        if (!request.cacheControl().onlyIfCached() && !rateLimiter.tryAcquire(MetricsInterceptor.endpoint(request))) {
+            throw rateLimitExceeded("Client rate limit exceeded.");
+        }
+        final Response response = chain.proceed(request);
+        final String limit = response.header("X-RateLimit-Limit");
+        final String remaining = response.header("X-RateLimit-Remaining");
+        final String reset = response.header("X-RateLimit-Reset");
+        if (limit != null && remaining != null && reset != null) {
+            try {
+                rateLimiter.update(Integer.parseInt(limit), Integer.parseInt(remaining), Long.parseLong(reset));
+            } catch (NumberFormatException e) {
+                // Nothing, keep the local state
+            }
+        }
+        return response;
+    }
+    
+    /**
+     * Creates the {@link XrelException} of a request rejected by a client-side limit, which looks
+     * like the error returned by the xREL API for an exceeded rate limit.
+     *
+     * @param description The error description
+     *
+     * @return The new {@link XrelException}
+     */
+    public static XrelException rateLimitExceeded(String description) {
+        final Error error = new Error();
+        error.setError(RetryPolicy.RATE_LIMIT_EXCEEDED);
+        error.setErrorType("api");
+        error.setErrorDescription(description);
+        return new XrelException(description, error, TOO_MANY_REQUESTS);
+    }
+    
+}
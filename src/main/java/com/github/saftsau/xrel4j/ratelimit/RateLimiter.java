@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.ratelimit;
+
+/**
+ * Client-side rate limiter for the xREL API. An implementation is passed to
+ * {@link com.github.saftsau.xrel4j.RestClient.Builder#rateLimiter(RateLimiter)} and charged by a
+ * {@link RateLimitInterceptor} for every request, so requests exceeding the limit fail locally
+ * instead of costing a request. Endpoints are identified by the name of their
+ * {@link com.github.saftsau.xrel4j.XrelService} method, e.g. {@code searchReleases}.
+ * <p>
+ * Implementations must be thread-safe. {@link XrelRateLimiter} implements the limits of the xREL
+ * API.
+ *
+ * @see <a href="https://www.xrel.to/wiki/2727/api-rate-limiting.html">API: Rate Limiting</a>
+ */
+public interface RateLimiter {
+    
+    /**
+     * RateLimiter allowing every request.
+     */
+    RateLimiter NONE = new RateLimiter() {
+        
+        @Override
+        public boolean tryAcquire(String endpoint) {
+            return true;
+        }
+        
+        @Override
+        public int getAvailable(String endpoint) {
+            return Integer.MAX_VALUE;
+        }
+        
+    };
+    
+    /**
+     * Tries to take a permit for one request to the given endpoint without waiting.
+     *
+     * @param endpoint The endpoint
+     *
+     * @return {@code true} if the request may be made
+     */
+    boolean tryAcquire(String endpoint);
+    
+    /**
+     * Gets the number of requests to the given endpoint which could be made right now.
+     *
+     * @param endpoint The endpoint
+     *
+     * @return The number of available permits, {@link Integer#MAX_VALUE} if unlimited
+     */
+    int getAvailable(String endpoint);
+    
+    /**
+     * Updates the limiter with the {@code X-RateLimit-*} headers of a response, so it follows the
+     * budget known to the xREL API.
+     *
+     * @param limit The X-RateLimit-Limit
+     * @param remaining The X-RateLimit-Remaining
+     * @param reset The X-RateLimit-Reset in UTC epoch seconds
+     */
+    default void update(int limit, int remaining, long reset) {
+    }
+    
+}
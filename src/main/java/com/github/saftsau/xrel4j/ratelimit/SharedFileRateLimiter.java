@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.ratelimit;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * {@link RateLimiter} implementing the same limits as {@link XrelRateLimiter}, but keeping its state
+ * in a memory-mapped file, so all processes on a host using the same file share one budget. Every
+ * change is a compare-and-set on the mapped memory, no lock or external service is needed.
+ * <p>
+ * The fixed window is packed into one word of the file: the end of the window in epoch
+ * milliseconds, whether it was synced with the {@code X-RateLimit-*} headers and the remaining
+ * requests. Each search permit is a slot holding the time it was taken. All processes sharing a
+ * file have to use the same search limit, the other limits are taken from the first process.
+ *
+ * @see <a href="https://www.xrel.to/wiki/2727/api-rate-limiting.html">API: Rate Limiting</a>
+ */
+public class SharedFileRateLimiter implements RateLimiter {
+    
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long MAGIC = 0x58524C52_4C494D31L;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int LIMIT_OFFSET = 8;
+    private static final int WINDOW_OFFSET = 16;
+    private static final int SEARCH_LIMIT_OFFSET = 24;
+    private static final int STATE_OFFSET = 32;
+    private static final int SEARCHES_OFFSET = 40;
+    private static final int REMAINING_BITS = 21;
+    private static final long REMAINING_MASK = (1L << REMAINING_BITS) - 1;
+    private static final long SYNCED = 1L << REMAINING_BITS;
+    private static final int WINDOW_END_SHIFT = REMAINING_BITS + 1;
+    private static final String SEARCH_PREFIX = "search";
+    
+    private final Path file;
+    private final Clock clock;
+    private final int searchLimit;
+    private final long searchWindowMillis;
+    private final MappedByteBuffer buffer;
+    
+    /**
+     * Creates a new SharedFileRateLimiter with the limits of the xREL API, 900 requests per hour and
+     * 2 search requests per 10 seconds.
+     *
+     * @param file The file to share the state in, created if it doesn't exist
+     *
+     * @throws IOException If the file can't be mapped or holds a different state
+     */
+    public SharedFileRateLimiter(Path file) throws IOException {
+        this(file, Clock.systemUTC(), 900, Duration.ofHours(1), 2, Duration.ofSeconds(10));
+    }
+    
+    /**
+     * Creates a new SharedFileRateLimiter with the given limits.
+     *
+     * @param file The file to share the state in, created if it doesn't exist
+     * @param clock The {@link Clock} to use, which has to agree with the other processes
+     * @param limit The number of requests per window until the first response is seen
+     * @param window The length of the fixed window
+     * @param searchLimit The number of search requests per sliding window
+     * @param searchWindow The length of the sliding search window
+     *
+     * @throws IOException If the file can't be mapped or holds a different state
+     */
+    public SharedFileRateLimiter(Path file, Clock clock, int limit, Duration window, int searchLimit, Duration searchWindow) throws IOException {
+        this.file = Objects.requireNonNull(file, "file missing");
+        this.clock = Objects.requireNonNull(clock, "clock missing");
+        if (limit < 0 || limit > REMAINING_MASK) {
+            throw new IllegalArgumentException("limit must be between 0 and " + REMAINING_MASK + ": " + limit);
+        }
+        if (searchLimit < 1) {
+            throw new IllegalArgumentException("searchLimit must be at least 1: " + searchLimit);
+        }
+        this.searchLimit = searchLimit;
+        this.searchWindowMillis = searchWindow.toMillis();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEARCHES_OFFSET + 8L * searchLimit);
+        }
+        // Concurrently starting processes race for the header, the first one wins
+        initialize(MAGIC_OFFSET, MAGIC, "magic");
+        initialize(SEARCH_LIMIT_OFFSET, searchLimit, "searchLimit");
+        LONGS.compareAndSet(buffer, LIMIT_OFFSET, 0L, (long) limit);
+        LONGS.compareAndSet(buffer, WINDOW_OFFSET, 0L, window.toMillis());
+    }
+    
+    private void initialize(int offset, long value, String name) throws IOException {
+        final long existing = (long) LONGS.compareAndExchange(buffer, offset, 0L, value);
+        if (existing != 0 && existing != value) {
+            throw new IOException(file + " has a different " + name + ": " + existing + " != " + value);
+        }
+    }
+    
+    /**
+     * Gets the file the state is shared in.
+     *
+     * @return The file
+     */
+    public Path getFile() {
+        return file;
+    }
+    
+    @Override
+    public boolean tryAcquire(String endpoint) {
+        final long now = clock.millis();
+        long raw;
+        long next;
+        do {
+            raw = (long) LONGS.getVolatile(buffer, STATE_OFFSET);
+            final long state = rolled(raw, now);
+            if ((state & REMAINING_MASK) == 0) {
+                return false;
+            }
+            next = state - 1;
+        } while (!LONGS.compareAndSet(buffer, STATE_OFFSET, raw, next));
+        if (endpoint.startsWith(SEARCH_PREFIX) && !tryAcquireSearch(now)) {
+            refund(next);
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public int getAvailable(String endpoint) {
+        final long now = clock.millis();
+        final int remaining = (int) (rolled((long) LONGS.getVolatile(buffer, STATE_OFFSET), now) & REMAINING_MASK);
+        if (endpoint.startsWith(SEARCH_PREFIX)) {
+            int searches = 0;
+            for (int i = 0; i < searchLimit; i++) {
+                if (now - (long) LONGS.getVolatile(buffer, SEARCHES_OFFSET + 8 * i) >= searchWindowMillis) {
+                    searches++;
+                }
+            }
+            return Math.min(remaining, searches);
+        }
+        return remaining;
+    }
+    
+    @Override
+    public void update(int limit, int remaining, long reset) {
+        final long resetMillis = reset * 1000;
+        final long clamped = Math.max(0, Math.min(remaining, REMAINING_MASK));
+        LONGS.setVolatile(buffer, LIMIT_OFFSET, Math.max(0, Math.min(limit, REMAINING_MASK)));
+        long state;
+        long next;
+        do {
+            state = (long) LONGS.getVolatile(buffer, STATE_OFFSET);
+            final long windowEnd = state >>> WINDOW_END_SHIFT;
+            if ((state & SYNCED) == 0 || resetMillis > windowEnd) {
+                // First response of the window or a new window started on the server
+                next = resetMillis << WINDOW_END_SHIFT | SYNCED | clamped;
+            } else if (resetMillis == windowEnd) {
+                // Requests in flight were already charged
+                next = (state & ~REMAINING_MASK) | Math.min(state & REMAINING_MASK, clamped);
+            } else {
+                return;
+            }
+        } while (!LONGS.compareAndSet(buffer, STATE_OFFSET, state, next));
+    }
+    
+    /**
+     * Gets the given state with a new window started if it ended.
+     */
+    private long rolled(long state, long now) {
+        if (now >= state >>> WINDOW_END_SHIFT) {
+            final long windowEnd = now + (long) LONGS.getVolatile(buffer, WINDOW_OFFSET);
+            return windowEnd << WINDOW_END_SHIFT | (long) LONGS.getVolatile(buffer, LIMIT_OFFSET);
+        }
+        return state;
+    }
+    
+    private boolean tryAcquireSearch(long now) {
+        for (int i = 0; i < searchLimit; i++) {
+            final int offset = SEARCHES_OFFSET + 8 * i;
+            final long taken = (long) LONGS.getVolatile(buffer, offset);
+            if (now - taken >= searchWindowMillis && LONGS.compareAndSet(buffer, offset, taken, now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Gives a taken request back, unless the window changed in the meantime.
+     */
+    private void refund(long charged) {
+        long state;
+        do {
+            state = (long) LONGS.getVolatile(buffer, STATE_OFFSET);
+            if (state >>> WINDOW_END_SHIFT != charged >>> WINDOW_END_SHIFT) {
+                return;
+            }
+        } while (!LONGS.compareAndSet(buffer, STATE_OFFSET, state, state + 1));
+    }
+    
+    @Override
+    public String toString() {
+        final long state = (long) LONGS.getVolatile(buffer, STATE_OFFSET);
+        return "SharedFileRateLimiter [getFile()=" + file + ", limit=" + LONGS.getVolatile(buffer, LIMIT_OFFSET) + ", remaining="
+                + (state & REMAINING_MASK) + ", windowEnd=" + (state >>> WINDOW_END_SHIFT) + "]";
+    }
+    
+}
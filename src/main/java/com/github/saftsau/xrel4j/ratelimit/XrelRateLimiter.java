@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * {@link RateLimiter} implementing the limits of the xREL API: a fixed window of requests per hour
+ * and a sliding window of search requests. The fixed window follows the {@code X-RateLimit-*}
+ * headers of the responses, so the budget is shared with earlier requests made with the same
+ * credentials.
+ *
+ * @see <a href="https://www.xrel.to/wiki/2727/api-rate-limiting.html">API: Rate Limiting</a>
+ */
+public class XrelRateLimiter implements RateLimiter {
+    
+    private static final String SEARCH_PREFIX = "search";
+    
+    private final Clock clock;
+    private final long windowMillis;
+    private final int searchLimit;
+    private final long searchWindowMillis;
+    private final Deque<Long> searches = new ArrayDeque<>();
+    private int limit;
+    private int remaining;
+    private long windowEnd = -1;
+    private boolean synced;
+    
+    /**
+     * Creates a new XrelRateLimiter with the limits of the xREL API, 900 requests per hour and 2
+     * search requests per 10 seconds.
+     */
+    public XrelRateLimiter() {
+        this(Clock.systemUTC(), 900, Duration.ofHours(1), 2, Duration.ofSeconds(10));
+    }
+    
+    /**
+     * Creates a new XrelRateLimiter with the given limits.
+     *
+     * @param clock The {@link Clock} to use
+     * @param limit The number of requests per window until the first response is seen
+     * @param window The length of the fixed window
+     * @param searchLimit The number of search requests per sliding window
+     * @param searchWindow The length of the sliding search window
+     */
+    public XrelRateLimiter(Clock clock, int limit, Duration window, int searchLimit, Duration searchWindow) {
+        this.clock = Objects.requireNonNull(clock, "clock missing");
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.searchLimit = searchLimit;
+        this.searchWindowMillis = searchWindow.toMillis();
+    }
+    
+    @Override
+    public synchronized boolean tryAcquire(String endpoint) {
+        final long now = clock.millis();
+        rollWindow(now);
+        if (remaining <= 0) {
+            return false;
+        }
+        if (endpoint.startsWith(SEARCH_PREFIX)) {
+            expireSearches(now);
+            if (searches.size() >= searchLimit) {
+                return false;
+            }
+            searches.addLast(now);
+        }
+        remaining--;
+        return true;
+    }
+    
+    @Override
+    public synchronized int getAvailable(String endpoint) {
+        final long now = clock.millis();
+        rollWindow(now);
+        if (endpoint.startsWith(SEARCH_PREFIX)) {
+            expireSearches(now);
+            return Math.max(0, Math.min(remaining, searchLimit - searches.size()));
+        }
+        return Math.max(0, remaining);
+    }
+    
+    @Override
+    public synchronized void update(int limit, int remaining, long reset) {
+        final long resetMillis = reset * 1000;
+        if (!synced || resetMillis > windowEnd) {
+            // First response of the window or a new window started on the server
+            this.remaining = remaining;
+            windowEnd = resetMillis;
+            synced = true;
+        } else if (resetMillis == windowEnd) {
+            // Requests in flight were already charged
+            this.remaining = Math.min(this.remaining, remaining);
+        }
+        this.limit = limit;
+    }
+    
+    private void rollWindow(long now) {
+        if (now >= windowEnd) {
+            remaining = limit;
+            windowEnd = now + windowMillis;
+            synced = false;
+        }
+    }
+    
+    private void expireSearches(long now) {
+        while (!searches.isEmpty() && now - searches.peekFirst() >= searchWindowMillis) {
+            searches.pollFirst();
+        }
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "XrelRateLimiter [limit=" + limit + ", remaining=" + remaining + ", windowEnd=" + windowEnd + ", searches=" + searches.size() + "]";
+    }
+    
+}
@@ -0,0 +1,834 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release;
+
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.release.p2p.P2pCategory;
+import com.github.saftsau.xrel4j.release.p2p.P2pGroup;
+import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlags;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongFunction;
+
+/**
+ * Append-only archive of {@link Release} and {@link P2pRelease} objects stored off-heap in
+ * memory-mapped files. Each release is stored as a fixed-width record plus a block in a string
+ * heap, and can be looked up by its API ID or dirname through persisted open-addressing hash
+ * indexes. Opening an existing archive only maps its files, so it is ready in milliseconds
+ * regardless of its size.
+ * <p>
+ * An archive lives in its own directory and consists of the files {@code records.dat},
+ * {@code strings.dat}, {@code id.idx} and {@code dirname.idx}. Appending a release with an ID or
+ * dirname already in the archive stores a new row and points the index to it. Files grow in
+ * segments of 64 MB, which stay sparse on file systems supporting it. The data of an
+ * appended release becomes visible to readers once the append returns. Call {@link #flush()} to
+ * write it to disk.
+ * <p>
+ * Stored are all fields of {@link Release} and {@link P2pRelease} except flags with names unknown
+ * to {@link com.github.saftsau.xrel4j.release.scene.ReleaseFlag}. Of the {@link ExtInfo} only
+ * type, ID, title, link, rating and number of ratings are stored.
+ * <p>
+ * Appends and index lookups are synchronized. Reading rows by row ID doesn't lock.
+ * <p>
+ * An index which is missing, truncated or doesn't cover all rows when opening the archive is
+ * rebuilt from the records. Growing an index replaces its file while the old file may still be
+ * mapped, which requires POSIX file system semantics. Archives are therefore not supported on
+ * Windows.
+ */
+public final class ReleaseArchive implements Closeable {
+    
+    private static final int MAGIC = 0x78524131;
+    private static final int VERSION = 1;
+    
+    private static final int SEGMENT_SHIFT = 26;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    
+    private static final int RECORD_SIZE = 128;
+    private static final long HEADER_SIZE = RECORD_SIZE;
+    private static final long HEADER_SIZE_OFFSET = 8;
+    private static final long HEADER_STRINGS_END_OFFSET = 16;
+    
+    private static final int KIND = 0;
+    private static final int PRESENCE = 1;
+    private static final int FLAGS = 4;
+    private static final int TIME = 8;
+    private static final int POST_TIME = 16;
+    private static final int SIZE_BYTES = 24;
+    private static final int STRINGS = 32;
+    private static final int VIDEO_RATING = 40;
+    private static final int AUDIO_RATING = 48;
+    private static final int NUM_RATINGS = 56;
+    private static final int COMMENTS = 60;
+    private static final int TV_SEASON = 64;
+    private static final int TV_EPISODE = 68;
+    private static final int SIZE_NUMBER = 72;
+    private static final int EXT_INFO_RATING = 88;
+    private static final int EXT_INFO_NUM_RATINGS = 96;
+    private static final int SIZE_MB = 104;
+    
+    private static final byte[] EMPTY_RECORD = new byte[RECORD_SIZE];
+    
+    private static final byte KIND_SCENE = 1;
+    private static final byte KIND_P2P = 2;
+    
+    private static final int HAS_EXT_INFO = 1;
+    private static final int HAS_SIZE = 1 << 1;
+    private static final int HAS_FLAGS = 1 << 2;
+    private static final int HAS_CATEGORY = 1 << 3;
+    private static final int HAS_GROUP = 1 << 4;
+    
+    private static final int ID = 0;
+    private static final int DIRNAME = 1;
+    private static final int LINK_HREF = 2;
+    private static final int EXT_INFO_TYPE = 3;
+    private static final int EXT_INFO_ID = 4;
+    private static final int EXT_INFO_TITLE = 5;
+    private static final int EXT_INFO_LINK_HREF = 6;
+    private static final int GROUP_NAME = 7;
+    private static final int NUKE_REASON = 8;
+    private static final int SIZE_UNIT = 9;
+    private static final int VIDEO_TYPE = 10;
+    private static final int AUDIO_TYPE = 11;
+    private static final int PROOF_URL = 12;
+    private static final int MAIN_LANG = 7;
+    private static final int CATEGORY_META_CAT = 8;
+    private static final int CATEGORY_SUB_CAT = 9;
+    private static final int CATEGORY_ID = 10;
+    private static final int GROUP_ID = 11;
+    private static final int P2P_GROUP_NAME = 12;
+    private static final int STRING_COUNT = 13;
+    
+    private final Path directory;
+    private final MappedFile records;
+    private final MappedFile strings;
+    private final HashIndex idIndex;
+    private final HashIndex dirnameIndex;
+    private volatile long size;
+    private long stringsEnd;
+    
+    private ReleaseArchive(Path directory) throws IOException {
+        this.directory = directory;
+        this.records = new MappedFile(directory.resolve("records.dat"));
+        this.strings = new MappedFile(directory.resolve("strings.dat"));
+        final int magic = records.getInt(0);
+        if (magic == 0) {
+            records.putInt(0, MAGIC);
+            records.putInt(4, VERSION);
+            records.putLong(HEADER_SIZE_OFFSET, 0);
+            records.putLong(HEADER_STRINGS_END_OFFSET, Long.BYTES);
+        } else if (magic != MAGIC || records.getInt(4) != VERSION) {
+            records.close();
+            strings.close();
+            throw new IOException(directory + " is not a release archive of version " + VERSION);
+        }
+        this.size = records.getLong(HEADER_SIZE_OFFSET);
+        this.stringsEnd = records.getLong(HEADER_STRINGS_END_OFFSET);
+        this.idIndex = new HashIndex(directory.resolve("id.idx"), row -> readString(recordPosition(row), ID));
+        this.dirnameIndex = new HashIndex(directory.resolve("dirname.idx"), row -> readString(recordPosition(row), DIRNAME));
+        rebuildIfIncomplete(idIndex, ID);
+        rebuildIfIncomplete(dirnameIndex, DIRNAME);
+    }
+    
+    /**
+     * Opens the ReleaseArchive in the given directory, creating it if it doesn't exist.
+     *
+     * @param directory The directory of the ReleaseArchive
+     *
+     * @return The opened ReleaseArchive
+     * @throws IOException if the files can't be opened or don't contain a ReleaseArchive
+     */
+    public static ReleaseArchive open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new ReleaseArchive(directory);
+    }
+    
+    /**
+     * Appends the given release as a new row.
+     *
+     * @param release The {@link Release} or {@link P2pRelease} to append
+     *
+     * @return The row ID of the appended release
+     * @throws IOException if the files can't be extended
+     */
+    public synchronized long append(ReleaseBase release) throws IOException {
+        final long row = size;
+        if (row >= Integer.MAX_VALUE - 1) {
+            throw new IOException("Release archive is full");
+        }
+        final String[] values = new String[STRING_COUNT];
+        values[ID] = release.getId();
+        values[DIRNAME] = release.getDirname();
+        values[LINK_HREF] = release.getLinkHref();
+        final long position = HEADER_SIZE + row * RECORD_SIZE;
+        // The record may contain data of an interrupted append
+        records.putBytes(position, EMPTY_RECORD);
+        int presence = 0;
+        final ExtInfo extInfo = release.getExtInfo();
+        if (extInfo != null) {
+            presence |= HAS_EXT_INFO;
+            values[EXT_INFO_TYPE] = extInfo.getType();
+            values[EXT_INFO_ID] = extInfo.getId();
+            values[EXT_INFO_TITLE] = extInfo.getTitle();
+            values[EXT_INFO_LINK_HREF] = extInfo.getLinkHref();
+            records.putDouble(position + EXT_INFO_RATING, extInfo.getRating());
+            records.putLong(position + EXT_INFO_NUM_RATINGS, extInfo.getNumRatings());
+        }
+        if (release instanceof Release scene) {
+            records.putByte(position + KIND, KIND_SCENE);
+            records.putLong(position + TIME, scene.getTime());
+            values[GROUP_NAME] = scene.getGroupName();
+            values[NUKE_REASON] = scene.getNukeReason();
+            values[VIDEO_TYPE] = scene.getVideoType();
+            values[AUDIO_TYPE] = scene.getAudioType();
+            values[PROOF_URL] = scene.getProofUrl();
+            if (scene.getSize() != null) {
+                presence |= HAS_SIZE;
+                records.putInt(position + SIZE_NUMBER, scene.getSize().getNumber());
+                values[SIZE_UNIT] = scene.getSize().getUnit();
+            }
+            final ReleaseFlags flags = scene.getReleaseFlags();
+            if (flags != null) {
+                presence |= HAS_FLAGS;
+                records.putInt(position + FLAGS, flags.bits() | flags.presentBits() << 16);
+            }
+        } else if (release instanceof P2pRelease p2p) {
+            records.putByte(position + KIND, KIND_P2P);
+            records.putLong(position + TIME, p2p.getPubTime());
+            records.putLong(position + POST_TIME, p2p.getPostTime());
+            records.putLong(position + SIZE_MB, p2p.getSizeMb());
+            values[MAIN_LANG] = p2p.getMainLang();
+            if (p2p.getCategory() != null) {
+                presence |= HAS_CATEGORY;
+                values[CATEGORY_META_CAT] = p2p.getCategory().getMetaCat();
+                values[CATEGORY_SUB_CAT] = p2p.getCategory().getSubCat();
+                values[CATEGORY_ID] = p2p.getCategory().getId();
+            }
+            if (p2p.getGroup() != null) {
+                presence |= HAS_GROUP;
+                values[GROUP_ID] = p2p.getGroup().id();
+                values[P2P_GROUP_NAME] = p2p.getGroup().name();
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported release type " + release.getClass().getName());
+        }
+        records.putByte(position + PRESENCE, (byte) presence);
+        records.putLong(position + SIZE_BYTES, release.getSizeBytes());
+        records.putDouble(position + VIDEO_RATING, release.getVideoRating());
+        records.putDouble(position + AUDIO_RATING, release.getAudioRating());
+        records.putInt(position + NUM_RATINGS, release.getNumRatings());
+        records.putInt(position + COMMENTS, release.getComments());
+        records.putInt(position + TV_SEASON, release.getTvSeason());
+        records.putInt(position + TV_EPISODE, release.getTvEpisode());
+        records.putLong(position + STRINGS, writeStrings(values));
+        
+        if (values[ID] != null) {
+            idIndex.put(values[ID], row);
+        }
+        if (values[DIRNAME] != null) {
+            dirnameIndex.put(values[DIRNAME], row);
+        }
+        // The header is written last, so a row is only visible after reopening once it is complete
+        records.putLong(HEADER_STRINGS_END_OFFSET, stringsEnd);
+        records.putLong(HEADER_SIZE_OFFSET, row + 1);
+        size = row + 1;
+        return row;
+    }
+    
+    /**
+     * Appends all given releases as new rows.
+     *
+     * @param releases The {@link Release} or {@link P2pRelease} objects to append
+     *
+     * @throws IOException if the files can't be extended
+     */
+    public synchronized void appendAll(Collection<? extends ReleaseBase> releases) throws IOException {
+        for (ReleaseBase release : releases) {
+            append(release);
+        }
+    }
+    
+    /**
+     * Gets the number of rows in this ReleaseArchive.
+     *
+     * @return The number of rows
+     */
+    public long size() {
+        return size;
+    }
+    
+    /**
+     * Finds the latest row of the release with the given API ID.
+     *
+     * @param id The API ID of the release
+     *
+     * @return The row ID or {@code -1} if there is no release with this ID
+     */
+    public synchronized long findById(String id) {
+        return idIndex.get(id, size);
+    }
+    
+    /**
+     * Finds the latest row of the release with the given dirname.
+     *
+     * @param dirname The dirname of the release
+     *
+     * @return The row ID or {@code -1} if there is no release with this dirname
+     */
+    public synchronized long findByDirname(String dirname) {
+        return dirnameIndex.get(dirname, size);
+    }
+    
+    /**
+     * Gets the latest release with the given API ID.
+     *
+     * @param id The API ID of the release
+     *
+     * @return The {@link Release} or {@link P2pRelease}, {@code null} if there is none
+     */
+    public ReleaseBase getById(String id) {
+        final long row = findById(id);
+        return row < 0 ? null : get(row);
+    }
+    
+    /**
+     * Gets the latest release with the given dirname.
+     *
+     * @param dirname The dirname of the release
+     *
+     * @return The {@link Release} or {@link P2pRelease}, {@code null} if there is none
+     */
+    public ReleaseBase getByDirname(String dirname) {
+        final long row = findByDirname(dirname);
+        return row < 0 ? null : get(row);
+    }
+    
+    /**
+     * Reads the release of the given row into a new {@link Release} or {@link P2pRelease}.
+     *
+     * @param row The row ID
+     *
+     * @return The {@link Release} or {@link P2pRelease}
+     */
+    public ReleaseBase get(long row) {
+        final long position = recordPosition(row);
+        final String[] values = readStrings(records.getLong(position + STRINGS));
+        final int presence = records.getByte(position + PRESENCE);
+        final ReleaseBase release;
+        if (records.getByte(position + KIND) == KIND_P2P) {
+            final P2pRelease p2p = new P2pRelease();
+            p2p.setPubTime(records.getLong(position + TIME));
+            p2p.setPostTime(records.getLong(position + POST_TIME));
+            p2p.setSizeMb(records.getLong(position + SIZE_MB));
+            p2p.setMainLang(values[MAIN_LANG]);
+            if ((presence & HAS_CATEGORY) != 0) {
+                final P2pCategory category = new P2pCategory();
+                category.setMetaCat(values[CATEGORY_META_CAT]);
+                category.setSubCat(values[CATEGORY_SUB_CAT]);
+                category.setId(values[CATEGORY_ID]);
+                p2p.setCategory(category);
+            }
+            if ((presence & HAS_GROUP) != 0) {
+                p2p.setGroup(new P2pGroup(values[GROUP_ID], values[P2P_GROUP_NAME]));
+            }
+            release = p2p;
+        } else {
+            final Release scene = new Release();
+            scene.setTime(records.getLong(position + TIME));
+            scene.setGroupName(values[GROUP_NAME]);
+            scene.setNukeReason(values[NUKE_REASON]);
+            scene.setVideoType(values[VIDEO_TYPE]);
+            scene.setAudioType(values[AUDIO_TYPE]);
+            scene.setProofUrl(values[PROOF_URL]);
+            if ((presence & HAS_SIZE) != 0) {
+                final Size releaseSize = new Size();
+                releaseSize.setNumber(records.getInt(position + SIZE_NUMBER));
+                releaseSize.setUnit(values[SIZE_UNIT]);
+                scene.setSize(releaseSize);
+            }
+            if ((presence & HAS_FLAGS) != 0) {
+                final int flags = records.getInt(position + FLAGS);
+                scene.setReleaseFlags(ReleaseFlags.of(flags & 0xFFFF, flags >>> 16, null));
+            }
+            release = scene;
+        }
+        release.setId(values[ID]);
+        release.setDirname(values[DIRNAME]);
+        release.setLinkHref(values[LINK_HREF]);
+        release.setVideoRating(records.getDouble(position + VIDEO_RATING));
+        release.setAudioRating(records.getDouble(position + AUDIO_RATING));
+        release.setNumRatings(records.getInt(position + NUM_RATINGS));
+        release.setComments(records.getInt(position + COMMENTS));
+        release.setTvSeason(records.getInt(position + TV_SEASON));
+        release.setTvEpisode(records.getInt(position + TV_EPISODE));
+        if ((presence & HAS_EXT_INFO) != 0) {
+            final ExtInfo extInfo = new ExtInfo();
+            extInfo.setType(values[EXT_INFO_TYPE]);
+            extInfo.setId(values[EXT_INFO_ID]);
+            extInfo.setTitle(values[EXT_INFO_TITLE]);
+            extInfo.setLinkHref(values[EXT_INFO_LINK_HREF]);
+            extInfo.setRating(records.getDouble(position + EXT_INFO_RATING));
+            extInfo.setNumRatings(records.getLong(position + EXT_INFO_NUM_RATINGS));
+            release.setExtInfo(extInfo);
+        }
+        return release;
+    }
+    
+    /**
+     * Checks if the given row contains a {@link P2pRelease}.
+     *
+     * @param row The row ID
+     *
+     * @return {@code true} if the row contains a {@link P2pRelease}, {@code false} otherwise
+     */
+    public boolean isP2p(long row) {
+        return records.getByte(recordPosition(row) + KIND) == KIND_P2P;
+    }
+    
+    /**
+     * Gets the API ID of the given row without reading the whole release.
+     *
+     * @param row The row ID
+     *
+     * @return The API ID
+     */
+    public String getId(long row) {
+        return readString(recordPosition(row), ID);
+    }
+    
+    /**
+     * Gets the dirname of the given row without reading the whole release.
+     *
+     * @param row The row ID
+     *
+     * @return The dirname
+     */
+    public String getDirname(long row) {
+        return readString(recordPosition(row), DIRNAME);
+    }
+    
+    /**
+     * Gets the time of the given row without reading the whole release. This is the pre time of a
+     * {@link Release} and the publish time of a {@link P2pRelease}.
+     *
+     * @param row The row ID
+     *
+     * @return The timestamp
+     */
+    public long getTime(long row) {
+        return records.getLong(recordPosition(row) + TIME);
+    }
+    
+    /**
+     * Gets the size in bytes of the given row without reading the whole release.
+     *
+     * @param row The row ID
+     *
+     * @return The size in bytes or {@code -1} if not available
+     */
+    public long getSizeBytes(long row) {
+        return records.getLong(recordPosition(row) + SIZE_BYTES);
+    }
+    
+    /**
+     * Writes all appended rows and indexes to disk.
+     *
+     * @throws IOException if the files can't be written
+     */
+    public synchronized void flush() throws IOException {
+        strings.force();
+        idIndex.force();
+        dirnameIndex.force();
+        records.force();
+    }
+    
+    /**
+     * Flushes and closes this ReleaseArchive.
+     *
+     * @throws IOException if the files can't be written or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        idIndex.close();
+        dirnameIndex.close();
+        strings.close();
+        records.close();
+    }
+    
+    private void rebuildIfIncomplete(HashIndex index, int key) throws IOException {
+        // An index covering more rows is left over from an interrupted append, which put ignores
+        if (index.getRows() >= size) {
+            return;
+        }
+        index.clear();
+        for (long row = 0; row < size; row++) {
+            final String value = readString(recordPosition(row), key);
+            if (value != null) {
+                index.put(value, row);
+            }
+        }
+    }
+    
+    private long recordPosition(long row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+        return HEADER_SIZE + row * RECORD_SIZE;
+    }
+    
+    private String readString(long recordPosition, int index) {
+        long position = records.getLong(recordPosition + STRINGS) + Short.BYTES;
+        for (int i = 0; i < index; i++) {
+            final int length = strings.getInt(position);
+            position += Integer.BYTES + Math.max(length, 0);
+        }
+        final int length = strings.getInt(position);
+        return length < 0 ? null : new String(strings.getBytes(position + Integer.BYTES, length), StandardCharsets.UTF_8);
+    }
+    
+    private String[] readStrings(long position) {
+        final String[] values = new String[STRING_COUNT];
+        final int count = Math.min(strings.getShort(position), STRING_COUNT);
+        position += Short.BYTES;
+        for (int i = 0; i < count; i++) {
+            final int length = strings.getInt(position);
+            position += Integer.BYTES;
+            if (length >= 0) {
+                values[i] = new String(strings.getBytes(position, length), StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+        return values;
+    }
+    
+    private long writeStrings(String[] values) throws IOException {
+        final byte[][] encoded = new byte[values.length][];
+        int length = Short.BYTES;
+        for (int i = 0; i < values.length; i++) {
+            length += Integer.BYTES;
+            if (values[i] != null) {
+                encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+                length += encoded[i].length;
+            }
+        }
+        if (length > SEGMENT_SIZE) {
+            throw new IOException("Release is too large to be archived");
+        }
+        long position = stringsEnd;
+        if ((position & SEGMENT_MASK) + length > SEGMENT_SIZE) {
+            // Blocks never span two segments
+            position = (position | SEGMENT_MASK) + 1;
+        }
+        final long start = position;
+        strings.putShort(position, (short) values.length);
+        position += Short.BYTES;
+        for (byte[] bytes : encoded) {
+            strings.putInt(position, bytes == null ? -1 : bytes.length);
+            position += Integer.BYTES;
+            if (bytes != null) {
+                strings.putBytes(position, bytes);
+                position += bytes.length;
+            }
+        }
+        stringsEnd = position;
+        return start;
+    }
+    
+    @Override
+    public String toString() {
+        return "ReleaseArchive [directory=" + directory + ", size()=" + size() + "]";
+    }
+    
+    /**
+     * Open-addressing hash index from a key to the latest row with this key. Each slot holds the
+     * hash of the key in its upper and the row ID plus one in its lower 32 bits, so rehashing
+     * doesn't need to read any keys. The header also stores the number of rows the index covers,
+     * so an index lagging behind the records can be detected.
+     */
+    private static final class HashIndex implements Closeable {
+        
+        private static final long INITIAL_CAPACITY = 1L << 16;
+        private static final long CAPACITY_OFFSET = 0;
+        private static final long MAX_CAPACITY = 1L << 32;
+        private static final long COUNT_OFFSET = 8;
+        private static final long ROWS_OFFSET = 16;
+        private static final long SLOTS_OFFSET = 64;
+        
+        private final Path path;
+        private final LongFunction<String> keyReader;
+        private MappedFile file;
+        private long capacity;
+        private long count;
+        
+        private HashIndex(Path path, LongFunction<String> keyReader) throws IOException {
+            this.path = path;
+            this.keyReader = keyReader;
+            // Left over from an interrupted rehash
+            Files.deleteIfExists(tempPath());
+            this.file = new MappedFile(path);
+            // The length must be checked before the first access maps and thereby extends the file
+            final long length = file.length();
+            this.capacity = length < SLOTS_OFFSET ? 0 : file.getLong(CAPACITY_OFFSET);
+            this.count = length < SLOTS_OFFSET ? 0 : file.getLong(COUNT_OFFSET);
+            if (capacity < INITIAL_CAPACITY || capacity > MAX_CAPACITY || Long.bitCount(capacity) != 1
+                    || count < 0 || count * 2 > capacity || length < SLOTS_OFFSET + capacity * Long.BYTES) {
+                clear();
+            }
+        }
+        
+        private Path tempPath() {
+            return path.resolveSibling(path.getFileName() + ".tmp");
+        }
+        
+        private long getRows() {
+            return file.getLong(ROWS_OFFSET);
+        }
+        
+        private void clear() throws IOException {
+            file.close();
+            Files.delete(path);
+            file = new MappedFile(path);
+            capacity = INITIAL_CAPACITY;
+            count = 0;
+            file.putLong(CAPACITY_OFFSET, capacity);
+            file.putLong(COUNT_OFFSET, count);
+            file.putLong(ROWS_OFFSET, 0);
+        }
+        
+        private static int hash(String key) {
+            final int hash = key.hashCode() * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+        
+        private long get(String key, long limit) {
+            if (key == null) {
+                return -1;
+            }
+            final int hash = hash(key);
+            final long mask = capacity - 1;
+            for (long slotIndex = hash & mask; ; slotIndex = (slotIndex + 1) & mask) {
+                final long slot = file.getLong(SLOTS_OFFSET + slotIndex * Long.BYTES);
+                if (slot == 0) {
+                    return -1;
+                }
+                final long row = (slot & 0xFFFFFFFFL) - 1;
+                if ((int) (slot >>> 32) == hash && row < limit && key.equals(keyReader.apply(row))) {
+                    return row;
+                }
+            }
+        }
+        
+        private void put(String key, long row) throws IOException {
+            if ((count + 1) * 2 > capacity) {
+                rehash(capacity * 2);
+            }
+            final int hash = hash(key);
+            final long mask = capacity - 1;
+            final long newSlot = (long) hash << 32 | (row + 1);
+            for (long slotIndex = hash & mask; ; slotIndex = (slotIndex + 1) & mask) {
+                final long position = SLOTS_OFFSET + slotIndex * Long.BYTES;
+                final long slot = file.getLong(position);
+                if (slot == 0) {
+                    file.putLong(position, newSlot);
+                    file.putLong(COUNT_OFFSET, ++count);
+                    break;
+                }
+                final long existingRow = (slot & 0xFFFFFFFFL) - 1;
+                // Rows at or beyond the appended row are left over from an interrupted append
+                if ((int) (slot >>> 32) == hash && (existingRow >= row || key.equals(keyReader.apply(existingRow)))) {
+                    file.putLong(position, newSlot);
+                    break;
+                }
+            }
+            file.putLong(ROWS_OFFSET, row + 1);
+        }
+        
+        private void rehash(long newCapacity) throws IOException {
+            if (newCapacity > MAX_CAPACITY) {
+                throw new IOException("Index " + path + " is full");
+            }
+            final Path tempPath = tempPath();
+            Files.deleteIfExists(tempPath);
+            final MappedFile newFile = new MappedFile(tempPath);
+            try {
+                final long mask = newCapacity - 1;
+                for (long slotIndex = 0; slotIndex < capacity; slotIndex++) {
+                    final long slot = file.getLong(SLOTS_OFFSET + slotIndex * Long.BYTES);
+                    if (slot == 0) {
+                        continue;
+                    }
+                    long newIndex = (slot >>> 32) & mask;
+                    while (newFile.getLong(SLOTS_OFFSET + newIndex * Long.BYTES) != 0) {
+                        newIndex = (newIndex + 1) & mask;
+                    }
+                    newFile.putLong(SLOTS_OFFSET + newIndex * Long.BYTES, slot);
+                }
+                newFile.putLong(COUNT_OFFSET, count);
+                newFile.putLong(ROWS_OFFSET, getRows());
+                newFile.putLong(CAPACITY_OFFSET, newCapacity);
+                newFile.force();
+            } catch (RuntimeException e) {
+                newFile.close();
+                Files.deleteIfExists(tempPath);
+                throw e;
+            }
+            newFile.close();
+            file.close();
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                capacity = newCapacity;
+            } finally {
+                // Either the new file or, if moving failed, the unchanged old file
+                file = new MappedFile(path);
+            }
+        }
+        
+        private void force() {
+            file.force();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+        
+    }
+    
+    /**
+     * File mapped into memory in segments of {@link #SEGMENT_SIZE} bytes, growing on demand.
+     * Values must not span two segments.
+     */
+    private static final class MappedFile implements Closeable {
+        
+        private final FileChannel channel;
+        private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+        
+        private MappedFile(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        
+        private MappedByteBuffer segment(long position) {
+            final int index = (int) (position >>> SEGMENT_SHIFT);
+            final MappedByteBuffer[] current = segments;
+            if (index < current.length && current[index] != null) {
+                return current[index];
+            }
+            return map(index);
+        }
+        
+        private synchronized MappedByteBuffer map(int index) {
+            MappedByteBuffer[] current = segments;
+            if (index < current.length && current[index] != null) {
+                return current[index];
+            }
+            current = Arrays.copyOf(current, Math.max(current.length, index + 1));
+            try {
+                current[index] = channel.map(FileChannel.MapMode.READ_WRITE, index * SEGMENT_SIZE, SEGMENT_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segments = current;
+            return current[index];
+        }
+        
+        private byte getByte(long position) {
+            return segment(position).get((int) (position & SEGMENT_MASK));
+        }
+        
+        private short getShort(long position) {
+            return segment(position).getShort((int) (position & SEGMENT_MASK));
+        }
+        
+        private int getInt(long position) {
+            return segment(position).getInt((int) (position & SEGMENT_MASK));
+        }
+        
+        private long getLong(long position) {
+            return segment(position).getLong((int) (position & SEGMENT_MASK));
+        }
+        
+        private double getDouble(long position) {
+            return segment(position).getDouble((int) (position & SEGMENT_MASK));
+        }
+        
+        private byte[] getBytes(long position, int length) {
+            final byte[] bytes = new byte[length];
+            segment(position).get((int) (position & SEGMENT_MASK), bytes);
+            return bytes;
+        }
+        
+        private void putByte(long position, byte value) {
+            segment(position).put((int) (position & SEGMENT_MASK), value);
+        }
+        
+        private void putShort(long position, short value) {
+            segment(position).putShort((int) (position & SEGMENT_MASK), value);
+        }
+        
+        private void putInt(long position, int value) {
+            segment(position).putInt((int) (position & SEGMENT_MASK), value);
+        }
+        
+        private void putLong(long position, long value) {
+            segment(position).putLong((int) (position & SEGMENT_MASK), value);
+        }
+        
+        private void putDouble(long position, double value) {
+            segment(position).putDouble((int) (position & SEGMENT_MASK), value);
+        }
+        
+        private void putBytes(long position, byte[] bytes) {
+            segment(position).put((int) (position & SEGMENT_MASK), bytes);
+        }
+        
+        private long length() throws IOException {
+            return channel.size();
+        }
+        
+        private void force() {
+            for (MappedByteBuffer segment : segments) {
+                if (segment != null) {
+                    segment.force();
+                }
+            }
+        }
+        
+        @Override
+        public void close() throws IOException {
+            // Mappings can't be released explicitly, dropping them lets them be unmapped once collected
+            segments = new MappedByteBuffer[0];
+            channel.close();
+        }
+        
+    }
+    
+}
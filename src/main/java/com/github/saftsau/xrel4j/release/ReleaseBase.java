@@ -17,12 +17,16 @@
 
 package com.github.saftsau.xrel4j.release;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.CanonicalExtInfoDeserializer;
 import com.github.saftsau.xrel4j.extinfo.ExtInfo;
 import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
 import com.github.saftsau.xrel4j.release.scene.Release;
 
 import java.io.Serializable;
+import java.util.Comparator;
 
 /**
  * Class represents a base release which contains information shared by {@link Release} and
@@ -30,6 +34,12 @@ import java.io.Serializable;
  */
 public abstract class ReleaseBase implements Serializable {
 
+  /**
+   * Orders releases by {@link #getSizeBytes()}, releases without a known size first.
+   */
+  public static final Comparator<ReleaseBase> BY_SIZE =
+      Comparator.comparingLong(ReleaseBase::getSizeBytes);
+
   private String id;
   private String dirname;
   @JsonProperty("link_href")
@@ -41,6 +51,7 @@ public abstract class ReleaseBase implements Serializable {
   @JsonProperty("audio_rating")
   private double audioRating;
   @JsonProperty("ext_info")
+  @JsonDeserialize(using = CanonicalExtInfoDeserializer.class)
   private ExtInfo extInfo;
   @JsonProperty("tv_season")
   private int tvSeason;
@@ -157,7 +168,9 @@ public abstract class ReleaseBase implements Serializable {
   }
 
   /**
-   * Gets the ExtInfo associated with this Release. Is never {@code null}.
+   * Gets the ExtInfo associated with this Release. Is never {@code null}. If an
+   * {@link com.github.saftsau.xrel4j.extinfo.ExtInfoCache} is installed, this instance may be shared
+   * with other releases.
    * 
    * @return The ExtInfo
    */
@@ -228,6 +241,19 @@ public abstract class ReleaseBase implements Serializable {
     this.comments = comments;
   }
 
+  /**
+   * Gets the size of this release in bytes, normalized once when the size is set. {@code -1} if
+   * not available, which is all this base class knows. {@link Release} and {@link P2pRelease}
+   * override it with their size.
+   * 
+   * @return The size in bytes
+   * @see SizeRange
+   */
+  @JsonIgnore
+  public long getSizeBytes() {
+    return -1;
+  }
+
   @Override
   public String toString() {
     return "ReleaseBase [getId()=" + getId() + ", getDirname()=" + getDirname() + ", getLinkHref()="
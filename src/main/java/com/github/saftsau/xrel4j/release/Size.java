@@ -17,13 +17,16 @@
 
 package com.github.saftsau.xrel4j.release;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
 import com.github.saftsau.xrel4j.converters.SizeNumberToStringConverter;
 import com.github.saftsau.xrel4j.converters.StringToSizeNumberConverter;
 import com.github.saftsau.xrel4j.release.scene.Release;
 
 import java.io.Serializable;
+import java.util.Locale;
 
 /**
  * Class represents a size as used in {@link Release} objects.
@@ -39,7 +42,9 @@ public class Size implements Serializable {
   @JsonSerialize(converter = SizeNumberToStringConverter.class)
   @JsonDeserialize(converter = StringToSizeNumberConverter.class)
   private int number;
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String unit;
+  private long bytes = -1;
 
   /**
    * Gets the number of the size. {@code -1} if not retrieved.
@@ -57,6 +62,7 @@ public class Size implements Serializable {
    */
   public void setNumber(int number) {
     this.number = number;
+    this.bytes = toBytes(number, unit);
   }
 
   /**
@@ -75,11 +81,48 @@ public class Size implements Serializable {
    */
   public void setUnit(String unit) {
     this.unit = unit;
+    this.bytes = toBytes(number, unit);
+  }
+
+  /**
+   * Gets the size in bytes, computed once from number and unit. Units are interpreted as binary
+   * multiples, e.g. {@code 1 MB = 1024 * 1024} bytes. {@code -1} if number or unit are not
+   * retrieved, unknown or one of the {@code SIZE_*} constants.
+   * 
+   * @return The size in bytes
+   */
+  @JsonIgnore
+  public long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Converts the given number and unit to bytes. Units are interpreted case-insensitively as
+   * binary multiples.
+   * 
+   * @param number The size number
+   * @param unit The size's unit, e.g. {@code MB} or {@code GB}
+   * @return The size in bytes or {@code -1} if number or unit can't be converted
+   */
+  public static long toBytes(long number, String unit) {
+    if (number < 0 || unit == null) {
+      return -1;
+    }
+    final int shift = switch (unit.toUpperCase(Locale.ROOT)) {
+      case "B" -> 0;
+      case "KB", "KIB" -> 10;
+      case "MB", "MIB" -> 20;
+      case "GB", "GIB" -> 30;
+      case "TB", "TIB" -> 40;
+      default -> -1;
+    };
+    return shift < 0 ? -1 : number << shift;
   }
 
   @Override
   public String toString() {
-    return "Size [getNumber()=" + getNumber() + ", getUnit()=" + getUnit() + "]";
+    return "Size [getNumber()=" + getNumber() + ", getUnit()=" + getUnit() + ", getBytes()="
+        + getBytes() + "]";
   }
 
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release;
+
+import java.util.function.Predicate;
+
+/**
+ * Record represents an inclusive range of sizes in bytes to filter releases by
+ * {@link ReleaseBase#getSizeBytes()}. Releases without a known size never match. Combine it with
+ * other filters for range queries, e.g.
+ * {@code releases.stream().filter(SizeRange.ofGigabytes(4, 10)).filter(release -> "1080p".equals(release.getVideoType()))}.
+ *
+ * @param minBytes The minimum size in bytes, inclusive
+ * @param maxBytes The maximum size in bytes, inclusive
+ */
+public record SizeRange(long minBytes, long maxBytes) implements Predicate<ReleaseBase> {
+    
+    private static final long MEGABYTE = 1L << 20;
+    private static final long GIGABYTE = 1L << 30;
+    
+    public SizeRange {
+        if (minBytes < 0 || maxBytes < minBytes) {
+            throw new IllegalArgumentException("Invalid size range " + minBytes + " - " + maxBytes);
+        }
+    }
+    
+    /**
+     * Creates a SizeRange between the given sizes in MB.
+     *
+     * @param minMegabytes The minimum size in MB, inclusive
+     * @param maxMegabytes The maximum size in MB, inclusive
+     *
+     * @return The SizeRange
+     */
+    public static SizeRange ofMegabytes(long minMegabytes, long maxMegabytes) {
+        return new SizeRange(minMegabytes * MEGABYTE, maxMegabytes * MEGABYTE);
+    }
+    
+    /**
+     * Creates a SizeRange between the given sizes in GB.
+     *
+     * @param minGigabytes The minimum size in GB, inclusive
+     * @param maxGigabytes The maximum size in GB, inclusive
+     *
+     * @return The SizeRange
+     */
+    public static SizeRange ofGigabytes(long minGigabytes, long maxGigabytes) {
+        return new SizeRange(minGigabytes * GIGABYTE, maxGigabytes * GIGABYTE);
+    }
+    
+    /**
+     * Creates a SizeRange of all sizes greater than or equal to the given size in bytes.
+     *
+     * @param minBytes The minimum size in bytes, inclusive
+     *
+     * @return The SizeRange
+     */
+    public static SizeRange atLeast(long minBytes) {
+        return new SizeRange(minBytes, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Creates a SizeRange of all known sizes less than or equal to the given size in bytes.
+     *
+     * @param maxBytes The maximum size in bytes, inclusive
+     *
+     * @return The SizeRange
+     */
+    public static SizeRange atMost(long maxBytes) {
+        return new SizeRange(0, maxBytes);
+    }
+    
+    /**
+     * Checks if the given size in bytes is within this SizeRange.
+     *
+     * @param bytes The size in bytes, negative if unknown
+     *
+     * @return {@code true} if the size is within this SizeRange, {@code false} otherwise
+     */
+    public boolean contains(long bytes) {
+        return bytes >= minBytes && bytes <= maxBytes;
+    }
+    
+    /**
+     * Checks if the size of the given release is within this SizeRange.
+     *
+     * @param release The release to check
+     *
+     * @return {@code true} if the size is within this SizeRange, {@code false} otherwise
+     */
+    @Override
+    public boolean test(ReleaseBase release) {
+        return contains(release.getSizeBytes());
+    }
+    
+}
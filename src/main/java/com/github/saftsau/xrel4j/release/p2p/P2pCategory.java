@@ -18,6 +18,8 @@
 package com.github.saftsau.xrel4j.release.p2p;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
 
 import java.io.Serializable;
 
@@ -27,9 +29,12 @@ import java.io.Serializable;
 public class P2pCategory implements Serializable {
 
   @JsonProperty("meta_cat")
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String metaCat;
   @JsonProperty("sub_cat")
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String subCat;
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String id;
 
   /**
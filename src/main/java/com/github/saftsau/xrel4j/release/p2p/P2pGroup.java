@@ -17,6 +17,9 @@
 
 package com.github.saftsau.xrel4j.release.p2p;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
+
 import java.io.Serializable;
 
 /**
@@ -25,6 +28,7 @@ import java.io.Serializable;
  * @param id of the {@link P2pGroup}
  * @param name of the {@link P2pGroup}
  */
-public record P2pGroup(String id, String name) implements Serializable {
+public record P2pGroup(@JsonDeserialize(using = InterningStringDeserializer.class) String id,
+                       @JsonDeserialize(using = InterningStringDeserializer.class) String name) implements Serializable {
 
 }
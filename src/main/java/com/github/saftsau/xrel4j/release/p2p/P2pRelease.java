@@ -17,8 +17,12 @@
 
 package com.github.saftsau.xrel4j.release.p2p;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
 import com.github.saftsau.xrel4j.release.ReleaseBase;
+import com.github.saftsau.xrel4j.release.Size;
 
 import java.io.Serializable;
 
@@ -29,6 +33,7 @@ public class P2pRelease extends ReleaseBase implements Serializable {
 
   private P2pCategory category;
   @JsonProperty("main_lang")
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String mainLang;
   @JsonProperty("pub_time")
   private long pubTime;
@@ -36,6 +41,7 @@ public class P2pRelease extends ReleaseBase implements Serializable {
   private long postTime;
   @JsonProperty("size_mb")
   private long sizeMb;
+  private long sizeBytes = -1;
   private P2pGroup group;
 
   /**
@@ -126,6 +132,13 @@ public class P2pRelease extends ReleaseBase implements Serializable {
    */
   public void setSizeMb(long sizeMb) {
     this.sizeMb = sizeMb;
+    this.sizeBytes = Size.toBytes(sizeMb, "MB");
+  }
+
+  @Override
+  @JsonIgnore
+  public long getSizeBytes() {
+    return sizeBytes;
   }
 
   /**
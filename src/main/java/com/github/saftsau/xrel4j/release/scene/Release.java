@@ -17,12 +17,16 @@
 
 package com.github.saftsau.xrel4j.release.scene;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
 import com.github.saftsau.xrel4j.release.ReleaseBase;
 import com.github.saftsau.xrel4j.release.Size;
 
 import java.io.Serializable;
 import java.util.Map;
+
 /**
  * Class represents a release with all its information provided by the xREL API.
  */
@@ -30,17 +34,21 @@ public class Release extends ReleaseBase implements Serializable {
 
   private long time;
   @JsonProperty("group_name")
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String groupName;
   @JsonProperty("nuke_reason")
   private String nukeReason;
   private Size size;
   @JsonProperty("video_type")
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String videoType;
   @JsonProperty("audio_type")
+  @JsonDeserialize(using = InterningStringDeserializer.class)
   private String audioType;
   @JsonProperty("proof_url")
   private String proofUrl;
-  private Map<String, Boolean> flags;
+  @JsonProperty("flags")
+  private ReleaseFlags flags;
 
   /**
    * Gets the timestamp of when this Release was pred.
@@ -97,6 +105,17 @@ public class Release extends ReleaseBase implements Serializable {
     this.nukeReason = nukeReason;
   }
 
+  /**
+   * Gets whether this Release is nuked, i.e. has a nuke reason. The xREL API doesn't return a flag
+   * for it.
+   * 
+   * @return {@code true} if nuked
+   */
+  @JsonIgnore
+  public boolean isNuked() {
+    return nukeReason != null && !nukeReason.isEmpty();
+  }
+
   /**
    * Gets the size of this Release.
    * 
@@ -115,6 +134,12 @@ public class Release extends ReleaseBase implements Serializable {
     this.size = size;
   }
 
+  @Override
+  @JsonIgnore
+  public long getSizeBytes() {
+    return size == null ? -1 : size.getBytes();
+  }
+
   /**
    * Gets the video type of this release. Can be an empty {@link String} if not retrieved.
    * 
@@ -170,25 +195,58 @@ public class Release extends ReleaseBase implements Serializable {
   }
 
   /**
-   * Gets the flags of this release. Can be an empty HashMap. Possible values are
+   * Gets the flags of this release as unmodifiable Map. Can be an empty Map. Possible values are
    * {@code <top_rls, true>}, {@code <fix_rls, true>}, {@code <read_nfo, true>} and
-   * {@code <english, true>}.
+   * {@code <english, true>}. Use {@link #setFlags(Map)} or {@link #setReleaseFlags(ReleaseFlags)}
+   * to change them.
    * 
    * @return The flags
    */
+  @JsonIgnore
   public Map<String, Boolean> getFlags() {
-    return flags;
+    return flags == null ? null : flags.asMap();
   }
 
   /**
-   * Sets the flags of this release. Can be an empty HashMap. Possible values are
+   * Sets the flags of this release. Can be an empty Map. Possible values are
    * {@code <top_rls, true>}, {@code <fix_rls, true>}, {@code <read_nfo, true>} and
    * {@code <english, true>}.
    * 
    * @param flags The flags to set
    */
+  @JsonIgnore
   public void setFlags(Map<String, Boolean> flags) {
-    this.flags = flags;
+    this.flags = ReleaseFlags.of(flags);
+  }
+
+  /**
+   * Gets the flags of this release as compact {@link ReleaseFlags}.
+   * 
+   * @return The flags
+   */
+  @JsonIgnore
+  public ReleaseFlags getReleaseFlags() {
+    return flags;
+  }
+
+  /**
+   * Sets the flags of this release as compact {@link ReleaseFlags}.
+   * 
+   * @param releaseFlags The flags to set
+   */
+  @JsonIgnore
+  public void setReleaseFlags(ReleaseFlags releaseFlags) {
+    this.flags = releaseFlags;
+  }
+
+  /**
+   * Checks if this release has the given flag set to {@code true}.
+   * 
+   * @param flag The flag to check
+   * @return {@code true} if the flag is set, {@code false} otherwise
+   */
+  public boolean hasFlag(ReleaseFlag flag) {
+    return flags != null && flags.has(flag);
   }
 
   @Override
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release.scene;
+
+/**
+ * Enum represents the known flags a {@link Release} can have.
+ */
+public enum ReleaseFlag {
+    
+    TOP_RLS("top_rls"),
+    FIX_RLS("fix_rls"),
+    READ_NFO("read_nfo"),
+    ENGLISH("english");
+    
+    static final ReleaseFlag[] VALUES = values();
+    
+    private final String value;
+    private final int mask;
+    
+    ReleaseFlag(String value) {
+        this.value = value;
+        this.mask = 1 << ordinal();
+    }
+    
+    /**
+     * Gets the name of this ReleaseFlag as used by the xREL API.
+     *
+     * @return The name
+     */
+    public String getValue() {
+        return value;
+    }
+    
+    /**
+     * Gets the bit of this ReleaseFlag as used by {@link ReleaseFlags#bits()}.
+     *
+     * @return The bit mask
+     */
+    public int mask() {
+        return mask;
+    }
+    
+    /**
+     * Combines the bits of the given ReleaseFlags into one mask, e.g. to be used with
+     * {@link ReleaseFlags#hasAll(int)}.
+     *
+     * @param flags The ReleaseFlags to combine
+     *
+     * @return The combined bit mask
+     */
+    public static int maskOf(ReleaseFlag... flags) {
+        int mask = 0;
+        for (ReleaseFlag flag : flags) {
+            mask |= flag.mask;
+        }
+        return mask;
+    }
+    
+    /**
+     * Gets the ReleaseFlag with the given name as used by the xREL API.
+     *
+     * @param value The name of the ReleaseFlag
+     *
+     * @return The ReleaseFlag or {@code null} if there is no ReleaseFlag with this name
+     */
+    public static ReleaseFlag fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value) {
+            case "top_rls" -> TOP_RLS;
+            case "fix_rls" -> FIX_RLS;
+            case "read_nfo" -> READ_NFO;
+            case "english" -> ENGLISH;
+            default -> null;
+        };
+    }
+    
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release.scene;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.ReleaseFlagsDeserializer;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Class represents the flags of a {@link Release} as a compact, immutable bit set. Flags without
+ * unknown names are canonical, so all releases with the same flags share one instance. Filtering
+ * releases by flags is a bit mask test, e.g.
+ * {@code release.getReleaseFlags().hasAll(ReleaseFlag.maskOf(ReleaseFlag.ENGLISH, ReleaseFlag.READ_NFO))}.
+ * <p>
+ * Flags with names not covered by {@link ReleaseFlag} are kept in a small map, so
+ * {@link #asMap()} always reflects what the xREL API returned.
+ */
+@JsonDeserialize(using = ReleaseFlagsDeserializer.class)
+public final class ReleaseFlags implements Serializable {
+    
+    private static final int FLAG_COUNT = ReleaseFlag.VALUES.length;
+    private static final int ALL_BITS = (1 << FLAG_COUNT) - 1;
+    private static final ReleaseFlags[] CANONICAL = new ReleaseFlags[1 << (2 * FLAG_COUNT)];
+    
+    public static final ReleaseFlags EMPTY = of(0, 0, null);
+    
+    private final int bits;
+    private final int present;
+    private final Map<String, Boolean> unknownFlags;
+    private transient Map<String, Boolean> mapView;
+    
+    private ReleaseFlags(int bits, int present, Map<String, Boolean> unknownFlags) {
+        this.bits = bits;
+        this.present = present;
+        this.unknownFlags = unknownFlags;
+    }
+    
+    /**
+     * Gets the ReleaseFlags for the given bits.
+     *
+     * @param bits The bits of all flags set to {@code true}
+     * @param present The bits of all flags returned at all, {@code true} or {@code false}
+     * @param unknownFlags Flags with names not covered by {@link ReleaseFlag} or {@code null}
+     *
+     * @return The ReleaseFlags
+     */
+    public static ReleaseFlags of(int bits, int present, Map<String, Boolean> unknownFlags) {
+        present = (present | bits) & ALL_BITS;
+        bits &= present;
+        if (unknownFlags != null && !unknownFlags.isEmpty()) {
+            return new ReleaseFlags(bits, present, Collections.unmodifiableMap(new LinkedHashMap<>(unknownFlags)));
+        }
+        final int index = (present << FLAG_COUNT) | bits;
+        ReleaseFlags releaseFlags = CANONICAL[index];
+        if (releaseFlags == null) {
+            // Racing threads may create duplicates, which is harmless as instances are immutable
+            releaseFlags = new ReleaseFlags(bits, present, null);
+            CANONICAL[index] = releaseFlags;
+        }
+        return releaseFlags;
+    }
+    
+    /**
+     * Gets the ReleaseFlags with the given flags set to {@code true}.
+     *
+     * @param flags The flags to set
+     *
+     * @return The ReleaseFlags
+     */
+    public static ReleaseFlags of(ReleaseFlag... flags) {
+        final int mask = ReleaseFlag.maskOf(flags);
+        return of(mask, mask, null);
+    }
+    
+    /**
+     * Converts the given {@link Map} as returned by the xREL API into ReleaseFlags.
+     *
+     * @param flags The flags to convert, can be {@code null}
+     *
+     * @return The ReleaseFlags or {@code null} if the given {@link Map} is {@code null}
+     */
+    public static ReleaseFlags of(Map<String, Boolean> flags) {
+        if (flags == null) {
+            return null;
+        }
+        int bits = 0;
+        int present = 0;
+        Map<String, Boolean> unknownFlags = null;
+        for (Map.Entry<String, Boolean> entry : flags.entrySet()) {
+            final ReleaseFlag flag = ReleaseFlag.fromValue(entry.getKey());
+            final boolean value = Boolean.TRUE.equals(entry.getValue());
+            if (flag == null) {
+                if (unknownFlags == null) {
+                    unknownFlags = new LinkedHashMap<>();
+                }
+                unknownFlags.put(entry.getKey(), value);
+                continue;
+            }
+            present |= flag.mask();
+            if (value) {
+                bits |= flag.mask();
+            }
+        }
+        return of(bits, present, unknownFlags);
+    }
+    
+    /**
+     * Gets the bits of all flags set to {@code true}. Use {@link ReleaseFlag#mask()} to test them.
+     *
+     * @return The bits
+     */
+    public int bits() {
+        return bits;
+    }
+    
+    /**
+     * Gets the bits of all flags returned by the xREL API, whether {@code true} or {@code false}.
+     *
+     * @return The bits
+     */
+    public int presentBits() {
+        return present;
+    }
+    
+    /**
+     * Checks if the given flag is set to {@code true}.
+     *
+     * @param flag The flag to check
+     *
+     * @return {@code true} if the flag is set, {@code false} otherwise
+     */
+    public boolean has(ReleaseFlag flag) {
+        return (bits & flag.mask()) != 0;
+    }
+    
+    /**
+     * Checks if all flags of the given mask are set to {@code true}.
+     *
+     * @param mask The mask, see {@link ReleaseFlag#maskOf(ReleaseFlag...)}
+     *
+     * @return {@code true} if all flags are set, {@code false} otherwise
+     */
+    public boolean hasAll(int mask) {
+        return (bits & mask) == mask;
+    }
+    
+    /**
+     * Checks if any flag of the given mask is set to {@code true}.
+     *
+     * @param mask The mask, see {@link ReleaseFlag#maskOf(ReleaseFlag...)}
+     *
+     * @return {@code true} if any flag is set, {@code false} otherwise
+     */
+    public boolean hasAny(int mask) {
+        return (bits & mask) != 0;
+    }
+    
+    /**
+     * Gets whether this release is a top release.
+     *
+     * @return {@code true} if flagged as top release
+     */
+    public boolean isTopRls() {
+        return has(ReleaseFlag.TOP_RLS);
+    }
+    
+    /**
+     * Gets whether this release is a fix.
+     *
+     * @return {@code true} if flagged as fix
+     */
+    public boolean isFixRls() {
+        return has(ReleaseFlag.FIX_RLS);
+    }
+    
+    /**
+     * Gets whether the NFO of this release should be read.
+     *
+     * @return {@code true} if flagged as read NFO
+     */
+    public boolean isReadNfo() {
+        return has(ReleaseFlag.READ_NFO);
+    }
+    
+    /**
+     * Gets whether this release is english.
+     *
+     * @return {@code true} if flagged as english
+     */
+    public boolean isEnglish() {
+        return has(ReleaseFlag.ENGLISH);
+    }
+    
+    /**
+     * Gets an unmodifiable {@link Map} view of these flags as returned by the xREL API.
+     *
+     * @return The flags as {@link Map}
+     */
+    @JsonValue
+    public Map<String, Boolean> asMap() {
+        Map<String, Boolean> map = mapView;
+        if (map == null) {
+            map = new MapView();
+            mapView = map;
+        }
+        return map;
+    }
+    
+    private Object readResolve() {
+        return of(bits, present, unknownFlags);
+    }
+    
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof ReleaseFlags)) {
+            return false;
+        }
+        final ReleaseFlags other = (ReleaseFlags) object;
+        return bits == other.bits && present == other.present && Objects.equals(unknownFlags, other.unknownFlags);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(bits, present, unknownFlags);
+    }
+    
+    @Override
+    public String toString() {
+        return "ReleaseFlags " + asMap();
+    }
+    
+    private final class MapView extends AbstractMap<String, Boolean> {
+        
+        @Override
+        public Boolean get(Object key) {
+            final ReleaseFlag flag = key instanceof String ? ReleaseFlag.fromValue((String) key) : null;
+            if (flag == null) {
+                return unknownFlags == null ? null : unknownFlags.get(key);
+            }
+            if ((present & flag.mask()) == 0) {
+                return null;
+            }
+            return (bits & flag.mask()) != 0;
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+        
+        @Override
+        public int size() {
+            return Integer.bitCount(present) + (unknownFlags == null ? 0 : unknownFlags.size());
+        }
+        
+        @Override
+        public Set<Entry<String, Boolean>> entrySet() {
+            return new AbstractSet<>() {
+                
+                @Override
+                public Iterator<Entry<String, Boolean>> iterator() {
+                    final List<Entry<String, Boolean>> entries = new ArrayList<>(size());
+                    for (ReleaseFlag flag : ReleaseFlag.VALUES) {
+                        if ((present & flag.mask()) != 0) {
+                            entries.add(new SimpleImmutableEntry<>(flag.getValue(), (bits & flag.mask()) != 0));
+                        }
+                    }
+                    if (unknownFlags != null) {
+                        entries.addAll(unknownFlags.entrySet());
+                    }
+                    return Collections.unmodifiableList(entries).iterator();
+                }
+                
+                @Override
+                public int size() {
+                    return MapView.this.size();
+                }
+                
+            };
+        }
+        
+    }
+    
+}
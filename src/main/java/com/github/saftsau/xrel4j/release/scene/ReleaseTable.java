@@ -0,0 +1,485 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release.scene;
+
+import com.github.saftsau.xrel4j.PaginationList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Columnar in-memory table of {@link Release} objects for analytics. Numeric fields are stored in
+ * primitive arrays and low-cardinality strings (group name, video type, audio type) are
+ * dictionary-encoded to {@code int} codes, so full scans touch only the columns they need and
+ * don't allocate. Each row keeps a reference to its original {@link Release}.
+ * <p>
+ * Rows are identified by their insertion index starting at {@code 0}. A scan over releases with
+ * a video rating of at least 8 from a given time on looks like
+ * {@code table.forEach(row -> table.getTime(row) >= from && table.getVideoRating(row) >= 8, row -> ...)}.
+ * <p>
+ * This class is not thread-safe. Once filled, it can be read by multiple threads if it is
+ * published safely and not modified anymore.
+ */
+public class ReleaseTable {
+    
+    /**
+     * Code used for {@code null} values in dictionary-encoded columns.
+     */
+    public static final int NO_CODE = -1;
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private final Dictionary groupNames = new Dictionary();
+    private final Dictionary videoTypes = new Dictionary();
+    private final Dictionary audioTypes = new Dictionary();
+    
+    private int size;
+    private Release[] releases;
+    private long[] time;
+    private long[] sizeBytes;
+    private double[] videoRating;
+    private double[] audioRating;
+    private int[] numRatings;
+    private int[] tvSeason;
+    private int[] tvEpisode;
+    private int[] comments;
+    private int[] flags;
+    private int[] groupName;
+    private int[] videoType;
+    private int[] audioType;
+    
+    /**
+     * Creates a new, empty ReleaseTable.
+     */
+    public ReleaseTable() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Creates a new, empty ReleaseTable with the given initial capacity.
+     *
+     * @param capacity The initial number of rows to allocate
+     */
+    public ReleaseTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        releases = new Release[capacity];
+        time = new long[capacity];
+        sizeBytes = new long[capacity];
+        videoRating = new double[capacity];
+        audioRating = new double[capacity];
+        numRatings = new int[capacity];
+        tvSeason = new int[capacity];
+        tvEpisode = new int[capacity];
+        comments = new int[capacity];
+        flags = new int[capacity];
+        groupName = new int[capacity];
+        videoType = new int[capacity];
+        audioType = new int[capacity];
+    }
+    
+    /**
+     * Adds the given {@link Release} as a new row.
+     *
+     * @param release The {@link Release} to add
+     *
+     * @return The row ID of the added {@link Release}
+     */
+    public int add(Release release) {
+        if (size == releases.length) {
+            grow(size + 1);
+        }
+        final int row = size;
+        releases[row] = release;
+        time[row] = release.getTime();
+        sizeBytes[row] = release.getSizeBytes();
+        videoRating[row] = release.getVideoRating();
+        audioRating[row] = release.getAudioRating();
+        numRatings[row] = release.getNumRatings();
+        tvSeason[row] = release.getTvSeason();
+        tvEpisode[row] = release.getTvEpisode();
+        comments[row] = release.getComments();
+        flags[row] = release.getReleaseFlags() == null ? 0 : release.getReleaseFlags().bits();
+        groupName[row] = groupNames.encode(release.getGroupName());
+        videoType[row] = videoTypes.encode(release.getVideoType());
+        audioType[row] = audioTypes.encode(release.getAudioType());
+        size++;
+        return row;
+    }
+    
+    /**
+     * Adds all given {@link Release} objects as new rows.
+     *
+     * @param releases The {@link Release} objects to add
+     */
+    public void addAll(Collection<Release> releases) {
+        if (size + releases.size() > this.releases.length) {
+            grow(size + releases.size());
+        }
+        for (Release release : releases) {
+            add(release);
+        }
+    }
+    
+    /**
+     * Adds all {@link Release} objects of the given page as new rows.
+     *
+     * @param page The page of {@link Release} objects to add
+     */
+    public void addAll(PaginationList<Release> page) {
+        if (page.getList() != null) {
+            addAll(page.getList());
+        }
+    }
+    
+    /**
+     * Gets the number of rows in this ReleaseTable.
+     *
+     * @return The number of rows
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Calls the given action for every row matching the given filter, in row order.
+     *
+     * @param filter The filter to test each row ID with
+     * @param action The action to call with each matching row ID
+     */
+    public void forEach(IntPredicate filter, IntConsumer action) {
+        for (int row = 0; row < size; row++) {
+            if (filter.test(row)) {
+                action.accept(row);
+            }
+        }
+    }
+    
+    /**
+     * Counts the rows matching the given filter.
+     *
+     * @param filter The filter to test each row ID with
+     *
+     * @return The number of matching rows
+     */
+    public int count(IntPredicate filter) {
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (filter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Gets the original {@link Release} of the given row.
+     *
+     * @param row The row ID
+     *
+     * @return The {@link Release}
+     */
+    public Release getRelease(int row) {
+        return releases[checkRow(row)];
+    }
+    
+    /**
+     * Gets the original {@link Release} objects of all rows matching the given filter.
+     *
+     * @param filter The filter to test each row ID with
+     *
+     * @return The matching {@link Release} objects in row order
+     */
+    public List<Release> getReleases(IntPredicate filter) {
+        final List<Release> result = new ArrayList<>();
+        forEach(filter, row -> result.add(releases[row]));
+        return result;
+    }
+    
+    /**
+     * Gets the pre time of the given row, see {@link Release#getTime()}.
+     *
+     * @param row The row ID
+     *
+     * @return The timestamp
+     */
+    public long getTime(int row) {
+        return time[checkRow(row)];
+    }
+    
+    /**
+     * Gets the size in bytes of the given row, see {@link Release#getSizeBytes()}.
+     *
+     * @param row The row ID
+     *
+     * @return The size in bytes or {@code -1} if not available
+     */
+    public long getSizeBytes(int row) {
+        return sizeBytes[checkRow(row)];
+    }
+    
+    /**
+     * Gets the video rating of the given row, see {@link Release#getVideoRating()}.
+     *
+     * @param row The row ID
+     *
+     * @return The video rating
+     */
+    public double getVideoRating(int row) {
+        return videoRating[checkRow(row)];
+    }
+    
+    /**
+     * Gets the audio rating of the given row, see {@link Release#getAudioRating()}.
+     *
+     * @param row The row ID
+     *
+     * @return The audio rating
+     */
+    public double getAudioRating(int row) {
+        return audioRating[checkRow(row)];
+    }
+    
+    /**
+     * Gets the number of ratings of the given row, see {@link Release#getNumRatings()}.
+     *
+     * @param row The row ID
+     *
+     * @return The number of ratings
+     */
+    public int getNumRatings(int row) {
+        return numRatings[checkRow(row)];
+    }
+    
+    /**
+     * Gets the TV season of the given row, see {@link Release#getTvSeason()}.
+     *
+     * @param row The row ID
+     *
+     * @return The TV season
+     */
+    public int getTvSeason(int row) {
+        return tvSeason[checkRow(row)];
+    }
+    
+    /**
+     * Gets the TV episode of the given row, see {@link Release#getTvEpisode()}.
+     *
+     * @param row The row ID
+     *
+     * @return The TV episode
+     */
+    public int getTvEpisode(int row) {
+        return tvEpisode[checkRow(row)];
+    }
+    
+    /**
+     * Gets the number of comments of the given row, see {@link Release#getComments()}.
+     *
+     * @param row The row ID
+     *
+     * @return The number of comments
+     */
+    public int getComments(int row) {
+        return comments[checkRow(row)];
+    }
+    
+    /**
+     * Gets the flag bits of the given row, see {@link ReleaseFlags#bits()}.
+     *
+     * @param row The row ID
+     *
+     * @return The flag bits
+     */
+    public int getFlags(int row) {
+        return flags[checkRow(row)];
+    }
+    
+    /**
+     * Gets the group name code of the given row. Compare it with {@link #groupNameCode(String)}.
+     *
+     * @param row The row ID
+     *
+     * @return The group name code or {@link #NO_CODE}
+     */
+    public int getGroupNameCode(int row) {
+        return groupName[checkRow(row)];
+    }
+    
+    /**
+     * Gets the video type code of the given row. Compare it with {@link #videoTypeCode(String)}.
+     *
+     * @param row The row ID
+     *
+     * @return The video type code or {@link #NO_CODE}
+     */
+    public int getVideoTypeCode(int row) {
+        return videoType[checkRow(row)];
+    }
+    
+    /**
+     * Gets the audio type code of the given row. Compare it with {@link #audioTypeCode(String)}.
+     *
+     * @param row The row ID
+     *
+     * @return The audio type code or {@link #NO_CODE}
+     */
+    public int getAudioTypeCode(int row) {
+        return audioType[checkRow(row)];
+    }
+    
+    /**
+     * Gets the group name of the given row.
+     *
+     * @param row The row ID
+     *
+     * @return The group name
+     */
+    public String getGroupName(int row) {
+        return groupNames.decode(getGroupNameCode(row));
+    }
+    
+    /**
+     * Gets the video type of the given row.
+     *
+     * @param row The row ID
+     *
+     * @return The video type
+     */
+    public String getVideoType(int row) {
+        return videoTypes.decode(getVideoTypeCode(row));
+    }
+    
+    /**
+     * Gets the audio type of the given row.
+     *
+     * @param row The row ID
+     *
+     * @return The audio type
+     */
+    public String getAudioType(int row) {
+        return audioTypes.decode(getAudioTypeCode(row));
+    }
+    
+    /**
+     * Gets the code of the given group name.
+     *
+     * @param groupName The group name
+     *
+     * @return The code or {@link #NO_CODE} if no row has this group name
+     */
+    public int groupNameCode(String groupName) {
+        return groupNames.lookup(groupName);
+    }
+    
+    /**
+     * Gets the code of the given video type, e.g. {@code 1080p}.
+     *
+     * @param videoType The video type
+     *
+     * @return The code or {@link #NO_CODE} if no row has this video type
+     */
+    public int videoTypeCode(String videoType) {
+        return videoTypes.lookup(videoType);
+    }
+    
+    /**
+     * Gets the code of the given audio type.
+     *
+     * @param audioType The audio type
+     *
+     * @return The code or {@link #NO_CODE} if no row has this audio type
+     */
+    public int audioTypeCode(String audioType) {
+        return audioTypes.lookup(audioType);
+    }
+    
+    /**
+     * Removes all rows. Allocated capacity and dictionaries are kept.
+     */
+    public void clear() {
+        Arrays.fill(releases, 0, size, null);
+        size = 0;
+    }
+    
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+        return row;
+    }
+    
+    private void grow(int minCapacity) {
+        final int capacity = Math.max(minCapacity, Math.max(16, releases.length + (releases.length >> 1)));
+        releases = Arrays.copyOf(releases, capacity);
+        time = Arrays.copyOf(time, capacity);
+        sizeBytes = Arrays.copyOf(sizeBytes, capacity);
+        videoRating = Arrays.copyOf(videoRating, capacity);
+        audioRating = Arrays.copyOf(audioRating, capacity);
+        numRatings = Arrays.copyOf(numRatings, capacity);
+        tvSeason = Arrays.copyOf(tvSeason, capacity);
+        tvEpisode = Arrays.copyOf(tvEpisode, capacity);
+        comments = Arrays.copyOf(comments, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        groupName = Arrays.copyOf(groupName, capacity);
+        videoType = Arrays.copyOf(videoType, capacity);
+        audioType = Arrays.copyOf(audioType, capacity);
+    }
+    
+    @Override
+    public String toString() {
+        return "ReleaseTable [size()=" + size() + "]";
+    }
+    
+    private static final class Dictionary {
+        
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        
+        private int encode(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+        
+        private int lookup(String value) {
+            final Integer code = value == null ? null : codes.get(value);
+            return code == null ? NO_CODE : code;
+        }
+        
+        private String decode(int code) {
+            return code == NO_CODE ? null : values.get(code);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.retry;
+
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.metrics.JfrInterceptor;
+import com.github.saftsau.xrel4j.metrics.MetricsInterceptor;
+import com.github.saftsau.xrel4j.metrics.XrelMetrics;
+import com.github.saftsau.xrel4j.metrics.XrelRateLimitWaitEvent;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link Interceptor} retrying failed idempotent requests according to a {@link RetryPolicy}. It
+ * has to be placed before the interceptor handling xREL API errors, so it can classify the thrown
+ * {@link XrelException}s, and before the {@link MetricsInterceptor}, so it sees every attempt. Only
+ * a {@link com.github.saftsau.xrel4j.circuit.CircuitBreakerInterceptor} comes first. The retry
+ * budget is shared by all requests of this interceptor.
+ */
+public final class RetryInterceptor implements Interceptor {
+    
+    private static final long TOKEN = 1000;
+    
+    private final RetryPolicy policy;
+    private final XrelMetrics metrics;
+    private final IntSupplier rateLimitReset;
+    private final AtomicLong budget;
+    
+    /**
+     * Creates a new RetryInterceptor.
+     *
+     * @param policy The {@link RetryPolicy}
+     * @param metrics The {@link XrelMetrics} to report retries to
+     * @param rateLimitReset Supplies the {@code X-RateLimit-Reset} in UTC epoch seconds of the last
+     * response or -1 if unknown
+     */
+    public RetryInterceptor(RetryPolicy policy, XrelMetrics metrics, IntSupplier rateLimitReset) {
+        this.policy = Objects.requireNonNull(policy, "policy missing");
+        this.metrics = Objects.requireNonNull(metrics, "metrics missing");
+        this.rateLimitReset = Objects.requireNonNull(rateLimitReset, "rateLimitReset missing");
+        this.budget = new AtomicLong(policy.getBudgetCapacity() * TOKEN);
+    }
+    
+    /**
+     * Gets the {@link RetryPolicy} of this interceptor.
+     *
+     * @return The {@link RetryPolicy}
+     */
+    public RetryPolicy getPolicy() {
+        return policy;
+    }
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        // Requests only answered from the cache don't reach the xREL API
+        if (policy.getMaxAttempts() <= 1 || !RetryPolicy.isIdempotent(request.method()) || request.cacheControl().onlyIfCached()) {
+            return chain.proceed(request);
+        }
+        deposit();
+        long delayNanos = 0;
+        for (int attempt = 1;; attempt++) {
+            try {
+                return chain.proceed(request);
+            } catch (IOException | XrelException e) {
+                if (attempt >= policy.getMaxAttempts() || chain.call().isCanceled()) {
+                    throw e;
+                }
+                final String endpoint = MetricsInterceptor.endpoint(request);
+                final RetryPolicy.Decision decision = policy.classify(e);
+                final long waitNanos;
+                switch (decision) {
+                    case RETRY:
+                        delayNanos = policy.nextDelayNanos(delayNanos, ThreadLocalRandom.current());
+                        waitNanos = delayNanos;
+                        break;
+                    case WAIT_FOR_RATE_LIMIT:
+                        waitNanos = rateLimitWaitNanos(request);
+                        if (waitNanos < 0) {
+                            throw e;
+                        }
+                        break;
+                    default:
+                        throw e;
+                }
+                // Don't wait if the deadline of the call is reached before the next attempt
+                final Timeout timeout = chain.call().timeout();
+                if (timeout.hasDeadline() && timeout.deadlineNanoTime() - System.nanoTime() < waitNanos || !withdraw()) {
+                    throw e;
+                }
+                metrics.recordRetry(endpoint);
+                if (decision == RetryPolicy.Decision.RETRY || !JfrInterceptor.isAvailable()) {
+                    sleep(waitNanos);
+                } else {
+                    sleepWithEvent(endpoint, isSearch(request) ? "search" : "X-RateLimit-Reset", waitNanos);
+                }
+            }
+        }
+    }
+    
+    private long rateLimitWaitNanos(Request request) {
+        final long maxWaitNanos = policy.getMaxRateLimitWait().toNanos();
+        final long waitNanos;
+        if (isSearch(request)) {
+            waitNanos = policy.getSearchRateLimitWait().toNanos();
+        } else {
+            final int reset = rateLimitReset.getAsInt();
+            final long untilResetMillis = TimeUnit.SECONDS.toMillis(reset) - policy.getClock().millis();
+            // Without a known window or with one reset already, back off as long as for transient failures
+            waitNanos = reset < 0 || untilResetMillis <= 0 ? policy.getMaxDelay().toNanos() : TimeUnit.MILLISECONDS.toNanos(untilResetMillis);
+        }
+        return waitNanos > maxWaitNanos ? -1 : waitNanos;
+    }
+    
+    private static boolean isSearch(Request request) {
+        return request.url().encodedPath().contains("/search/");
+    }
+    
+    private void deposit() {
+        final long capacity = policy.getBudgetCapacity() * TOKEN;
+        final long amount = (long) (policy.getBudgetRatio() * TOKEN);
+        budget.getAndUpdate(tokens -> Math.min(capacity, tokens + amount));
+    }
+    
+    private boolean withdraw() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - TOKEN));
+        return true;
+    }
+    
+    private static void sleepWithEvent(String endpoint, String reason, long nanos) throws InterruptedIOException {
+        final XrelRateLimitWaitEvent event = new XrelRateLimitWaitEvent();
+        event.setEndpoint(endpoint);
+        event.setReason(reason);
+        event.begin();
+        try {
+            sleep(nanos);
+        } finally {
+            event.commit();
+        }
+    }
+    
+    private static void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting to retry");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+    
+}
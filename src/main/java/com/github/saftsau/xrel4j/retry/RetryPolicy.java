@@ -0,0 +1,408 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.retry;
+
+import com.github.saftsau.xrel4j.Error;
+import com.github.saftsau.xrel4j.XrelException;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Immutable configuration of a {@link RetryInterceptor}. Use {@link #builder()} to create one or
+ * {@link #defaults()} for sensible defaults.
+ * <p>
+ * Only idempotent requests ({@code GET} and {@code HEAD}) are retried, so POST endpoints like
+ * {@code commentsAdd} or {@code extInfoRate} are never sent twice. Failures are classified by
+ * {@link #classify(Throwable)}:
+ * <ul>
+ * <li>I/O errors, e.g. connection resets or timeouts, and 5xx and 408 responses without an xREL
+ * API error are transient and retried after a decorrelated jitter backoff.</li>
+ * <li>The xREL API error {@code rate_limit_exceeded} and 429 responses are retried once the rate
+ * limit window resets, i.e. at {@code X-RateLimit-Reset} or after
+ * {@link #getSearchRateLimitWait()} for the search endpoints. If the reset is further away than
+ * {@link #getMaxRateLimitWait()}, the error is thrown instead of blocking the thread. The reset is
+ * compared to {@link #getClock()}; if it is unknown or already passed, the retry waits for
+ * {@link #getMaxDelay()}.</li>
+ * <li>All other xREL API errors, e.g. {@code invalid_request} or {@code invalid_token}, fail
+ * immediately, as a retry returns the same error.</li>
+ * </ul>
+ * To prevent retry storms during an outage, retries are limited by a budget: every request adds
+ * {@link #getBudgetRatio()} tokens up to {@link #getBudgetCapacity()} and every retry takes one.
+ *
+ * @see <a href="https://www.xrel.to/wiki/6435/api-errors.html">API: Error Handling</a>
+ */
+public final class RetryPolicy {
+    
+    /**
+     * The error code of the xREL API if the rate limit was exceeded.
+     */
+    public static final String RATE_LIMIT_EXCEEDED = "rate_limit_exceeded";
+    
+    /**
+     * RetryPolicy never retrying.
+     */
+    public static final RetryPolicy NONE = builder().maxAttempts(1).build();
+    
+    private static final RetryPolicy DEFAULTS = builder().build();
+    
+    /**
+     * The classification of a failed request.
+     */
+    public enum Decision {
+        /**
+         * Transient failure, retry after a backoff.
+         */
+        RETRY,
+        /**
+         * The rate limit was exceeded, retry once it resets.
+         */
+        WAIT_FOR_RATE_LIMIT,
+        /**
+         * Permanent failure, don't retry.
+         */
+        FAIL
+    }
+    
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRateLimitWait;
+    private final Duration searchRateLimitWait;
+    private final double budgetRatio;
+    private final int budgetCapacity;
+    private final Clock clock;
+    
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.maxRateLimitWait = builder.maxRateLimitWait;
+        this.searchRateLimitWait = builder.searchRateLimitWait;
+        this.budgetRatio = builder.budgetRatio;
+        this.budgetCapacity = builder.budgetCapacity;
+        this.clock = builder.clock;
+    }
+    
+    /**
+     * Gets a RetryPolicy with the defaults of {@link Builder}.
+     *
+     * @return The default RetryPolicy
+     */
+    public static RetryPolicy defaults() {
+        return DEFAULTS;
+    }
+    
+    /**
+     * Creates a new {@link Builder} initialized with the defaults.
+     *
+     * @return The new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Checks if requests with the given HTTP method may be retried.
+     *
+     * @param method The HTTP method
+     *
+     * @return {@code true} for {@code GET} and {@code HEAD}
+     */
+    public static boolean isIdempotent(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+    
+    /**
+     * Classifies the failure of an idempotent request.
+     *
+     * @param throwable The failure
+     *
+     * @return The {@link Decision}
+     */
+    public Decision classify(Throwable throwable) {
+        if (throwable instanceof IOException) {
+            return Decision.RETRY;
+        }
+        if (!(throwable instanceof XrelException xrelException)) {
+            return Decision.FAIL;
+        }
+        final String error = xrelException.getError().map(Error::getError).orElse(null);
+        final int responseCode = xrelException.getResponseCode();
+        if (RATE_LIMIT_EXCEEDED.equals(error) || responseCode == 429) {
+            return Decision.WAIT_FOR_RATE_LIMIT;
+        } else if (error != null) {
+            return Decision.FAIL;
+        } else if (responseCode >= 500 || responseCode == 408) {
+            return Decision.RETRY;
+        }
+        return Decision.FAIL;
+    }
+    
+    /**
+     * Computes the next backoff with decorrelated jitter, i.e. a random delay between
+     * {@link #getBaseDelay()} and three times the previous delay, capped at {@link #getMaxDelay()}.
+     * Compared to exponential backoff, clients failing at the same time don't retry at the same time.
+     *
+     * @param previousDelayNanos The previous delay in nanoseconds, {@code 0} for the first retry
+     * @param random The source of randomness
+     *
+     * @return The next delay in nanoseconds
+     *
+     * @see <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential
+     * Backoff And Jitter</a>
+     */
+    public long nextDelayNanos(long previousDelayNanos, Random random) {
+        final long base = baseDelay.toNanos();
+        final long upper = Math.max(base, Math.min(maxDelay.toNanos(), previousDelayNanos * 3));
+        final long delay = upper == base ? base : base + (long) (random.nextDouble() * (upper - base));
+        return Math.min(maxDelay.toNanos(), delay);
+    }
+    
+    /**
+     * Gets the maximum number of attempts including the first one.
+     *
+     * @return The maximum number of attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+    
+    /**
+     * Gets the minimum backoff between two attempts.
+     *
+     * @return The base delay
+     */
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+    
+    /**
+     * Gets the maximum backoff between two attempts.
+     *
+     * @return The maximum delay
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+    
+    /**
+     * Gets the longest time to wait for the reset of the rate limit window.
+     *
+     * @return The maximum rate limit wait
+     */
+    public Duration getMaxRateLimitWait() {
+        return maxRateLimitWait;
+    }
+    
+    /**
+     * Gets the time to wait if the rate limit of the search endpoints was exceeded.
+     *
+     * @return The search rate limit wait
+     */
+    public Duration getSearchRateLimitWait() {
+        return searchRateLimitWait;
+    }
+    
+    /**
+     * Gets the number of retry tokens added to the budget by every request.
+     *
+     * @return The budget ratio
+     */
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+    
+    /**
+     * Gets the maximum number of retry tokens in the budget, which is also the initial number.
+     *
+     * @return The budget capacity
+     */
+    public int getBudgetCapacity() {
+        return budgetCapacity;
+    }
+    
+    /**
+     * Gets the {@link Clock} the {@code X-RateLimit-Reset} of the xREL API is compared to.
+     *
+     * @return The {@link Clock}
+     */
+    public Clock getClock() {
+        return clock;
+    }
+    
+    @Override
+    public String toString() {
+        return "RetryPolicy [getMaxAttempts()=" + getMaxAttempts() + ", getBaseDelay()=" + getBaseDelay() + ", getMaxDelay()=" + getMaxDelay()
+                + ", getMaxRateLimitWait()=" + getMaxRateLimitWait() + ", getSearchRateLimitWait()=" + getSearchRateLimitWait() + ", getBudgetRatio()="
+                + getBudgetRatio() + ", getBudgetCapacity()=" + getBudgetCapacity() + ", getClock()=" + getClock() + "]";
+    }
+    
+    /**
+     * Builder of a {@link RetryPolicy}.
+     */
+    public static final class Builder {
+        
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+        private Duration maxRateLimitWait = Duration.ofSeconds(30);
+        private Duration searchRateLimitWait = Duration.ofSeconds(10);
+        private double budgetRatio = 0.1;
+        private int budgetCapacity = 10;
+        private Clock clock = Clock.systemUTC();
+        
+        private Builder() {
+        }
+        
+        /**
+         * Sets the maximum number of attempts including the first one. Default is 3.
+         *
+         * @param maxAttempts The maximum number of attempts, at least 1
+         *
+         * @return This Builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+        
+        /**
+         * Sets the minimum backoff between two attempts. Default is 100 ms.
+         *
+         * @param baseDelay The base delay
+         *
+         * @return This Builder
+         */
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = requireNonNegative(baseDelay, "baseDelay");
+            return this;
+        }
+        
+        /**
+         * Sets the maximum backoff between two attempts. Default is 5 s.
+         *
+         * @param maxDelay The maximum delay
+         *
+         * @return This Builder
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = requireNonNegative(maxDelay, "maxDelay");
+            return this;
+        }
+        
+        /**
+         * Sets the longest time to wait for the reset of the rate limit window. If the window resets
+         * later, the rate limit error is thrown. Default is 30 s.
+         *
+         * @param maxRateLimitWait The maximum rate limit wait
+         *
+         * @return This Builder
+         */
+        public Builder maxRateLimitWait(Duration maxRateLimitWait) {
+            this.maxRateLimitWait = requireNonNegative(maxRateLimitWait, "maxRateLimitWait");
+            return this;
+        }
+        
+        /**
+         * Sets the time to wait if the rate limit of the search endpoints was exceeded. The xREL API
+         * allows 2 searches per 10 seconds, which is not reflected by the rate limit headers. Default
+         * is 10 s.
+         *
+         * @param searchRateLimitWait The search rate limit wait
+         *
+         * @return This Builder
+         */
+        public Builder searchRateLimitWait(Duration searchRateLimitWait) {
+            this.searchRateLimitWait = requireNonNegative(searchRateLimitWait, "searchRateLimitWait");
+            return this;
+        }
+        
+        /**
+         * Sets the number of retry tokens added to the budget by every request. With the default of
+         * 0.1 at most one retry per ten requests is made once the initial budget is used up.
+         *
+         * @param budgetRatio The budget ratio, at least 0
+         *
+         * @return This Builder
+         */
+        public Builder budgetRatio(double budgetRatio) {
+            if (!(budgetRatio >= 0)) {
+                throw new IllegalArgumentException("budgetRatio must not be negative: " + budgetRatio);
+            }
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+        
+        /**
+         * Sets the maximum and initial number of retry tokens in the budget. Default is 10.
+         *
+         * @param budgetCapacity The budget capacity, at least 0
+         *
+         * @return This Builder
+         */
+        public Builder budgetCapacity(int budgetCapacity) {
+            if (budgetCapacity < 0) {
+                throw new IllegalArgumentException("budgetCapacity must not be negative: " + budgetCapacity);
+            }
+            this.budgetCapacity = budgetCapacity;
+            return this;
+        }
+        
+        /**
+         * Sets the {@link Clock} the {@code X-RateLimit-Reset} of the xREL API is compared to.
+         * Default is {@link Clock#systemUTC()}.
+         *
+         * @param clock The {@link Clock}
+         *
+         * @return This Builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock missing");
+            return this;
+        }
+        
+        /**
+         * Creates the {@link RetryPolicy}.
+         *
+         * @return The new {@link RetryPolicy}
+         */
+        public RetryPolicy build() {
+            if (baseDelay.compareTo(maxDelay) > 0) {
+                throw new IllegalArgumentException("baseDelay must not exceed maxDelay: " + baseDelay + " > " + maxDelay);
+            }
+            return new RetryPolicy(this);
+        }
+        
+        private static Duration requireNonNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " missing");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative: " + duration);
+            }
+            return duration;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority class of requests scheduled by a {@link RequestScheduler}. The priority is entered on
+ * the thread making the requests, requests made without one are {@link #NORMAL}.
+ *
+ * <pre>
+ * final Release release = Priority.INTERACTIVE.run(() -&gt; xrel.getReleaseInfoDir(dirname));
+ * </pre>
+ */
+public enum Priority {
+    
+    /**
+     * Requests a user waits for, e.g. after clicking a release.
+     */
+    INTERACTIVE,
+    /**
+     * Regular requests.
+     */
+    NORMAL,
+    /**
+     * Background requests, e.g. crawls, which only use the capacity left by the other classes.
+     */
+    BULK;
+    
+    private static final ThreadLocal<Priority> CURRENT = new ThreadLocal<>();
+    
+    /**
+     * Gets the Priority entered on the current thread.
+     *
+     * @return The current Priority, {@link #NORMAL} if none was entered
+     */
+    public static Priority current() {
+        final Priority priority = CURRENT.get();
+        return priority == null ? NORMAL : priority;
+    }
+    
+    /**
+     * Enters this Priority on the current thread until the returned {@link Scope} is closed.
+     *
+     * @return The {@link Scope} to close
+     */
+    public Scope enter() {
+        final Priority previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+    
+    /**
+     * Runs the given operation with this Priority entered.
+     *
+     * @param <T> The type of the result
+     * @param operation The operation to run
+     *
+     * @return The result of the operation
+     */
+    public <T> T run(Supplier<T> operation) {
+        final Scope scope = enter();
+        try {
+            return operation.get();
+        } finally {
+            scope.close();
+        }
+    }
+    
+    /**
+     * The scope of an entered {@link Priority}. Closing it restores the previous Priority of the
+     * thread.
+     */
+    public static final class Scope implements AutoCloseable {
+        
+        private final Priority previous;
+        
+        private Scope(Priority previous) {
+            this.previous = previous;
+        }
+        
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        
+    }
+    
+}
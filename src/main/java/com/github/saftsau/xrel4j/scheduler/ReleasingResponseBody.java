@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link ResponseBody} running a callback once the body is exhausted or closed, whichever happens
+ * first.
+ */
+final class ReleasingResponseBody extends ResponseBody {
+    
+    private final ResponseBody delegate;
+    private final Runnable callback;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final BufferedSource source;
+    
+    /**
+     * Creates a new ReleasingResponseBody.
+     *
+     * @param delegate The {@link ResponseBody} to read from
+     * @param callback The callback, called once
+     */
+    ReleasingResponseBody(ResponseBody delegate, Runnable callback) {
+        this.delegate = delegate;
+        this.callback = callback;
+        this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+            
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                final long read = super.read(sink, byteCount);
+                if (read < 0) {
+                    release();
+                }
+                return read;
+            }
+            
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    release();
+                }
+            }
+            
+        });
+    }
+    
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            callback.run();
+        }
+    }
+    
+    @Override
+    public MediaType contentType() {
+        return delegate.contentType();
+    }
+    
+    @Override
+    public long contentLength() {
+        return delegate.contentLength();
+    }
+    
+    @Override
+    public BufferedSource source() {
+        return source;
+    }
+    
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import com.github.saftsau.xrel4j.metrics.JfrInterceptor;
+import com.github.saftsau.xrel4j.metrics.XrelRateLimitWaitEvent;
+import com.github.saftsau.xrel4j.ratelimit.RateLimitInterceptor;
+import com.github.saftsau.xrel4j.ratelimit.RateLimiter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scheduler admitting requests of different {@link Priority} classes as configured by a
+ * {@link SchedulerPolicy}. Every request has to be admitted by {@link #acquire(Priority, String, long)}
+ * and {@link #release()} its slot once done, which {@link SchedulerInterceptor} does. All requests
+ * share the budget of one {@link RateLimiter}.
+ * <p>
+ * Waiting requests are admitted by start-time fair queuing: each class has a virtual finish time
+ * advancing by the inverse of its weight per admitted request, and the class with the earliest
+ * virtual start time is admitted next. Within a class, requests are admitted in order. All methods
+ * are thread-safe.
+ */
+public final class RequestScheduler {
+    
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final String WAIT_REASON = "scheduler";
+    
+    private final SchedulerPolicy policy;
+    private final RateLimiter rateLimiter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<ArrayDeque<Waiter>> queues = new ArrayList<>(PRIORITIES.length);
+    private final double[] finishTimes = new double[PRIORITIES.length];
+    private double virtualTime;
+    private int inFlight;
+    
+    /**
+     * A request waiting to be admitted.
+     */
+    private static final class Waiter {
+        
+        private final Condition admitted;
+        private boolean granted;
+        
+        Waiter(Condition admitted) {
+            this.admitted = admitted;
+        }
+        
+    }
+    
+    /**
+     * Creates a new RequestScheduler.
+     *
+     * @param policy The {@link SchedulerPolicy}
+     * @param rateLimiter The {@link RateLimiter} whose budget is shared
+     */
+    public RequestScheduler(SchedulerPolicy policy, RateLimiter rateLimiter) {
+        this.policy = Objects.requireNonNull(policy, "policy missing");
+        this.rateLimiter = Objects.requireNonNull(rateLimiter, "rateLimiter missing");
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+    
+    /**
+     * Gets the {@link SchedulerPolicy} of this scheduler.
+     *
+     * @return The {@link SchedulerPolicy}
+     */
+    public SchedulerPolicy getPolicy() {
+        return policy;
+    }
+    
+    /**
+     * Waits until a request may be sent. Requests which would use the rate limit reserve of their
+     * class fail immediately with the {@link com.github.saftsau.xrel4j.XrelException} of an
+     * exceeded rate limit. Waits are recorded as {@link XrelRateLimitWaitEvent} with the reason
+     * {@code scheduler}.
+     *
+     * @param priority The {@link Priority} of the request
+     * @param endpoint The endpoint of the request
+     * @param timeoutNanos The maximum time to wait in nanoseconds, {@link Long#MAX_VALUE} to wait
+     *        without limit
+     *
+     * @throws IOException If the request must not be sent, or an {@link InterruptedIOException}
+     *         if the time ran out or the thread was interrupted while waiting
+     */
+    public void acquire(Priority priority, String endpoint, long timeoutNanos) throws IOException {
+        Objects.requireNonNull(priority, "priority missing");
+        final int reserve = policy.getRateLimitReserve(priority);
+        if (reserve > 0 && rateLimiter.getAvailable(endpoint) <= reserve) {
+            throw RateLimitInterceptor.rateLimitExceeded("Client rate limit reserved for higher priorities.");
+        }
+        final int index = priority.ordinal();
+        lock.lock();
+        try {
+            final ArrayDeque<Waiter> queue = queues.get(index);
+            if (queue.isEmpty() && hasSlot(priority) && next() < 0) {
+                admit(index);
+                return;
+            }
+            final Waiter waiter = new Waiter(lock.newCondition());
+            queue.add(waiter);
+            dispatch();
+            final XrelRateLimitWaitEvent event = waiter.granted || !JfrInterceptor.isAvailable() ? null : new XrelRateLimitWaitEvent();
+            if (event != null) {
+                event.setEndpoint(endpoint);
+                event.setReason(WAIT_REASON);
+                event.setRemaining(rateLimiter.getAvailable(endpoint));
+                event.begin();
+            }
+            long remaining = timeoutNanos;
+            try {
+                while (!waiter.granted) {
+                    if (timeoutNanos == Long.MAX_VALUE) {
+                        waiter.admitted.await();
+                    } else if (remaining > 0) {
+                        remaining = waiter.admitted.awaitNanos(remaining);
+                    } else {
+                        queue.remove(waiter);
+                        throw new InterruptedIOException("Timed out waiting for a request slot");
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    releaseLocked();
+                } else {
+                    queue.remove(waiter);
+                }
+                Thread.currentThread().interrupt();
+                final InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for a request slot");
+                interrupted.initCause(e);
+                throw interrupted;
+            } finally {
+                if (event != null) {
+                    event.commit();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Releases the slot of a request admitted by {@link #acquire(Priority, String, long)}.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Gets the number of requests of the given class waiting to be admitted.
+     *
+     * @param priority The {@link Priority}
+     *
+     * @return The queue length
+     */
+    public int getQueueLength(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Gets the number of admitted requests which weren't released yet.
+     *
+     * @return The number of requests in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void releaseLocked() {
+        inFlight--;
+        dispatch();
+    }
+    
+    /**
+     * Admits waiting requests while slots are free.
+     */
+    private void dispatch() {
+        int index;
+        while ((index = next()) >= 0) {
+            final Waiter waiter = queues.get(index).poll();
+            admit(index);
+            waiter.granted = true;
+            waiter.admitted.signal();
+        }
+    }
+    
+    /**
+     * Gets the waiting class to admit next.
+     *
+     * @return The index of the class or {@code -1} if none can be admitted
+     */
+    private int next() {
+        int next = -1;
+        double nextStart = Double.MAX_VALUE;
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            if (!queues.get(i).isEmpty() && hasSlot(PRIORITIES[i])) {
+                final double start = Math.max(virtualTime, finishTimes[i]);
+                // Ties go to the higher priority
+                if (start < nextStart) {
+                    next = i;
+                    nextStart = start;
+                }
+            }
+        }
+        return next;
+    }
+    
+    private boolean hasSlot(Priority priority) {
+        final int slots = priority == Priority.INTERACTIVE ? policy.getMaxConcurrency() : policy.getMaxConcurrency() - policy.getReservedConcurrency();
+        return inFlight < slots;
+    }
+    
+    private void admit(int index) {
+        final double start = Math.max(virtualTime, finishTimes[index]);
+        finishTimes[index] = start + 1.0 / policy.getWeight(PRIORITIES[index]);
+        virtualTime = start;
+        inFlight++;
+    }
+    
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "RequestScheduler [getInFlight()=" + inFlight + ", getQueueLength(INTERACTIVE)=" + queues.get(0).size() + ", getQueueLength(NORMAL)="
+                    + queues.get(1).size() + ", getQueueLength(BULK)=" + queues.get(2).size() + "]";
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import com.github.saftsau.xrel4j.metrics.MetricsInterceptor;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * {@link Interceptor} admitting every request through a {@link RequestScheduler} with the
+ * {@link Priority} entered on the executing thread. It has to be placed before the retry
+ * interceptor, so retries keep the slot of their request instead of queueing again. Waiting is
+ * bounded by the deadline of the call. A request keeps its slot until its response body is
+ * exhausted or closed, so streamed bodies count against the concurrency as long as they are read.
+ * Requests only answered from the cache are not scheduled.
+ */
+public final class SchedulerInterceptor implements Interceptor {
+    
+    private final RequestScheduler scheduler;
+    
+    /**
+     * Creates a new SchedulerInterceptor.
+     *
+     * @param scheduler The {@link RequestScheduler}
+     */
+    public SchedulerInterceptor(RequestScheduler scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler missing");
+    }
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (request.cacheControl().onlyIfCached()) {
+            return chain.proceed(request);
+        }
+        final Timeout timeout = chain.call().timeout();
+        final long timeoutNanos = timeout.hasDeadline() ? timeout.deadlineNanoTime() - System.nanoTime() : Long.MAX_VALUE;
+        scheduler.acquire(Priority.current(), MetricsInterceptor.endpoint(request), timeoutNanos);
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            scheduler.release();
+            throw e;
+        }
+        final ResponseBody body = response.body();
+        if (body == null) {
+            scheduler.release();
+            return response;
+        }
+        return response.newBuilder().body(new ReleasingResponseBody(body, scheduler::release)).build();
+    }
+    
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable configuration of a {@link RequestScheduler}. Use {@link #builder()} to create one or
+ * {@link #defaults()} for sensible defaults.
+ * <p>
+ * At most {@link #getMaxConcurrency()} requests are in flight at once, of which
+ * {@link #getReservedConcurrency()} are reserved for {@link Priority#INTERACTIVE} requests. Queued
+ * requests are admitted by weighted fair queuing: while several priority classes wait, each gets a
+ * share of the free slots proportional to its {@link #getWeight(Priority)}. A request is only sent
+ * while more than {@link #getRateLimitReserve(Priority)} requests of the rate limit remain, so bulk
+ * jobs can't use up the budget of interactive requests.
+ */
+public final class SchedulerPolicy {
+    
+    private static final SchedulerPolicy DEFAULTS = builder().build();
+    
+    private final int maxConcurrency;
+    private final int reservedConcurrency;
+    private final Map<Priority, Integer> weights;
+    private final Map<Priority, Integer> rateLimitReserves;
+    
+    private SchedulerPolicy(Builder builder) {
+        this.maxConcurrency = builder.maxConcurrency;
+        this.reservedConcurrency = builder.reservedConcurrency;
+        this.weights = new EnumMap<>(builder.weights);
+        this.rateLimitReserves = new EnumMap<>(builder.rateLimitReserves);
+    }
+    
+    /**
+     * Gets a SchedulerPolicy with the defaults of {@link Builder}.
+     *
+     * @return The default SchedulerPolicy
+     */
+    public static SchedulerPolicy defaults() {
+        return DEFAULTS;
+    }
+    
+    /**
+     * Creates a new {@link Builder} initialized with the defaults.
+     *
+     * @return The new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Gets the maximum number of requests in flight.
+     *
+     * @return The maximum concurrency
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+    
+    /**
+     * Gets the number of in-flight slots only {@link Priority#INTERACTIVE} requests may use.
+     *
+     * @return The reserved concurrency
+     */
+    public int getReservedConcurrency() {
+        return reservedConcurrency;
+    }
+    
+    /**
+     * Gets the weight of the given priority class.
+     *
+     * @param priority The {@link Priority}
+     *
+     * @return The weight
+     */
+    public int getWeight(Priority priority) {
+        return weights.get(priority);
+    }
+    
+    /**
+     * Gets the number of remaining requests of the rate limit the given priority class must not
+     * use.
+     *
+     * @param priority The {@link Priority}
+     *
+     * @return The rate limit reserve
+     */
+    public int getRateLimitReserve(Priority priority) {
+        return rateLimitReserves.get(priority);
+    }
+    
+    @Override
+    public String toString() {
+        return "SchedulerPolicy [getMaxConcurrency()=" + getMaxConcurrency() + ", getReservedConcurrency()=" + getReservedConcurrency()
+                + ", weights=" + weights + ", rateLimitReserves=" + rateLimitReserves + "]";
+    }
+    
+    /**
+     * Builder of a {@link SchedulerPolicy}.
+     */
+    public static final class Builder {
+        
+        private int maxConcurrency = 4;
+        private int reservedConcurrency = 1;
+        private final Map<Priority, Integer> weights = new EnumMap<>(Map.of(Priority.INTERACTIVE, 16, Priority.NORMAL, 4, Priority.BULK, 1));
+        private final Map<Priority, Integer> rateLimitReserves = new EnumMap<>(Map.of(Priority.INTERACTIVE, 0, Priority.NORMAL, 25, Priority.BULK,
+                50));
+        
+        private Builder() {
+        }
+        
+        /**
+         * Sets the maximum number of requests in flight. Default is 4.
+         *
+         * @param maxConcurrency The maximum concurrency, at least 1
+         *
+         * @return This Builder
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+        
+        /**
+         * Sets the number of in-flight slots only {@link Priority#INTERACTIVE} requests may use, so
+         * they don't wait for a slow bulk request to finish. Default is 1.
+         *
+         * @param reservedConcurrency The reserved concurrency, less than the maximum concurrency
+         *
+         * @return This Builder
+         */
+        public Builder reservedConcurrency(int reservedConcurrency) {
+            this.reservedConcurrency = requireNonNegative(reservedConcurrency, "reservedConcurrency");
+            return this;
+        }
+        
+        /**
+         * Sets the weight of a priority class. Defaults are 16 for {@link Priority#INTERACTIVE}, 4
+         * for {@link Priority#NORMAL} and 1 for {@link Priority#BULK}.
+         *
+         * @param priority The {@link Priority}
+         * @param weight The weight, at least 1
+         *
+         * @return This Builder
+         */
+        public Builder weight(Priority priority, int weight) {
+            Objects.requireNonNull(priority, "priority missing");
+            if (weight < 1) {
+                throw new IllegalArgumentException("weight must be at least 1: " + weight);
+            }
+            weights.put(priority, weight);
+            return this;
+        }
+        
+        /**
+         * Sets the number of remaining requests of the rate limit a priority class must not use.
+         * Requests exceeding it fail like requests exceeding the rate limit. Defaults are 0 for
+         * {@link Priority#INTERACTIVE}, 25 for {@link Priority#NORMAL} and 50 for
+         * {@link Priority#BULK}.
+         *
+         * @param priority The {@link Priority}
+         * @param rateLimitReserve The rate limit reserve
+         *
+         * @return This Builder
+         */
+        public Builder rateLimitReserve(Priority priority, int rateLimitReserve) {
+            Objects.requireNonNull(priority, "priority missing");
+            rateLimitReserves.put(priority, requireNonNegative(rateLimitReserve, "rateLimitReserve"));
+            return this;
+        }
+        
+        /**
+         * Creates the {@link SchedulerPolicy}.
+         *
+         * @return The new {@link SchedulerPolicy}
+         */
+        public SchedulerPolicy build() {
+            if (reservedConcurrency >= maxConcurrency) {
+                throw new IllegalArgumentException("reservedConcurrency must be less than maxConcurrency: " + reservedConcurrency + " >= "
+                        + maxConcurrency);
+            }
+            return new SchedulerPolicy(this);
+        }
+        
+        private static int requireNonNegative(int value, String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must not be negative: " + value);
+            }
+            return value;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.view;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.saftsau.xrel4j.comment.Author;
+import com.github.saftsau.xrel4j.comment.Comment;
+
+import java.io.Serializable;
+
+/**
+ * Immutable view of a {@link Comment}. Instances are safe to share between threads and can be
+ * deserialized directly from xREL API responses.
+ *
+ * @param id API ID of the {@link Comment}
+ * @param time UNIX timestamp of when the {@link Comment} was posted
+ * @param author of the {@link Comment}
+ * @param text of the {@link Comment}
+ * @param linkHref link to the {@link Comment} on xREL
+ * @param rating given with the {@link Comment}
+ * @param votes of the {@link Comment}
+ * @param edits of the {@link Comment}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CommentView(String id,
+                          long time,
+                          Author author,
+                          String text,
+                          @JsonProperty("link_href") String linkHref,
+                          Rating rating,
+                          Votes votes,
+                          Edits edits) implements Serializable {
+    
+    /**
+     * Creates a CommentView of the given {@link Comment}.
+     *
+     * @param comment The {@link Comment} to copy, can be {@code null}
+     *
+     * @return The CommentView or {@code null} if the given {@link Comment} is {@code null}
+     */
+    public static CommentView of(Comment comment) {
+        if (comment == null) {
+            return null;
+        }
+        final Rating rating = comment.getRating() == null ? null : new Rating(comment.getRating().getVideo(), comment.getRating().getAudio());
+        final Votes votes = comment.getVotes() == null ? null : new Votes(comment.getVotes().getPositive(), comment.getVotes().getNegative());
+        final Edits edits = comment.getEdits() == null ? null : new Edits(comment.getEdits().getCount(), comment.getEdits().getLast());
+        return new CommentView(comment.getId(), comment.getTime(), comment.getAuthor(), comment.getText(), comment.getLinkHref(), rating, votes,
+                edits);
+    }
+    
+    /**
+     * Immutable view of a {@link com.github.saftsau.xrel4j.comment.Rating}.
+     *
+     * @param video rating of the video
+     * @param audio rating of the audio
+     */
+    public record Rating(int video, int audio) implements Serializable {
+        
+    }
+    
+    /**
+     * Immutable view of {@link com.github.saftsau.xrel4j.comment.Votes}.
+     *
+     * @param positive number of positive votes
+     * @param negative number of negative votes
+     */
+    public record Votes(int positive, int negative) implements Serializable {
+        
+    }
+    
+    /**
+     * Immutable view of {@link com.github.saftsau.xrel4j.comment.Edits}.
+     *
+     * @param count number of edits
+     * @param last UNIX timestamp of the last edit
+     */
+    public record Edits(int count, long last) implements Serializable {
+        
+    }
+    
+}
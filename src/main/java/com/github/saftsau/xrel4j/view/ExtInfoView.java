@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.view;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Immutable view of the information of an {@link ExtInfo}, as embedded in releases and favorite
+ * lists. Nested releases, media, externals and release dates are not part of this view.
+ *
+ * @param type of the {@link ExtInfo}, e.g. {@code movie} or {@code tv}
+ * @param id API ID of the {@link ExtInfo}
+ * @param title of the {@link ExtInfo}
+ * @param linkHref link to the {@link ExtInfo} on xREL
+ * @param genre of the {@link ExtInfo}
+ * @param altTitle alternative title of the {@link ExtInfo}
+ * @param coverUrl URL of the cover of the {@link ExtInfo}
+ * @param uris URIs of the {@link ExtInfo}, never {@code null}
+ * @param rating average rating of the {@link ExtInfo}
+ * @param ownRating rating of the current user
+ * @param numRatings number of ratings
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ExtInfoView(@JsonDeserialize(using = InterningStringDeserializer.class) String type,
+                          String id,
+                          String title,
+                          @JsonProperty("link_href") String linkHref,
+                          String genre,
+                          @JsonProperty("alt_title") String altTitle,
+                          @JsonProperty("cover_url") String coverUrl,
+                          List<String> uris,
+                          double rating,
+                          @JsonProperty("own_rating") int ownRating,
+                          @JsonProperty("num_ratings") long numRatings) implements Serializable {
+    
+    public ExtInfoView {
+        uris = uris == null ? List.of() : List.copyOf(uris);
+    }
+    
+    /**
+     * Creates an ExtInfoView of the given {@link ExtInfo}.
+     *
+     * @param extInfo The {@link ExtInfo} to copy, can be {@code null}
+     *
+     * @return The ExtInfoView or {@code null} if the given {@link ExtInfo} is {@code null}
+     */
+    public static ExtInfoView of(ExtInfo extInfo) {
+        if (extInfo == null) {
+            return null;
+        }
+        return new ExtInfoView(extInfo.getType(), extInfo.getId(), extInfo.getTitle(), extInfo.getLinkHref(), extInfo.getGenre(),
+                extInfo.getAltTitle(), extInfo.getCoverUrl(), extInfo.getUris(), extInfo.getRating(), extInfo.getOwnRating(),
+                extInfo.getNumRatings());
+    }
+    
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.view;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.favorite.Favorite;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable view of a {@link Favorite} list. Instances are safe to share between threads and can
+ * be deserialized directly from xREL API responses.
+ *
+ * @param id API ID of the {@link Favorite} list
+ * @param name of the {@link Favorite} list
+ * @param isPublic {@code true} if the {@link Favorite} list is public
+ * @param notifyEnabled {@code true} if notifications are enabled
+ * @param autoRead {@code true} if releases are marked as read automatically
+ * @param includeP2p {@code true} if P2P releases are included
+ * @param description of the {@link Favorite} list
+ * @param passwordHash password hash of the {@link Favorite} list
+ * @param entryCount number of entries
+ * @param unreadReleases number of unread releases
+ * @param entries of the {@link Favorite} list, never {@code null}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FavoriteView(long id,
+                           String name,
+                           @JsonProperty("public") boolean isPublic,
+                           @JsonProperty("notify") boolean notifyEnabled,
+                           @JsonProperty("auto_read") boolean autoRead,
+                           @JsonProperty("include_p2p") boolean includeP2p,
+                           String description,
+                           @JsonProperty("password_hash") String passwordHash,
+                           @JsonProperty("entry_count") long entryCount,
+                           @JsonProperty("unread_releases") long unreadReleases,
+                           List<ExtInfoView> entries) implements Serializable {
+    
+    public FavoriteView {
+        entries = entries == null ? List.of() : List.copyOf(entries);
+    }
+    
+    /**
+     * Creates a FavoriteView of the given {@link Favorite} list.
+     *
+     * @param favorite The {@link Favorite} list to copy, can be {@code null}
+     *
+     * @return The FavoriteView or {@code null} if the given {@link Favorite} list is {@code null}
+     */
+    public static FavoriteView of(Favorite favorite) {
+        if (favorite == null) {
+            return null;
+        }
+        List<ExtInfoView> entries = null;
+        if (favorite.getEntries() != null) {
+            entries = new ArrayList<>(favorite.getEntries().size());
+            for (ExtInfo extInfo : favorite.getEntries()) {
+                if (extInfo != null) {
+                    entries.add(ExtInfoView.of(extInfo));
+                }
+            }
+        }
+        return new FavoriteView(favorite.getId(), favorite.getName(), favorite.isPublic(), favorite.isNotify(), favorite.isAutoRead(),
+                favorite.isIncludeP2p(), favorite.getDescription(), favorite.getPasswordHash(), favorite.getEntryCount(),
+                favorite.getUnreadReleases(), entries);
+    }
+    
+}
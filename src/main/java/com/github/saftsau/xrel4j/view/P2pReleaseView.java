@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.view;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
+import com.github.saftsau.xrel4j.release.p2p.P2pCategory;
+import com.github.saftsau.xrel4j.release.p2p.P2pGroup;
+import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
+
+import java.io.Serializable;
+
+/**
+ * Immutable view of a {@link P2pRelease}. Instances are safe to share between threads and can be
+ * deserialized directly from xREL API responses.
+ *
+ * @param id API ID of the {@link P2pRelease}
+ * @param dirname of the {@link P2pRelease}
+ * @param linkHref link to the {@link P2pRelease} on xREL
+ * @param category of the {@link P2pRelease}
+ * @param mainLang main language of the {@link P2pRelease}
+ * @param pubTime publish time of the {@link P2pRelease}
+ * @param postTime post time of the {@link P2pRelease}
+ * @param sizeMb size of the {@link P2pRelease} in MB
+ * @param group of the {@link P2pRelease}
+ * @param numRatings number of ratings
+ * @param videoRating average video rating
+ * @param audioRating average audio rating
+ * @param extInfo {@link ExtInfoView} of the {@link P2pRelease}
+ * @param tvSeason TV season of the {@link P2pRelease}
+ * @param tvEpisode TV episode of the {@link P2pRelease}
+ * @param comments number of comments
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record P2pReleaseView(String id,
+                             String dirname,
+                             @JsonProperty("link_href") String linkHref,
+                             Category category,
+                             @JsonProperty("main_lang") @JsonDeserialize(using = InterningStringDeserializer.class) String mainLang,
+                             @JsonProperty("pub_time") long pubTime,
+                             @JsonProperty("post_time") long postTime,
+                             @JsonProperty("size_mb") long sizeMb,
+                             P2pGroup group,
+                             @JsonProperty("num_ratings") int numRatings,
+                             @JsonProperty("video_rating") double videoRating,
+                             @JsonProperty("audio_rating") double audioRating,
+                             @JsonProperty("ext_info") ExtInfoView extInfo,
+                             @JsonProperty("tv_season") int tvSeason,
+                             @JsonProperty("tv_episode") int tvEpisode,
+                             int comments) implements Serializable {
+    
+    /**
+     * Creates a P2pReleaseView of the given {@link P2pRelease}.
+     *
+     * @param p2pRelease The {@link P2pRelease} to copy, can be {@code null}
+     *
+     * @return The P2pReleaseView or {@code null} if the given {@link P2pRelease} is {@code null}
+     */
+    public static P2pReleaseView of(P2pRelease p2pRelease) {
+        if (p2pRelease == null) {
+            return null;
+        }
+        return new P2pReleaseView(p2pRelease.getId(), p2pRelease.getDirname(), p2pRelease.getLinkHref(), Category.of(p2pRelease.getCategory()),
+                p2pRelease.getMainLang(), p2pRelease.getPubTime(), p2pRelease.getPostTime(), p2pRelease.getSizeMb(), p2pRelease.getGroup(),
+                p2pRelease.getNumRatings(), p2pRelease.getVideoRating(), p2pRelease.getAudioRating(), ExtInfoView.of(p2pRelease.getExtInfo()),
+                p2pRelease.getTvSeason(), p2pRelease.getTvEpisode(), p2pRelease.getComments());
+    }
+    
+    /**
+     * Gets the size of this P2pReleaseView in bytes. {@code -1} if not available.
+     *
+     * @return The size in bytes
+     */
+    @JsonIgnore
+    public long sizeBytes() {
+        return sizeMb < 0 ? -1 : sizeMb << 20;
+    }
+    
+    /**
+     * Immutable view of a {@link P2pCategory}.
+     *
+     * @param metaCat meta category of the {@link P2pCategory}
+     * @param subCat sub category of the {@link P2pCategory}
+     * @param id API ID of the {@link P2pCategory}
+     */
+    public record Category(@JsonProperty("meta_cat") @JsonDeserialize(using = InterningStringDeserializer.class) String metaCat,
+                           @JsonProperty("sub_cat") @JsonDeserialize(using = InterningStringDeserializer.class) String subCat,
+                           @JsonDeserialize(using = InterningStringDeserializer.class) String id) implements Serializable {
+        
+        /**
+         * Creates a Category of the given {@link P2pCategory}.
+         *
+         * @param p2pCategory The {@link P2pCategory} to copy, can be {@code null}
+         *
+         * @return The Category or {@code null} if the given {@link P2pCategory} is {@code null}
+         */
+        public static Category of(P2pCategory p2pCategory) {
+            if (p2pCategory == null) {
+                return null;
+            }
+            return new Category(p2pCategory.getMetaCat(), p2pCategory.getSubCat(), p2pCategory.getId());
+        }
+        
+    }
+    
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.view;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.saftsau.xrel4j.converters.InterningStringDeserializer;
+import com.github.saftsau.xrel4j.converters.SizeNumberToStringConverter;
+import com.github.saftsau.xrel4j.converters.StringToSizeNumberConverter;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlag;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlags;
+
+import java.io.Serializable;
+
+/**
+ * Immutable view of a {@link Release}. Instances are safe to share between threads and can be
+ * deserialized directly from xREL API responses.
+ *
+ * @param id API ID of the {@link Release}
+ * @param dirname of the {@link Release}
+ * @param linkHref link to the {@link Release} on xREL
+ * @param time timestamp of when the {@link Release} was pred
+ * @param groupName name of the group of the {@link Release}
+ * @param nukeReason reason the {@link Release} was nuked
+ * @param size of the {@link Release}
+ * @param videoType of the {@link Release}
+ * @param audioType of the {@link Release}
+ * @param proofUrl URL of the proof of the {@link Release}
+ * @param flags of the {@link Release}, never {@code null}
+ * @param numRatings number of ratings
+ * @param videoRating average video rating
+ * @param audioRating average audio rating
+ * @param extInfo {@link ExtInfoView} of the {@link Release}
+ * @param tvSeason TV season of the {@link Release}
+ * @param tvEpisode TV episode of the {@link Release}
+ * @param comments number of comments
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReleaseView(String id,
+                          String dirname,
+                          @JsonProperty("link_href") String linkHref,
+                          long time,
+                          @JsonProperty("group_name") @JsonDeserialize(using = InterningStringDeserializer.class) String groupName,
+                          @JsonProperty("nuke_reason") String nukeReason,
+                          Size size,
+                          @JsonProperty("video_type") @JsonDeserialize(using = InterningStringDeserializer.class) String videoType,
+                          @JsonProperty("audio_type") @JsonDeserialize(using = InterningStringDeserializer.class) String audioType,
+                          @JsonProperty("proof_url") String proofUrl,
+                          ReleaseFlags flags,
+                          @JsonProperty("num_ratings") int numRatings,
+                          @JsonProperty("video_rating") double videoRating,
+                          @JsonProperty("audio_rating") double audioRating,
+                          @JsonProperty("ext_info") ExtInfoView extInfo,
+                          @JsonProperty("tv_season") int tvSeason,
+                          @JsonProperty("tv_episode") int tvEpisode,
+                          int comments) implements Serializable {
+    
+    public ReleaseView {
+        flags = flags == null ? ReleaseFlags.EMPTY : flags;
+    }
+    
+    /**
+     * Creates a ReleaseView of the given {@link Release}.
+     *
+     * @param release The {@link Release} to copy, can be {@code null}
+     *
+     * @return The ReleaseView or {@code null} if the given {@link Release} is {@code null}
+     */
+    public static ReleaseView of(Release release) {
+        if (release == null) {
+            return null;
+        }
+        final Size size = release.getSize() == null ? null : new Size(release.getSize().getNumber(), release.getSize().getUnit());
+        return new ReleaseView(release.getId(), release.getDirname(), release.getLinkHref(), release.getTime(), release.getGroupName(),
+                release.getNukeReason(), size, release.getVideoType(), release.getAudioType(), release.getProofUrl(),
+                release.getReleaseFlags(), release.getNumRatings(), release.getVideoRating(), release.getAudioRating(),
+                ExtInfoView.of(release.getExtInfo()), release.getTvSeason(), release.getTvEpisode(), release.getComments());
+    }
+    
+    /**
+     * Gets the size of this ReleaseView in bytes. {@code -1} if not available.
+     *
+     * @return The size in bytes
+     */
+    @JsonIgnore
+    public long sizeBytes() {
+        return size == null ? -1 : size.bytes();
+    }
+    
+    /**
+     * Gets whether this ReleaseView is nuked, i.e. has a nuke reason.
+     *
+     * @return {@code true} if nuked
+     */
+    @JsonIgnore
+    public boolean isNuked() {
+        return nukeReason != null && !nukeReason.isEmpty();
+    }
+    
+    /**
+     * Checks if this ReleaseView has the given flag set to {@code true}.
+     *
+     * @param flag The flag to check
+     *
+     * @return {@code true} if the flag is set, {@code false} otherwise
+     */
+    public boolean hasFlag(ReleaseFlag flag) {
+        return flags.has(flag);
+    }
+    
+    /**
+     * Immutable view of a {@link com.github.saftsau.xrel4j.release.Size}, including its size in
+     * bytes computed once on creation.
+     *
+     * @param number of the size or one of the {@code SIZE_*} constants of
+     *        {@link com.github.saftsau.xrel4j.release.Size}
+     * @param unit of the size
+     * @param bytes size in bytes, {@code -1} if not available
+     */
+    public record Size(@JsonSerialize(converter = SizeNumberToStringConverter.class) int number,
+                       String unit,
+                       @JsonIgnore long bytes) implements Serializable {
+        
+        /**
+         * Creates a Size and computes its size in bytes.
+         *
+         * @param number of the size
+         * @param unit of the size
+         */
+        @JsonCreator
+        public Size(@JsonProperty("number") @JsonDeserialize(converter = StringToSizeNumberConverter.class) int number,
+                    @JsonProperty("unit") @JsonDeserialize(using = InterningStringDeserializer.class) String unit) {
+            this(number, unit, com.github.saftsau.xrel4j.release.Size.toBytes(number, unit));
+        }
+        
+    }
+    
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.github.saftsau.xrel4j.metrics.InMemoryXrelMetrics;
+import com.github.saftsau.xrel4j.retry.RetryPolicy;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RestClientTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testProfile() {
+        final InMemoryXrelMetrics metrics = new InMemoryXrelMetrics();
+        final RestClient restClient = RestClient.builder().baseUrl(simulator.getBaseUrl()).profile(PerformanceProfile.BULK_CRAWL).metrics(metrics).build();
+        Assertions.assertEquals(PerformanceProfile.BULK_CRAWL.getMaxRequestsPerHost(), restClient.getHttpClient().dispatcher().getMaxRequestsPerHost());
+        Assertions.assertEquals(PerformanceProfile.BULK_CRAWL.getReadTimeout().toMillis(), restClient.getHttpClient().readTimeoutMillis());
+        Assertions.assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), restClient.getHttpClient().protocols());
+        Assertions.assertFalse(new Xrel(restClient).getReleaseCategories().isEmpty());
+        // Synchronous calls bypass the dispatcher queue
+        Assertions.assertEquals(0, metrics.getMaxDispatcherQueueDepth());
+        Assertions.assertEquals(0, restClient.getDispatcherQueueDepth());
+    }
+    
+    @Test
+    void testSharedConnections() {
+        final RestClient first = RestClient.builder().baseUrl(simulator.getBaseUrl()).profile(PerformanceProfile.LOW_LATENCY).build();
+        final RestClient second = RestClient.builder().baseUrl(simulator.getBaseUrl()).profile(PerformanceProfile.BULK_CRAWL).shareConnections(first)
+                .retryPolicy(RetryPolicy.defaults()).build();
+        Assertions.assertSame(first.getHttpClient().connectionPool(), second.getHttpClient().connectionPool());
+        Assertions.assertSame(first.getHttpClient().dispatcher(), second.getHttpClient().dispatcher());
+        Assertions.assertEquals(PerformanceProfile.BULK_CRAWL.getReadTimeout().toMillis(), second.getHttpClient().readTimeoutMillis());
+        Assertions.assertFalse(new Xrel(first).getReleaseCategories().isEmpty());
+        Assertions.assertFalse(new Xrel(second).getReleaseCategories().isEmpty());
+        // The second client reused the connection of the first one
+        Assertions.assertEquals(1, first.getHttpClient().connectionPool().connectionCount());
+    }
+    
+    @Test
+    void testLazyStartup() {
+        final AtomicInteger httpClients = new AtomicInteger();
+        final RestClient restClient = RestClient.builder().baseUrl(simulator.getBaseUrl()).httpClient(builder -> httpClients.incrementAndGet()).build();
+        final Xrel lazyXrel = new Xrel(restClient);
+        Assertions.assertEquals(0, httpClients.get());
+        Assertions.assertSame(restClient, restClient.prewarm());
+        Assertions.assertEquals(1, httpClients.get());
+        Assertions.assertFalse(lazyXrel.getReleaseCategories().isEmpty());
+        Assertions.assertEquals(1, httpClients.get());
+    }
+    
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public class StringPoolTest {
+    
+    private static List<Release> readReleases(ObjectMapper objectMapper) throws IOException {
+        try (InputStream inputStream = StringPoolTest.class.getResourceAsStream("/xrel/release_latest.json")) {
+            return objectMapper.readValue(inputStream, new TypeReference<PaginationList<Release>>() {}).getList();
+        }
+    }
+    
+    @Test
+    void testIntern() {
+        final StringPool stringPool = new StringPool(2, 8);
+        final String first = stringPool.intern(new String("SiNNERS"));
+        Assertions.assertSame(first, stringPool.intern(new String("SiNNERS")));
+        Assertions.assertNull(stringPool.intern(null));
+        // Too long
+        final String dirname = new String("Some.Release-GRP");
+        Assertions.assertSame(dirname, stringPool.intern(dirname));
+        Assertions.assertNotSame(dirname, stringPool.intern(new String("Some.Release-GRP")));
+        // Full
+        stringPool.intern("x264");
+        final String full = new String("DEFLATE");
+        Assertions.assertSame(full, stringPool.intern(full));
+        Assertions.assertEquals(2, stringPool.size());
+        stringPool.clear();
+        Assertions.assertEquals(0, stringPool.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StringPool(0, 8));
+    }
+    
+    @Test
+    void testInstall() throws IOException {
+        final ObjectMapper objectMapper = RestClient.createObjectMapper();
+        final StringPool stringPool = new StringPool();
+        stringPool.install(objectMapper);
+        final List<Release> releases = readReleases(objectMapper);
+        final List<Release> nextReleases = readReleases(objectMapper);
+        Assertions.assertEquals("NTb", releases.get(0).getGroupName());
+        Assertions.assertSame(releases.get(0).getGroupName(), nextReleases.get(0).getGroupName());
+        Assertions.assertSame(releases.get(0).getVideoType(), nextReleases.get(0).getVideoType());
+        Assertions.assertSame(releases.get(0).getSize().getUnit(), nextReleases.get(0).getSize().getUnit());
+        Assertions.assertSame(releases.get(0).getExtInfo().getType(), nextReleases.get(0).getExtInfo().getType());
+        // Unique values aren't annotated
+        Assertions.assertNotSame(releases.get(0).getDirname(), nextReleases.get(0).getDirname());
+        Assertions.assertSame(stringPool, objectMapper.getDeserializationConfig().getAttributes().getAttribute(StringPool.class));
+        
+        // Without a pool nothing is shared
+        final ObjectMapper plainObjectMapper = RestClient.createObjectMapper();
+        Assertions.assertNotSame(readReleases(plainObjectMapper).get(0).getGroupName(), readReleases(plainObjectMapper).get(0).getGroupName());
+    }
+    
+    @Test
+    void testRestClient() throws IOException {
+        try (XrelSimulator simulator = new XrelSimulator()) {
+            simulator.start();
+            final StringPool stringPool = new StringPool();
+            final Xrel pooledXrel = new Xrel(RestClient.create(simulator.getBaseUrl(), null, stringPool::install));
+            final Release release = pooledXrel.getReleaseLatest(100, 1).getList().get(0);
+            Assertions.assertTrue(stringPool.size() > 0);
+            Assertions.assertSame(release.getGroupName(), pooledXrel.getReleaseLatest(100, 1).getList().get(0).getGroupName());
+            // The shared ObjectMapper of other clients is unaffected
+            Assertions.assertNull(RestClient.getSharedObjectMapper().getDeserializationConfig().getAttributes().getAttribute(StringPool.class));
+        }
+    }
+    
+}
@@ -0,0 +1,655 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.metrics.Histogram;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Load generator driving {@link Xrel} against the {@link XrelSimulator} or any other stub of the
+ * xREL API. It reports throughput and p50/p99/p999 latency per endpoint as well as GC and
+ * allocation stats of the measurement phase.
+ * <p>
+ * By default the load is a closed loop: every thread sends its next request as soon as the last
+ * one is done. With a target rate the load is an open loop instead, where requests are started at
+ * fixed intervals and latency is measured from the intended start, so queueing in an overloaded
+ * client is part of the result.
+ * <p>
+ * Run it with {@code gradle loadTest -PloadTestArgs="--threads=16 --duration=60"}, see
+ * {@link Options#parse(String...)} for all arguments.
+ */
+public final class XrelLoadGenerator {
+    
+    private static final String SEARCH_QUERY = "harbor";
+    
+    /**
+     * The endpoints the load generator can call, each with a fixed set of parameters.
+     */
+    public enum Endpoint {
+        
+        RELEASE_INFO("release/info", xrel -> xrel.getReleaseInfoId("23392456de")),
+        RELEASE_LATEST("release/latest", xrel -> xrel.getReleaseLatest(100, 1)),
+        RELEASE_CATEGORIES("release/categories", Xrel::getReleaseCategories),
+        RELEASE_FILTERS("release/filters", Xrel::getReleaseFilters),
+        RELEASE_EXT_INFO("release/ext_info", xrel -> xrel.getReleaseExtInfo(extInfo(), 100, 1)),
+        P2P_RELEASES("p2p/releases", xrel -> xrel.getP2pReleases(100, 1)),
+        P2P_CATEGORIES("p2p/categories", Xrel::getP2pCategories),
+        CALENDAR_UPCOMING("calendar/upcoming", xrel -> xrel.getCalendarUpcoming("de")),
+        EXT_INFO_INFO("ext_info/info", xrel -> xrel.getExtInfoInfo(extInfo())),
+        EXT_INFO_MEDIA("ext_info/media", xrel -> xrel.getExtInfoMedia(extInfo())),
+        SEARCH_RELEASES("search/releases", xrel -> xrel.getSearchReleases(SEARCH_QUERY, true, true, 25)),
+        SEARCH_EXT_INFO("search/ext_info", xrel -> xrel.getSearchExtInfo(SEARCH_QUERY)),
+        COMMENTS_GET("comments/get", xrel -> xrel.getCommentsGet(release(), 10, 1));
+        
+        private final String path;
+        private final Consumer<Xrel> call;
+        
+        Endpoint(String path, Consumer<Xrel> call) {
+            this.path = path;
+            this.call = call;
+        }
+        
+        /**
+         * Gets the path of this endpoint relative to the base URL, without the format.
+         *
+         * @return The path
+         */
+        public String getPath() {
+            return path;
+        }
+        
+        /**
+         * Gets the Endpoint of the given path.
+         *
+         * @param path The path relative to the base URL, e.g. {@code release/latest}
+         *
+         * @return The Endpoint
+         *
+         * @throws IllegalArgumentException if there is no Endpoint for this path
+         */
+        public static Endpoint fromPath(String path) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.path.equals(path)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Unknown endpoint " + path);
+        }
+        
+        private static ExtInfo extInfo() {
+            // A new instance per call, as some methods modify the given ExtInfo
+            final ExtInfo extInfo = new ExtInfo();
+            extInfo.setId("a1b2c3");
+            return extInfo;
+        }
+        
+        private static Release release() {
+            final Release release = new Release();
+            release.setId("23392456de");
+            return release;
+        }
+        
+    }
+    
+    /**
+     * The options of a load test run.
+     */
+    public static final class Options {
+        
+        private int threads = 8;
+        private Duration warmup = Duration.ofSeconds(5);
+        private Duration duration = Duration.ofSeconds(30);
+        private double rate;
+        private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        private String baseUrl;
+        private boolean cache;
+        private boolean rateLimited;
+        private XrelSimulator.Latency latency = XrelSimulator.Latency.logNormal(Duration.ofMillis(20), 0.5);
+        private double errorRate;
+        
+        /**
+         * Creates new Options with the default mix of 60 % {@code release/latest}, 20 %
+         * {@code release/info}, 10 % {@code ext_info/info}, 5 % {@code release/categories} and 5 %
+         * {@code search/releases}.
+         */
+        public Options() {
+            mix.put(Endpoint.RELEASE_LATEST, 60);
+            mix.put(Endpoint.RELEASE_INFO, 20);
+            mix.put(Endpoint.EXT_INFO_INFO, 10);
+            mix.put(Endpoint.RELEASE_CATEGORIES, 5);
+            mix.put(Endpoint.SEARCH_RELEASES, 5);
+        }
+        
+        /**
+         * Parses Options from command line arguments of the form {@code --name=value}:
+         * <ul>
+         * <li>{@code --threads=8} the number of concurrent requests</li>
+         * <li>{@code --warmup=5} and {@code --duration=30} the phases in seconds</li>
+         * <li>{@code --rate=500} requests per second for an open loop, 0 for a closed loop</li>
+         * <li>{@code --mix=release/latest:60,search/releases:5} the relative endpoint weights</li>
+         * <li>{@code --base-url=http://localhost:8080/v2/} an external stub instead of the
+         * simulator</li>
+         * <li>{@code --cache=true} an HTTP cache in the client and cacheable simulator responses</li>
+         * <li>{@code --rate-limited=true} the rate limits of the real API in the simulator</li>
+         * <li>{@code --latency=20} and {@code --jitter=0.5} the median simulator latency in
+         * milliseconds and its log-normal sigma</li>
+         * <li>{@code --error-rate=0.01} the fraction of simulated errors with status 200</li>
+         * </ul>
+         *
+         * @param args The arguments to parse
+         *
+         * @return The new Options
+         *
+         * @throws IllegalArgumentException if an argument is invalid
+         */
+        public static Options parse(String... args) {
+            final Options options = new Options();
+            long latencyMillis = 20;
+            double jitter = 0.5;
+            for (String arg : args) {
+                final int separator = arg.indexOf('=');
+                if (!arg.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Expected --name=value but got " + arg);
+                }
+                final String value = arg.substring(separator + 1);
+                switch (arg.substring(2, separator)) {
+                    case "threads" -> options.threads(Integer.parseInt(value));
+                    case "warmup" -> options.warmup(Duration.ofSeconds(Long.parseLong(value)));
+                    case "duration" -> options.duration(Duration.ofSeconds(Long.parseLong(value)));
+                    case "rate" -> options.rate(Double.parseDouble(value));
+                    case "mix" -> options.mix(parseMix(value));
+                    case "base-url" -> options.baseUrl(value);
+                    case "cache" -> options.cache(Boolean.parseBoolean(value));
+                    case "rate-limited" -> options.rateLimited(Boolean.parseBoolean(value));
+                    case "latency" -> latencyMillis = Long.parseLong(value);
+                    case "jitter" -> jitter = Double.parseDouble(value);
+                    case "error-rate" -> options.errorRate(Double.parseDouble(value));
+                    default -> throw new IllegalArgumentException("Unknown argument " + arg);
+                }
+            }
+            return options.latency(XrelSimulator.Latency.logNormal(Duration.ofMillis(latencyMillis), jitter));
+        }
+        
+        private static Map<Endpoint, Integer> parseMix(String value) {
+            final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+            for (String entry : value.split(",")) {
+                final int separator = entry.lastIndexOf(':');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Expected endpoint:weight but got " + entry);
+                }
+                mix.put(Endpoint.fromPath(entry.substring(0, separator).trim()), Integer.parseInt(entry.substring(separator + 1).trim()));
+            }
+            return mix;
+        }
+        
+        public Options threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be 1 or greater");
+            }
+            this.threads = threads;
+            return this;
+        }
+        
+        public Options warmup(Duration warmup) {
+            this.warmup = warmup;
+            return this;
+        }
+        
+        public Options duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+        
+        public Options rate(double rate) {
+            if (rate < 0) {
+                throw new IllegalArgumentException("rate must not be negative");
+            }
+            this.rate = rate;
+            return this;
+        }
+        
+        public Options mix(Map<Endpoint, Integer> mix) {
+            if (mix.isEmpty() || mix.values().stream().anyMatch(weight -> weight < 0) || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+                throw new IllegalArgumentException("mix needs at least one positive weight");
+            }
+            this.mix.clear();
+            this.mix.putAll(mix);
+            return this;
+        }
+        
+        public Options baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+        
+        public Options cache(boolean cache) {
+            this.cache = cache;
+            return this;
+        }
+        
+        public Options rateLimited(boolean rateLimited) {
+            this.rateLimited = rateLimited;
+            return this;
+        }
+        
+        public Options latency(XrelSimulator.Latency latency) {
+            this.latency = latency;
+            return this;
+        }
+        
+        public Options errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+        
+        @Override
+        public String toString() {
+            return "Options [threads=" + threads + ", warmup=" + warmup + ", duration=" + duration + ", rate=" + rate + ", mix=" + mix + ", baseUrl="
+                    + baseUrl + ", cache=" + cache + ", rateLimited=" + rateLimited + ", errorRate=" + errorRate + "]";
+        }
+        
+    }
+    
+    /**
+     * The result of a load test run.
+     */
+    public static final class Report {
+        
+        private final Options options;
+        private final Map<Endpoint, Histogram> histograms;
+        private final Map<Endpoint, Long> errors;
+        private final Map<String, Long> errorTypes;
+        private final double seconds;
+        private final long gcCount;
+        private final long gcMillis;
+        private final long allocatedBytes;
+        
+        private Report(Options options, Map<Endpoint, Histogram> histograms, Map<Endpoint, Long> errors, Map<String, Long> errorTypes, double seconds,
+                long gcCount, long gcMillis, long allocatedBytes) {
+            this.options = options;
+            this.histograms = histograms;
+            this.errors = errors;
+            this.errorTypes = errorTypes;
+            this.seconds = seconds;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+            this.allocatedBytes = allocatedBytes;
+        }
+        
+        /**
+         * Gets the number of successful requests per second of the given endpoint.
+         *
+         * @param endpoint The endpoint
+         *
+         * @return The throughput
+         */
+        public double getThroughput(Endpoint endpoint) {
+            final Histogram histogram = histograms.get(endpoint);
+            return histogram == null ? 0 : histogram.getTotalCount() / seconds;
+        }
+        
+        /**
+         * Gets the latency of successful requests of the given endpoint at the given percentile.
+         *
+         * @param endpoint The endpoint
+         * @param percentile The percentile between 0 and 100
+         *
+         * @return The latency
+         */
+        public Duration getLatency(Endpoint endpoint, double percentile) {
+            final Histogram histogram = histograms.get(endpoint);
+            return Duration.ofNanos(histogram == null ? 0 : histogram.getValueAtPercentile(percentile));
+        }
+        
+        /**
+         * Gets the number of failed requests of the given endpoint.
+         *
+         * @param endpoint The endpoint
+         *
+         * @return The number of errors
+         */
+        public long getErrors(Endpoint endpoint) {
+            return errors.getOrDefault(endpoint, 0L);
+        }
+        
+        /**
+         * Gets the number of failed requests of all endpoints by the simple class name of the
+         * exception, e.g. {@code XrelException}.
+         *
+         * @return The sorted number of errors per exception class
+         */
+        public Map<String, Long> getErrorTypes() {
+            return errorTypes;
+        }
+        
+        public long getGcCount() {
+            return gcCount;
+        }
+        
+        public long getGcMillis() {
+            return gcMillis;
+        }
+        
+        /**
+         * Gets the bytes allocated by all threads during the measurement. Threads ending before the
+         * measurement ends are not included.
+         *
+         * @return The allocated bytes or {@code -1} if not supported by the JVM
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+        
+        @Override
+        public String toString() {
+            final StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append(options).append(System.lineSeparator());
+            stringBuilder.append(String.format(Locale.ROOT, "%-20s %10s %8s %10s %10s %10s %10s %10s%n", "endpoint", "ok", "errors", "ops/s", "p50 ms",
+                    "p99 ms", "p999 ms", "max ms"));
+            final Histogram total = new Histogram();
+            long totalErrors = 0;
+            for (Endpoint endpoint : Endpoint.values()) {
+                final Histogram histogram = histograms.get(endpoint);
+                if (histogram == null && !errors.containsKey(endpoint)) {
+                    continue;
+                }
+                appendRow(stringBuilder, endpoint.getPath(), histogram == null ? new Histogram() : histogram, getErrors(endpoint));
+                if (histogram != null) {
+                    total.add(histogram);
+                }
+                totalErrors += getErrors(endpoint);
+            }
+            appendRow(stringBuilder, "total", total, totalErrors);
+            if (!errorTypes.isEmpty()) {
+                stringBuilder.append("Errors: ").append(errorTypes).append(System.lineSeparator());
+            }
+            stringBuilder.append(String.format(Locale.ROOT, "GC: %d collections, %d ms; allocated: %s%n", gcCount, gcMillis,
+                    allocatedBytes < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f MB/s, %.1f KB/request", allocatedBytes / seconds / (1 << 20),
+                            allocatedBytes / 1024.0 / Math.max(1, total.getTotalCount() + totalErrors))));
+            return stringBuilder.toString();
+        }
+        
+        private void appendRow(StringBuilder stringBuilder, String name, Histogram histogram, long errors) {
+            stringBuilder.append(String.format(Locale.ROOT, "%-20s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(), errors,
+                    histogram.getTotalCount() / seconds, millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMax())));
+        }
+        
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+        
+    }
+    
+    /**
+     * The histograms and error counts of one thread.
+     */
+    private static final class Recorder {
+        
+        private final Histogram[] histograms = new Histogram[Endpoint.values().length];
+        private final long[] errors = new long[Endpoint.values().length];
+        private final Map<String, Long> errorTypes = new HashMap<>();
+        
+        private void record(Endpoint endpoint, long nanos, String errorType) {
+            if (errorType == null) {
+                if (histograms[endpoint.ordinal()] == null) {
+                    histograms[endpoint.ordinal()] = new Histogram();
+                }
+                histograms[endpoint.ordinal()].record(nanos);
+            } else {
+                errors[endpoint.ordinal()]++;
+                errorTypes.merge(errorType, 1L, Long::sum);
+            }
+        }
+        
+    }
+    
+    private final Options options;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(() -> {
+        final Recorder recorder = new Recorder();
+        recorders.add(recorder);
+        return recorder;
+    });
+    private volatile long measureStart;
+    
+    private XrelLoadGenerator(Options options) {
+        this.options = options;
+        this.endpoints = options.mix.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += options.mix.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+    
+    /**
+     * Runs a load test with the given options. Unless a base URL is given, an
+     * {@link XrelSimulator} is started for the run.
+     *
+     * @param options The options of the run
+     *
+     * @return The report of the measurement phase
+     *
+     * @throws IOException if the simulator or the HTTP cache can't be set up
+     * @throws InterruptedException if interrupted while waiting for the run to end
+     */
+    public static Report run(Options options) throws IOException, InterruptedException {
+        final Path cacheDirectory = options.cache ? Files.createTempDirectory("xrel-load-cache") : null;
+        final Consumer<OkHttpClient.Builder> httpClientBuilderConsumer = builder -> {
+            if (cacheDirectory != null) {
+                builder.cache(new Cache(cacheDirectory.toFile(), 64L << 20));
+            }
+        };
+        try {
+            if (options.baseUrl != null) {
+                return new XrelLoadGenerator(options).run(RestClient.create(options.baseUrl, httpClientBuilderConsumer, null));
+            }
+            try (XrelSimulator simulator = new XrelSimulator()) {
+                simulator.setLatency(options.latency);
+                simulator.setErrorRate(options.errorRate);
+                if (options.cache) {
+                    simulator.setCacheMaxAge(Duration.ofHours(1));
+                }
+                if (!options.rateLimited) {
+                    simulator.setRateLimit(Integer.MAX_VALUE, Duration.ofHours(1));
+                    simulator.setSearchRateLimit(Integer.MAX_VALUE, Duration.ofSeconds(10));
+                }
+                simulator.start();
+                return new XrelLoadGenerator(options).run(simulator.createRestClient(httpClientBuilderConsumer));
+            }
+        } finally {
+            if (cacheDirectory != null) {
+                deleteRecursively(cacheDirectory);
+            }
+        }
+    }
+    
+    private Report run(RestClient restClient) throws InterruptedException {
+        final Xrel xrel = new Xrel(restClient);
+        final ExecutorService executor = Executors.newFixedThreadPool(options.threads, runnable -> {
+            final Thread thread = new Thread(runnable, "xrel-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long start = System.nanoTime();
+        measureStart = start + options.warmup.toNanos();
+        final long end = measureStart + options.duration.toNanos();
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Thread generator = null;
+        if (options.rate > 0) {
+            final long interval = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate);
+            generator = new Thread(() -> {
+                for (long intended = start; intended < end; intended += interval) {
+                    waitUntil(intended);
+                    final long intendedStart = intended;
+                    executor.execute(() -> call(xrel, intendedStart));
+                }
+            }, "xrel-load-generator");
+            generator.start();
+        } else {
+            for (int i = 0; i < options.threads; i++) {
+                executor.execute(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        call(xrel, now);
+                    }
+                });
+            }
+        }
+        // Snapshots are taken by the main thread, so they are based on wall clock time
+        waitUntil(measureStart);
+        final long gcCountStart = gcCount();
+        final long gcMillisStart = gcMillis();
+        final Map<Long, Long> allocatedStart = allocatedBytes(threadMXBean);
+        waitUntil(end);
+        final long gcCount = gcCount() - gcCountStart;
+        final long gcMillis = gcMillis() - gcMillisStart;
+        final Map<Long, Long> allocatedEnd = allocatedBytes(threadMXBean);
+        long allocated = allocatedEnd == null ? -1 : 0;
+        if (allocatedEnd != null) {
+            for (Map.Entry<Long, Long> entry : allocatedEnd.entrySet()) {
+                allocated += entry.getValue() - allocatedStart.getOrDefault(entry.getKey(), 0L);
+            }
+        }
+        if (generator != null) {
+            generator.join();
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+        final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        final Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+        final Map<String, Long> errorTypes = new TreeMap<>();
+        for (Recorder threadRecorder : recorders) {
+            threadRecorder.errorTypes.forEach((errorType, count) -> errorTypes.merge(errorType, count, Long::sum));
+            for (Endpoint endpoint : Endpoint.values()) {
+                if (threadRecorder.histograms[endpoint.ordinal()] != null) {
+                    histograms.computeIfAbsent(endpoint, key -> new Histogram()).add(threadRecorder.histograms[endpoint.ordinal()]);
+                }
+                if (threadRecorder.errors[endpoint.ordinal()] > 0) {
+                    errors.merge(endpoint, threadRecorder.errors[endpoint.ordinal()], Long::sum);
+                }
+            }
+        }
+        return new Report(options, histograms, errors, errorTypes, options.duration.toNanos() / 1e9, gcCount, gcMillis, allocated);
+    }
+    
+    private void call(Xrel xrel, long startNanos) {
+        final Endpoint endpoint = nextEndpoint();
+        String errorType = null;
+        try {
+            endpoint.call.accept(xrel);
+        } catch (RuntimeException e) {
+            // Unexpected exceptions must not kill the worker, which would silently lower the load
+            errorType = e.getClass().getSimpleName();
+        }
+        final long now = System.nanoTime();
+        // Only requests started within the measurement phase are recorded
+        if (startNanos >= measureStart && startNanos < measureStart + options.duration.toNanos()) {
+            recorder.get().record(endpoint, now - startNanos, errorType);
+        }
+    }
+    
+    private Endpoint nextEndpoint() {
+        final int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+    
+    private static void waitUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+    
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+    }
+    
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum();
+    }
+    
+    private static Map<Long, Long> allocatedBytes(ThreadMXBean threadMXBean) {
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean) || !sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        final long[] threadIds = sunThreadMXBean.getAllThreadIds();
+        final long[] allocated = sunThreadMXBean.getThreadAllocatedBytes(threadIds);
+        final Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocated[i] >= 0) {
+                result.put(threadIds[i], allocated[i]);
+            }
+        }
+        return result;
+    }
+    
+    private static void deleteRecursively(Path directory) throws IOException {
+        final List<Path> paths = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(directory)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(paths::add);
+        }
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.out.print(run(Options.parse(args)));
+    }
+    
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process simulator of the xREL API for load and latency testing. A {@link MockWebServer}
+ * answers every {@link XrelService} endpoint with a recorded fixture from {@code /xrel/} and
+ * emulates the behaviour of api.xrel.to:
+ * <ul>
+ * <li>{@code X-RateLimit-*} headers of a fixed window, 900 requests per hour by default</li>
+ * <li>the additional limit of 2 search requests per 10 seconds</li>
+ * <li>errors returned with a 2xx status code, at a configurable rate</li>
+ * <li>server errors without a body, see {@link #failNext(int, int)}</li>
+ * <li>configurable latency, see {@link Latency}</li>
+ * </ul>
+ * Exceeded rate limits are answered with status 429 and an xREL error body. Use
+ * {@link #createRestClient()} or {@link #getBaseUrl()} to point a {@link RestClient} at the
+ * simulator. All settings can be changed while the simulator is running.
+ */
+public final class XrelSimulator implements Closeable {
+    
+    /**
+     * Distribution of the delay before the response headers are sent.
+     */
+    @FunctionalInterface
+    public interface Latency {
+        
+        /**
+         * No delay at all.
+         */
+        Latency NONE = random -> 0;
+        
+        /**
+         * Gets the next delay.
+         *
+         * @param random The source of randomness to use
+         *
+         * @return The delay in microseconds
+         */
+        long nextMicros(Random random);
+        
+        /**
+         * Creates a fixed {@link Latency}.
+         *
+         * @param delay The delay
+         *
+         * @return The new {@link Latency}
+         */
+        static Latency fixed(Duration delay) {
+            final long micros = toMicros(delay);
+            return random -> micros;
+        }
+        
+        /**
+         * Creates a {@link Latency} uniformly distributed between min and max, e.g. a fixed base
+         * latency with jitter.
+         *
+         * @param min The minimum delay
+         * @param max The maximum delay
+         *
+         * @return The new {@link Latency}
+         */
+        static Latency uniform(Duration min, Duration max) {
+            final long minMicros = toMicros(min);
+            final long maxMicros = toMicros(max);
+            if (maxMicros < minMicros) {
+                throw new IllegalArgumentException("max must not be less than min");
+            }
+            return random -> minMicros + (long) (random.nextDouble() * (maxMicros - minMicros));
+        }
+        
+        /**
+         * Creates a log-normally distributed {@link Latency}, which has the long tail of real
+         * network latencies. About 84 % of the delays are below {@code median * e^sigma}.
+         *
+         * @param median The median delay
+         * @param sigma The standard deviation of the natural logarithm of the delay
+         *
+         * @return The new {@link Latency}
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            final double mu = Math.log(Math.max(1, toMicros(median)));
+            if (sigma < 0) {
+                throw new IllegalArgumentException("sigma must not be negative");
+            }
+            return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+        }
+        
+        private static long toMicros(Duration duration) {
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("Duration must not be negative: " + duration);
+            }
+            return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+        }
+        
+    }
+    
+    private static final String FIXTURE_DIRECTORY = "/xrel/";
+    private static final String PATH_PREFIX = "/v2/";
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String PNG = "image/png";
+    private static final int TOO_MANY_REQUESTS = 429;
+    
+    private final Map<String, byte[]> fixtures = new HashMap<>();
+    private final MockWebServer server = new MockWebServer();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Deque<Long> searchRequests = new ArrayDeque<>();
+    
+    private volatile Clock clock = Clock.systemUTC();
+    private volatile Latency latency = Latency.NONE;
+    private volatile double errorRate;
+    private volatile int failureResponseCode;
+    private volatile long cacheMaxAgeSeconds;
+    private int rateLimit = 900;
+    private long rateLimitWindowMillis = TimeUnit.HOURS.toMillis(1);
+    private int searchRateLimit = 2;
+    private long searchRateLimitWindowMillis = TimeUnit.SECONDS.toMillis(10);
+    private long windowStart = -1;
+    private int windowRequests;
+    
+    /**
+     * Creates a new XrelSimulator and loads all fixtures. It has to be started with
+     * {@link #start()}.
+     *
+     * @throws IOException if a fixture can't be read
+     */
+    public XrelSimulator() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final byte[] releaseLatest = readFixture("release_latest.json");
+        final byte[] p2pReleases = readFixture("p2p_releases.json");
+        final byte[] extInfo = readFixture("ext_info.json");
+        final byte[] extInfoList = readFixture("ext_info_list.json");
+        final byte[] favsListEntry = readFixture("favs_list_entry.json");
+        final byte[] comments = readFixture("comments_get.json");
+        final byte[] nfo = readFixture("nfo.png");
+        fixtures.put("release/info.json", firstOfList(objectMapper, releaseLatest));
+        fixtures.put("release/latest.json", releaseLatest);
+        fixtures.put("release/categories.json", readFixture("release_categories.json"));
+        fixtures.put("release/browse_category.json", releaseLatest);
+        fixtures.put("release/ext_info.json", releaseLatest);
+        fixtures.put("release/filters.json", readFixture("release_filters.json"));
+        fixtures.put("release/addproof.json", readFixture("release_addproof.json"));
+        fixtures.put("p2p/releases.json", p2pReleases);
+        fixtures.put("p2p/categories.json", readFixture("p2p_categories.json"));
+        fixtures.put("p2p/rls_info.json", firstOfList(objectMapper, p2pReleases));
+        fixtures.put("nfo/release.json", nfo);
+        fixtures.put("nfo/p2p_rls.json", nfo);
+        fixtures.put("calendar/upcoming.json", extInfoList);
+        fixtures.put("ext_info/info.json", extInfo);
+        fixtures.put("ext_info/media.json", readFixture("ext_info_media.json"));
+        fixtures.put("ext_info/rate.json", extInfo);
+        fixtures.put("search/releases.json", readFixture("release_search.json"));
+        fixtures.put("search/ext_info.json", readFixture("search_ext_info.json"));
+        fixtures.put("favs/lists.json", readFixture("favs_lists.json"));
+        fixtures.put("favs/list_entries.json", extInfoList);
+        fixtures.put("favs/list_addentry.json", favsListEntry);
+        fixtures.put("favs/list_delentry.json", favsListEntry);
+        fixtures.put("favs/list_markread.json", readFixture("favs_list_markread.json"));
+        fixtures.put("comments/get.json", comments);
+        fixtures.put("comments/add.json", firstOfList(objectMapper, comments));
+        fixtures.put("user/info.json", readFixture("user_info.json"));
+        fixtures.put("oauth2/token.json", readFixture("oauth2_token.json"));
+        server.setDispatcher(new SimulatorDispatcher());
+    }
+    
+    /**
+     * Reads a recorded fixture from {@code /xrel/}.
+     *
+     * @param name The name of the fixture, e.g. {@code release_latest.json}
+     *
+     * @return The content of the fixture
+     *
+     * @throws IOException If the fixture is missing
+     */
+    public static byte[] readFixture(String name) throws IOException {
+        try (InputStream inputStream = XrelSimulator.class.getResourceAsStream(FIXTURE_DIRECTORY + name)) {
+            if (inputStream == null) {
+                throw new IOException("Missing fixture " + name);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+    
+    /**
+     * Gets the HTTP status code of the response which caused the given {@link XrelException}.
+     * Exceptions of the {@link ResponseInterceptor} are wrapped by {@link Xrel}, so the cause is
+     * checked first.
+     *
+     * @param exception The {@link XrelException} thrown by {@link Xrel}
+     *
+     * @return The HTTP status code
+     */
+    public static int responseCode(XrelException exception) {
+        return exception.getCause() instanceof XrelException cause ? cause.getResponseCode() : exception.getResponseCode();
+    }
+    
+    private static byte[] firstOfList(ObjectMapper objectMapper, byte[] paginationList) throws IOException {
+        final JsonNode first = objectMapper.readTree(paginationList).path("list").path(0);
+        if (first.isMissingNode()) {
+            throw new IOException("Fixture contains no list entry");
+        }
+        return objectMapper.writeValueAsBytes(first);
+    }
+    
+    /**
+     * Starts the simulator on a free local port.
+     *
+     * @throws IOException if the server can't be started
+     */
+    public void start() throws IOException {
+        server.start();
+    }
+    
+    /**
+     * Gets the base URL of the simulated xREL API, to be used with
+     * {@link RestClient#create(String, Consumer, Consumer)}.
+     *
+     * @return The base URL ending with {@code /}
+     */
+    public String getBaseUrl() {
+        return server.url(PATH_PREFIX).toString();
+    }
+    
+    /**
+     * Creates a new {@link RestClient} using this simulator.
+     *
+     * @return The new {@link RestClient}
+     */
+    public RestClient createRestClient() {
+        return createRestClient(null);
+    }
+    
+    /**
+     * Creates a new {@link RestClient} using this simulator.
+     *
+     * @param httpClientBuilderConsumer Optional consumer to customize the {@link OkHttpClient}
+     *
+     * @return The new {@link RestClient}
+     */
+    public RestClient createRestClient(Consumer<OkHttpClient.Builder> httpClientBuilderConsumer) {
+        return RestClient.create(getBaseUrl(), httpClientBuilderConsumer, null);
+    }
+    
+    /**
+     * Replaces the fixture of an endpoint.
+     *
+     * @param endpoint The endpoint relative to the base URL, e.g. {@code release/latest.json}
+     * @param payload The new response body
+     */
+    public void setFixture(String endpoint, byte[] payload) {
+        Objects.requireNonNull(endpoint, "endpoint missing");
+        Objects.requireNonNull(payload, "payload missing");
+        synchronized (fixtures) {
+            fixtures.put(endpoint, payload);
+        }
+    }
+    
+    /**
+     * Sets the {@link Latency} of all following responses.
+     *
+     * @param latency The {@link Latency} to set
+     */
+    public void setLatency(Latency latency) {
+        this.latency = Objects.requireNonNull(latency, "latency missing");
+    }
+    
+    /**
+     * Sets the fraction of requests answered with status 200 and an xREL error body, as the real
+     * API does for some errors.
+     *
+     * @param errorRate The error rate between 0 and 1
+     */
+    public void setErrorRate(double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        this.errorRate = errorRate;
+    }
+    
+    /**
+     * Answers the next requests within the rate limit with the given status code and an empty body,
+     * e.g. to simulate a failing backend with 503.
+     *
+     * @param count The number of requests to fail
+     * @param responseCode The status code to answer with
+     */
+    public void failNext(int count, int responseCode) {
+        failureResponseCode = responseCode;
+        failures.set(count);
+    }
+    
+    /**
+     * Sets the {@code Cache-Control: max-age} of successful responses, so an HTTP cache of the
+     * client can be tested. Zero disables the header, which is the behaviour of the real API.
+     *
+     * @param maxAge The max-age to set
+     */
+    public void setCacheMaxAge(Duration maxAge) {
+        cacheMaxAgeSeconds = maxAge.getSeconds();
+    }
+    
+    /**
+     * Sets the limit reported by the {@code X-RateLimit-*} headers and the window it applies to. The
+     * current window is restarted.
+     *
+     * @param limit The number of requests per window
+     * @param window The length of the window
+     */
+    public synchronized void setRateLimit(int limit, Duration window) {
+        rateLimit = limit;
+        rateLimitWindowMillis = window.toMillis();
+        windowStart = -1;
+    }
+    
+    /**
+     * Sets the limit of search requests and the sliding window it applies to.
+     *
+     * @param limit The number of search requests per window
+     * @param window The length of the window
+     */
+    public synchronized void setSearchRateLimit(int limit, Duration window) {
+        searchRateLimit = limit;
+        searchRateLimitWindowMillis = window.toMillis();
+        searchRequests.clear();
+    }
+    
+    /**
+     * Sets the {@link Clock} used for the rate limits.
+     *
+     * @param clock The {@link Clock} to set
+     */
+    public void setClock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock missing");
+    }
+    
+    /**
+     * Gets the number of requests received so far, including rejected ones.
+     *
+     * @return The number of requests
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+    
+    /**
+     * Shuts the simulator down.
+     *
+     * @throws IOException if the server can't be shut down
+     */
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+    
+    private MockResponse dispatch(RecordedRequest request) {
+        requestCount.incrementAndGet();
+        final String path = request.getRequestUrl().encodedPath();
+        final String endpoint = path.startsWith(PATH_PREFIX) ? path.substring(PATH_PREFIX.length()) : path;
+        final long now = clock.millis();
+        final MockResponse response = new MockResponse();
+        final boolean allowed;
+        final boolean searchAllowed;
+        synchronized (this) {
+            if (windowStart < 0 || now - windowStart >= rateLimitWindowMillis) {
+                windowStart = now;
+                windowRequests = 0;
+            }
+            allowed = windowRequests < rateLimit;
+            if (allowed) {
+                windowRequests++;
+            }
+            searchAllowed = !allowed || !endpoint.startsWith("search/") || acquireSearch(now);
+            response.setHeader("X-RateLimit-Limit", rateLimit);
+            response.setHeader("X-RateLimit-Remaining", rateLimit - windowRequests);
+            response.setHeader("X-RateLimit-Reset", TimeUnit.MILLISECONDS.toSeconds(windowStart + rateLimitWindowMillis));
+        }
+        final Random random = ThreadLocalRandom.current();
+        response.setHeadersDelay(latency.nextMicros(random), TimeUnit.MICROSECONDS);
+        if (!allowed || !searchAllowed) {
+            return error(response.setResponseCode(TOO_MANY_REQUESTS), "rate_limit_exceeded", "Rate limit exceeded.");
+        }
+        if (failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            return response.setResponseCode(failureResponseCode).setBody("");
+        }
+        final byte[] payload;
+        synchronized (fixtures) {
+            payload = fixtures.get(endpoint);
+        }
+        if (payload == null) {
+            return error(response.setResponseCode(404), "invalid_method", "Unknown method " + endpoint + ".");
+        }
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            return error(response.setResponseCode(200), "invalid_request", "Simulated error.");
+        }
+        if (cacheMaxAgeSeconds > 0) {
+            response.setHeader("Cache-Control", "max-age=" + cacheMaxAgeSeconds);
+        }
+        return response.setResponseCode(200)
+                .setHeader("Content-Type", endpoint.startsWith("nfo/") ? PNG : JSON)
+                .setBody(new Buffer().write(payload));
+    }
+    
+    private boolean acquireSearch(long now) {
+        while (!searchRequests.isEmpty() && now - searchRequests.peekFirst() >= searchRateLimitWindowMillis) {
+            searchRequests.pollFirst();
+        }
+        if (searchRequests.size() >= searchRateLimit) {
+            return false;
+        }
+        searchRequests.addLast(now);
+        return true;
+    }
+    
+    private static MockResponse error(MockResponse response, String error, String description) {
+        return response.setHeader("Content-Type", JSON)
+                .setBody("{\"error\":\"" + error + "\",\"error_type\":\"api\",\"error_description\":\"" + description + "\"}");
+    }
+    
+    private final class SimulatorDispatcher extends Dispatcher {
+        
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            return XrelSimulator.this.dispatch(request);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class XrelSimulatorTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    private Xrel xrel;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+        xrel = new Xrel(simulator.createRestClient());
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testEndpoints() {
+        final PaginationList<Release> releaseLatest = xrel.getReleaseLatest(100, 1);
+        Assertions.assertEquals(100, releaseLatest.getList().size());
+        Assertions.assertEquals(releaseLatest.getList().get(0).getId(), xrel.getReleaseInfoId(releaseLatest.getList().get(0).getId()).getId());
+        Assertions.assertFalse(xrel.getReleaseCategories().isEmpty());
+        Assertions.assertFalse(xrel.getReleaseFilters().isEmpty());
+        Assertions.assertFalse(xrel.getP2pReleases(10, 1).getList().isEmpty());
+        Assertions.assertFalse(xrel.getP2pCategories().isEmpty());
+        Assertions.assertFalse(xrel.getCalendarUpcoming("de").isEmpty());
+    }
+    
+    @Test
+    void testRateLimitHeaders() {
+        simulator.setRateLimit(3, Duration.ofHours(1));
+        xrel.getReleaseCategories();
+        Assertions.assertEquals(3, xrel.getXRateLimitLimit());
+        Assertions.assertEquals(2, xrel.getXRateLimitRemaining());
+        Assertions.assertEquals(NOW.plus(Duration.ofHours(1)).getEpochSecond(), xrel.getXRateLimitReset());
+        xrel.getReleaseCategories();
+        xrel.getReleaseCategories();
+        Assertions.assertEquals(0, xrel.getXRateLimitRemaining());
+        Assertions.assertEquals(429, XrelSimulator.responseCode(Assertions.assertThrows(XrelException.class, xrel::getReleaseCategories)));
+    }
+    
+    @Test
+    void testSearchRateLimit() {
+        xrel.getSearchReleases("harbor", true, true);
+        xrel.getSearchReleases("harbor", true, true);
+        Assertions.assertEquals(429, XrelSimulator.responseCode(Assertions.assertThrows(XrelException.class, () -> xrel.getSearchReleases("harbor", true, true))));
+        simulator.setClock(Clock.fixed(NOW.plusSeconds(10), ZoneOffset.UTC));
+        Assertions.assertNotNull(xrel.getSearchReleases("harbor", true, true));
+    }
+    
+    @Test
+    void testErrorWithSuccessStatus() {
+        simulator.setErrorRate(1);
+        final XrelException exception = Assertions.assertThrows(XrelException.class, xrel::getReleaseCategories);
+        Assertions.assertEquals(200, XrelSimulator.responseCode(exception));
+    }
+    
+    @Test
+    void testStreamPages() {
+        final RestClient restClient = simulator.createRestClient();
+        final Xrel streamingXrel = new Xrel(restClient);
+        final List<Release> releases = new ArrayList<>();
+        int page = 1;
+        PaginationList<Release> paginationList;
+        do {
+            paginationList = streamingXrel.streamReleaseLatest(100, page, releases::add);
+            Assertions.assertTrue(paginationList.getList().isEmpty());
+            Assertions.assertEquals(100 * page, releases.size());
+            page++;
+        } while (page <= Math.min(3, paginationList.getPagination().getTotalPages()));
+        Assertions.assertEquals(3, simulator.getRequestCount());
+        Assertions.assertEquals(xrel.getReleaseLatest(100, 1).getList().get(99).getId(), releases.get(299).getId());
+        // Every page was read to its end, so all requests used one connection
+        Assertions.assertEquals(1, restClient.getHttpClient().connectionPool().connectionCount());
+    }
+    
+    @Test
+    void testStreamClose() throws IOException {
+        final RestClient restClient = simulator.createRestClient();
+        final PaginationStream<Release> paginationStream = restClient.getXrelService().releaseLatestStream(null, 100, 1, null, null).execute().body();
+        paginationStream.close();
+        // A consumer failing within the page releases the response as well
+        final Xrel streamingXrel = new Xrel(restClient);
+        final AtomicInteger count = new AtomicInteger();
+        Assertions.assertThrows(IllegalStateException.class, () -> streamingXrel.streamReleaseLatest(100, 1, release -> {
+            if (count.incrementAndGet() == 2) {
+                throw new IllegalStateException("Stop");
+            }
+        }));
+        Assertions.assertEquals(2, count.get());
+        // A leaked response would keep its connection busy and force a second one
+        Assertions.assertFalse(streamingXrel.getReleaseCategories().isEmpty());
+        Assertions.assertEquals(1, restClient.getHttpClient().connectionPool().connectionCount());
+    }
+    
+    @Test
+    void testLongErrorBody() {
+        final String description = "Invalid request. ".repeat(30);
+        simulator.setFixture("release/latest.json", ("{\"error\":\"invalid_request\",\"error_type\":\"api\",\"error_description\":\"" + description
+                + "\"}").getBytes(StandardCharsets.UTF_8));
+        final XrelException exception = Assertions.assertThrows(XrelException.class, () -> xrel.streamReleaseLatest(100, 1, release -> {}));
+        final XrelException cause = exception.getCause() instanceof XrelException xrelException ? xrelException : exception;
+        Assertions.assertEquals("invalid_request", cause.getError().orElseThrow().getError());
+        Assertions.assertEquals(description, cause.getError().orElseThrow().getErrorDescription());
+        Assertions.assertEquals(200, cause.getResponseCode());
+    }
+    
+    @Test
+    void testSuccessBodyStartingWithError() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ObjectNode releases = (ObjectNode) objectMapper.readTree(XrelSimulator.readFixture("release_latest.json"));
+        final ObjectNode reordered = objectMapper.createObjectNode();
+        reordered.put("errors_hidden", 0);
+        reordered.setAll(releases);
+        simulator.setFixture("release/latest.json", objectMapper.writeValueAsBytes(reordered));
+        Assertions.assertEquals(100, xrel.getReleaseLatest(100, 1).getList().size());
+        final AtomicInteger count = new AtomicInteger();
+        Assertions.assertEquals(releases.path("total_count").asLong(), xrel.streamReleaseLatest(100, 1, release -> count.incrementAndGet()).getTotalCount());
+        Assertions.assertEquals(100, count.get());
+    }
+    
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.circuit;
+
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import okhttp3.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+public class CircuitBreakerInterceptorTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testCircuitBreaker(@TempDir Path cacheDirectory) throws InterruptedException {
+        final CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder().windowSize(4).minimumCalls(4).openDuration(Duration.ofMillis(100)).halfOpenCalls(1)
+                .build();
+        final RestClient restClient = RestClient.builder()
+                .baseUrl(simulator.getBaseUrl())
+                .httpClient(builder -> builder.cache(new Cache(cacheDirectory.toFile(), 1024 * 1024)))
+                .circuitBreaker(policy)
+                .build();
+        final Xrel breakingXrel = new Xrel(restClient);
+        final CircuitBreaker circuitBreaker = restClient.getCircuitBreaker().orElseThrow();
+        Assertions.assertFalse(breakingXrel.getReleaseCategories().isEmpty());
+        // Errors of the xREL API don't open the breaker
+        simulator.setErrorRate(1);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThrows(XrelException.class, breakingXrel::getReleaseFilters);
+        }
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        simulator.setErrorRate(0);
+        // Half of the last 4 requests failed
+        simulator.failNext(2, 503);
+        Assertions.assertThrows(XrelException.class, breakingXrel::getReleaseFilters);
+        Assertions.assertThrows(XrelException.class, breakingXrel::getReleaseFilters);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        final long requestCount = simulator.getRequestCount();
+        // The cached error of the xREL API is not replayed
+        final XrelException exception = Assertions.assertThrows(XrelException.class, breakingXrel::getReleaseFilters);
+        Assertions.assertTrue(exception.getCause() instanceof CircuitBreakerOpenException);
+        // Cached responses are still served
+        Assertions.assertFalse(breakingXrel.getReleaseCategories().isEmpty());
+        Assertions.assertEquals(requestCount, simulator.getRequestCount());
+        Thread.sleep(150);
+        Assertions.assertFalse(breakingXrel.getReleaseFilters().isEmpty());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+    
+}
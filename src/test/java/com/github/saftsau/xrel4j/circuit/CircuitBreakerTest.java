@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.circuit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class CircuitBreakerTest {
+    
+    private static CircuitBreaker createCircuitBreaker() {
+        final CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder().windowSize(2).minimumCalls(2).failureRateThreshold(50)
+                .openDuration(Duration.ZERO).halfOpenCalls(1).build();
+        return new CircuitBreaker(policy);
+    }
+    
+    private static void open(CircuitBreaker circuitBreaker) {
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire(), 0);
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire(), 0);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+    
+    @Test
+    void testLateOutcomeIgnoredWhileHalfOpen() {
+        final CircuitBreaker circuitBreaker = createCircuitBreaker();
+        final long latePermit = circuitBreaker.tryAcquire();
+        open(circuitBreaker);
+        final long probe = circuitBreaker.tryAcquire();
+        Assertions.assertNotEquals(CircuitBreaker.NO_PERMIT, probe);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(CircuitBreaker.NO_PERMIT, circuitBreaker.tryAcquire());
+        // Neither closes the breaker nor frees the probe
+        circuitBreaker.onSuccess(latePermit, 0);
+        circuitBreaker.release(latePermit);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(CircuitBreaker.NO_PERMIT, circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess(probe, 0);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+    
+    @Test
+    void testLateOutcomeIgnoredAfterClosing() {
+        final CircuitBreaker circuitBreaker = createCircuitBreaker();
+        final long latePermit = circuitBreaker.tryAcquire();
+        open(circuitBreaker);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire(), 0);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        // Counted, the late failure would make it 1 of 2 calls and open the breaker
+        circuitBreaker.onFailure(latePermit, 0);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire(), 0);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+    
+    @Test
+    void testFailedProbeReopens() {
+        final CircuitBreaker circuitBreaker = createCircuitBreaker();
+        open(circuitBreaker);
+        final long probe = circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure(probe, 0);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        final long nextProbe = circuitBreaker.tryAcquire();
+        Assertions.assertNotEquals(probe, nextProbe);
+        circuitBreaker.release(nextProbe);
+        Assertions.assertNotEquals(CircuitBreaker.NO_PERMIT, circuitBreaker.tryAcquire());
+    }
+    
+}
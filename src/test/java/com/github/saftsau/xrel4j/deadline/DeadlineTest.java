@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.deadline;
+
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    private Xrel xrel;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+        xrel = new Xrel(simulator.createRestClient());
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testDeadline() {
+        // Warm up the client, so the timing below doesn't include the first connection
+        Assertions.assertFalse(xrel.getReleaseFilters().isEmpty());
+        simulator.setLatency(XrelSimulator.Latency.fixed(Duration.ofMillis(500)));
+        final long start = System.nanoTime();
+        final XrelException exception = Assertions.assertThrows(XrelException.class,
+                () -> Deadline.after(Duration.ofMillis(100)).run(xrel::getReleaseCategories));
+        Assertions.assertTrue(exception.getCause() instanceof DeadlineExceededException);
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        // Nothing is sent once the budget is used up
+        final long requestCount = simulator.getRequestCount();
+        final XrelException expired = Deadline.after(Duration.ZERO).run(() -> Assertions.assertThrows(XrelException.class, xrel::getReleaseFilters));
+        Assertions.assertTrue(expired.getCause() instanceof DeadlineExceededException);
+        Assertions.assertEquals(requestCount, simulator.getRequestCount());
+        Assertions.assertNull(Deadline.current());
+    }
+    
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.extinfo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.saftsau.xrel4j.PaginationList;
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public class ExtInfoCacheTest {
+    
+    private final ObjectMapper objectMapper = RestClient.createObjectMapper();
+    private byte[] releaseLatest;
+    private byte[] p2pReleases;
+    
+    private static byte[] readFixture(String name) throws IOException {
+        try (InputStream inputStream = ExtInfoCacheTest.class.getResourceAsStream("/xrel/" + name)) {
+            return inputStream.readAllBytes();
+        }
+    }
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        releaseLatest = readFixture("release_latest.json");
+        p2pReleases = readFixture("p2p_releases.json");
+    }
+    
+    private PaginationList<Release> readReleases(byte[] json) throws IOException {
+        return objectMapper.readValue(json, new TypeReference<PaginationList<Release>>() {});
+    }
+    
+    private PaginationList<P2pRelease> readP2pReleases(byte[] json) throws IOException {
+        return objectMapper.readValue(json, new TypeReference<PaginationList<P2pRelease>>() {});
+    }
+    
+    /**
+     * Gets the releases with the ext info of the second release replaced by the first one, with
+     * the given rating.
+     */
+    private byte[] duplicateExtInfo(double rating) throws IOException {
+        final ObjectNode root = (ObjectNode) objectMapper.readTree(releaseLatest);
+        final ArrayNode list = (ArrayNode) root.get("list");
+        final ObjectNode extInfo = ((ObjectNode) list.get(0).get("ext_info")).deepCopy();
+        extInfo.put("rating", rating);
+        ((ObjectNode) list.get(1)).set("ext_info", extInfo);
+        return objectMapper.writeValueAsBytes(root);
+    }
+    
+    @Test
+    void testPage() throws IOException {
+        ExtInfoCache.perPage().install(objectMapper);
+        final List<Release> page = readReleases(duplicateExtInfo(9.5)).getList();
+        Assertions.assertSame(page.get(0).getExtInfo(), page.get(1).getExtInfo());
+        // The later occurrence is merged into the canonical instance
+        Assertions.assertEquals(9.5, page.get(0).getExtInfo().getRating());
+        Assertions.assertNotSame(page.get(0).getExtInfo(), page.get(2).getExtInfo());
+        // Nothing is kept across responses
+        final List<Release> nextPage = readReleases(releaseLatest).getList();
+        Assertions.assertNotSame(page.get(0).getExtInfo(), nextPage.get(0).getExtInfo());
+        Assertions.assertEquals(4.1, nextPage.get(0).getExtInfo().getRating());
+    }
+    
+    @Test
+    void testShared() throws IOException {
+        final ExtInfoCache extInfoCache = ExtInfoCache.shared();
+        extInfoCache.install(objectMapper);
+        final List<Release> releases = readReleases(releaseLatest).getList();
+        final ExtInfo extInfo = releases.get(0).getExtInfo();
+        Assertions.assertSame(extInfo, extInfoCache.get(extInfo.getId()));
+        Assertions.assertEquals(100, extInfoCache.size());
+        // Scene and P2P releases share ext infos
+        Assertions.assertSame(extInfo, readP2pReleases(p2pReleases).getList().get(0).getExtInfo());
+        // Enrichment is kept and the rating updated by later responses
+        final List<ExtInfoMedia> media = List.of(new ExtInfoMedia());
+        extInfo.setExtInfoMedia(media);
+        final List<Release> updated = readReleases(duplicateExtInfo(9.5)).getList();
+        Assertions.assertSame(extInfo, updated.get(0).getExtInfo());
+        Assertions.assertEquals(9.5, extInfo.getRating());
+        Assertions.assertEquals(101, extInfo.getNumRatings());
+        Assertions.assertSame(media, extInfo.getExtInfoMedia());
+        Assertions.assertEquals("The Long Night", extInfo.getTitle());
+        extInfoCache.clear();
+        Assertions.assertEquals(0, extInfoCache.size());
+        Assertions.assertNotSame(extInfo, readReleases(releaseLatest).getList().get(0).getExtInfo());
+    }
+    
+    @Test
+    void testWeak() throws IOException {
+        final ExtInfoCache extInfoCache = ExtInfoCache.weak();
+        extInfoCache.install(objectMapper);
+        final ExtInfo extInfo = readReleases(releaseLatest).getList().get(0).getExtInfo();
+        final String id = extInfo.getId();
+        Assertions.assertSame(extInfo, readP2pReleases(p2pReleases).getList().get(0).getExtInfo());
+        Assertions.assertSame(extInfo, extInfoCache.get(id));
+        readReleases(duplicateExtInfo(9.5));
+        Assertions.assertEquals(9.5, extInfo.getRating());
+        // Collected instances are dropped and replaced by the next occurrence
+        Assertions.assertTrue(extInfoCache.enqueue(id));
+        Assertions.assertNull(extInfoCache.get(id));
+        Assertions.assertEquals(99, extInfoCache.size());
+        final ExtInfo next = readReleases(releaseLatest).getList().get(0).getExtInfo();
+        Assertions.assertNotSame(extInfo, next);
+        Assertions.assertEquals(4.1, next.getRating());
+        Assertions.assertSame(next, extInfoCache.get(id));
+        Assertions.assertEquals(100, extInfoCache.size());
+        extInfoCache.clear();
+        Assertions.assertEquals(0, extInfoCache.size());
+        Assertions.assertFalse(extInfoCache.enqueue(id));
+    }
+    
+    @Test
+    void testMissingFields() throws IOException {
+        final ExtInfoCache extInfoCache = ExtInfoCache.shared();
+        extInfoCache.install(objectMapper);
+        final ExtInfo extInfo = readReleases(releaseLatest).getList().get(0).getExtInfo();
+        extInfo.setOwnRating(7);
+        // A later response without ratings keeps them
+        final ObjectNode root = (ObjectNode) objectMapper.readTree(releaseLatest);
+        final ObjectNode json = (ObjectNode) root.get("list").get(0).get("ext_info");
+        json.remove(List.of("rating", "num_ratings"));
+        json.put("title", "The Longer Night");
+        readReleases(objectMapper.writeValueAsBytes(root));
+        Assertions.assertEquals(4.1, extInfo.getRating());
+        Assertions.assertEquals(101, extInfo.getNumRatings());
+        Assertions.assertEquals(7, extInfo.getOwnRating());
+        Assertions.assertEquals("The Longer Night", extInfo.getTitle());
+        // Returned ratings replace them, even if 0
+        json.put("rating", 0);
+        json.put("num_ratings", 0);
+        json.put("own_rating", 0);
+        readReleases(objectMapper.writeValueAsBytes(root));
+        Assertions.assertEquals(0, extInfo.getRating());
+        Assertions.assertEquals(0, extInfo.getNumRatings());
+        Assertions.assertEquals(0, extInfo.getOwnRating());
+    }
+    
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.favorite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.saftsau.xrel4j.Token;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FavoriteSyncTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    private Xrel xrel;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+        xrel = new Xrel(simulator.createRestClient());
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testFavoriteSync() throws IOException {
+        final Token token = new Token("token", "Bearer", 3600, "refresh");
+        final FavoriteSync sync = new FavoriteSync(xrel, false);
+        // Both lists are new, so all their entries are added
+        Assertions.assertEquals(10, sync.sync(token).stream().filter(event -> event.getType() == FavoriteEvent.Type.ADDED).count());
+        Assertions.assertEquals(3, simulator.getRequestCount());
+        // Unchanged counters cost no entry requests
+        Assertions.assertTrue(sync.sync(token).isEmpty());
+        Assertions.assertEquals(4, simulator.getRequestCount());
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ArrayNode lists = (ArrayNode) objectMapper.readTree(XrelSimulator.readFixture("favs_lists.json"));
+        ((ObjectNode) lists.get(1)).put("entry_count", 4);
+        simulator.setFixture("favs/lists.json", objectMapper.writeValueAsBytes(lists));
+        final ArrayNode entries = (ArrayNode) objectMapper.readTree(XrelSimulator.readFixture("ext_info_list.json"));
+        final String removedId = entries.remove(0).path("id").asText();
+        simulator.setFixture("favs/list_entries.json", objectMapper.writeValueAsBytes(entries));
+        final List<FavoriteEvent> events = sync.sync(token);
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(FavoriteEvent.Type.REMOVED, events.get(0).getType());
+        Assertions.assertEquals(43, events.get(0).getFavoriteId());
+        Assertions.assertEquals(removedId, events.get(0).getExtInfo().getId());
+        Assertions.assertEquals(6, simulator.getRequestCount());
+        Assertions.assertEquals(4, sync.getSnapshots().get(1).getEntries().size());
+    }
+    
+    @Test
+    void testFavoriteSyncFailure() throws IOException {
+        final Token token = new Token("token", "Bearer", 3600, "refresh");
+        final AtomicInteger failures = new AtomicInteger();
+        final Xrel failingXrel = new Xrel(simulator.createRestClient(builder -> builder.addInterceptor(chain -> {
+            if ("43".equals(chain.request().url().queryParameter("id")) && failures.getAndDecrement() > 0) {
+                simulator.failNext(1, 503);
+            }
+            return chain.proceed(chain.request());
+        })));
+        final FavoriteSync sync = new FavoriteSync(failingXrel, false);
+        sync.sync(token);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ArrayNode lists = (ArrayNode) objectMapper.readTree(XrelSimulator.readFixture("favs_lists.json"));
+        ((ObjectNode) lists.get(0)).put("entry_count", 4);
+        ((ObjectNode) lists.get(1)).put("entry_count", 4);
+        simulator.setFixture("favs/lists.json", objectMapper.writeValueAsBytes(lists));
+        final ArrayNode entries = (ArrayNode) objectMapper.readTree(XrelSimulator.readFixture("ext_info_list.json"));
+        final String removedId = entries.remove(0).path("id").asText();
+        simulator.setFixture("favs/list_entries.json", objectMapper.writeValueAsBytes(entries));
+        // The entries of the second list fail after those of the first list were fetched
+        failures.set(1);
+        Assertions.assertThrows(XrelException.class, () -> sync.sync(token));
+        Assertions.assertEquals(5, sync.getSnapshots().get(0).getEntries().size());
+        // The change of the first list isn't lost
+        final List<FavoriteEvent> events = sync.sync(token);
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(42, events.get(0).getFavoriteId());
+        Assertions.assertEquals(removedId, events.get(0).getExtInfo().getId());
+        Assertions.assertEquals(43, events.get(1).getFavoriteId());
+        Assertions.assertEquals(4, sync.getSnapshots().get(0).getEntries().size());
+    }
+    
+}
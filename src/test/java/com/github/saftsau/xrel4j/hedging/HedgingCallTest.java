@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.hedging;
+
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import com.github.saftsau.xrel4j.metrics.InMemoryXrelMetrics;
+import com.github.saftsau.xrel4j.ratelimit.XrelRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HedgingCallTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testHedging() {
+        final InMemoryXrelMetrics metrics = new InMemoryXrelMetrics();
+        final HedgingPolicy hedgingPolicy = HedgingPolicy.builder().endpoints("releaseCategories").maxDelay(Duration.ofMillis(100)).rateLimitReserve(5).build();
+        final XrelRateLimiter rateLimiter = new XrelRateLimiter(Clock.fixed(NOW, ZoneOffset.UTC), 900, Duration.ofHours(1), 2, Duration.ofSeconds(10));
+        final Xrel hedgingXrel = new Xrel(RestClient.builder().baseUrl(simulator.getBaseUrl()).metrics(metrics).rateLimiter(rateLimiter).hedgingPolicy(hedgingPolicy).build());
+        // Warm up the client with an endpoint that isn't hedged, so the timing below doesn't include the first connection
+        Assertions.assertFalse(hedgingXrel.getReleaseFilters().isEmpty());
+        final AtomicInteger slowRequests = new AtomicInteger(1);
+        simulator.setLatency(random -> slowRequests.getAndDecrement() > 0 ? TimeUnit.MILLISECONDS.toMicros(500) : 0);
+        final long start = System.nanoTime();
+        Assertions.assertFalse(hedgingXrel.getReleaseCategories().isEmpty());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        Assertions.assertEquals(1, metrics.getEndpoint("releaseCategories").getHedges());
+        Assertions.assertEquals(3, simulator.getRequestCount());
+        // Hedges must not use up the reserved rate limit
+        simulator.setRateLimit(7, Duration.ofHours(1));
+        Assertions.assertFalse(hedgingXrel.getReleaseCategories().isEmpty());
+        Assertions.assertEquals(6, rateLimiter.getAvailable("releaseCategories"));
+        slowRequests.set(1);
+        Assertions.assertFalse(hedgingXrel.getReleaseCategories().isEmpty());
+        Assertions.assertEquals(1, metrics.getEndpoint("releaseCategories").getHedges());
+        Assertions.assertEquals(5, simulator.getRequestCount());
+    }
+    
+}
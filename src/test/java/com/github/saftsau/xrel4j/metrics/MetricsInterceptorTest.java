@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.metrics;
+
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+public class MetricsInterceptorTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testMetrics() throws IOException {
+        final InMemoryXrelMetrics metrics = new InMemoryXrelMetrics();
+        final Xrel meteredXrel = new Xrel(RestClient.create(simulator.getBaseUrl(), null, null, metrics));
+        meteredXrel.getReleaseLatest(100, 1);
+        meteredXrel.getSearchReleases("harbor", true, true);
+        meteredXrel.getSearchReleases("harbor", true, true);
+        Assertions.assertThrows(XrelException.class, () -> meteredXrel.getSearchReleases("harbor", true, true));
+        final InMemoryXrelMetrics.EndpointMetrics releaseLatest = metrics.getEndpoint("releaseLatest");
+        Assertions.assertEquals(1, releaseLatest.getRequests());
+        Assertions.assertEquals(1, releaseLatest.getLatency().getTotalCount());
+        Assertions.assertEquals(XrelSimulator.readFixture("release_latest.json").length, releaseLatest.getResponseBytes());
+        final InMemoryXrelMetrics.EndpointMetrics searchReleases = metrics.getEndpoint("searchReleases");
+        Assertions.assertEquals(3, searchReleases.getRequests());
+        Assertions.assertEquals(Map.of("rate_limit_exceeded", 1L), searchReleases.getErrorTypes());
+    }
+    
+}
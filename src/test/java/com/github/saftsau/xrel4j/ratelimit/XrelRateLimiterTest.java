@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.ratelimit;
+
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+public class XrelRateLimiterTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testClientRateLimit() {
+        final XrelRateLimiter rateLimiter = new XrelRateLimiter(Clock.fixed(NOW, ZoneOffset.UTC), 900, Duration.ofHours(1), 2, Duration.ofSeconds(10));
+        final Xrel limitedXrel = new Xrel(RestClient.builder().baseUrl(simulator.getBaseUrl()).rateLimiter(rateLimiter).build());
+        simulator.setRateLimit(2, Duration.ofHours(1));
+        limitedXrel.getReleaseCategories();
+        Assertions.assertEquals(1, rateLimiter.getAvailable("releaseCategories"));
+        limitedXrel.getReleaseCategories();
+        Assertions.assertEquals(429, XrelSimulator.responseCode(Assertions.assertThrows(XrelException.class, limitedXrel::getReleaseCategories)));
+        Assertions.assertEquals(2, simulator.getRequestCount());
+    }
+    
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release;
+
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.release.p2p.P2pGroup;
+import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlag;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ReleaseArchiveTest {
+    
+    private static Release scene(String id, String dirname) {
+        final Release release = new Release();
+        release.setId(id);
+        release.setDirname(dirname);
+        release.setTime(1633089600L);
+        release.setGroupName("GRP");
+        release.setVideoRating(7.5);
+        final Size size = new Size();
+        size.setNumber(700);
+        size.setUnit("MB");
+        release.setSize(size);
+        release.setReleaseFlags(ReleaseFlags.of(ReleaseFlag.ENGLISH, ReleaseFlag.READ_NFO));
+        final ExtInfo extInfo = new ExtInfo();
+        extInfo.setType("movie");
+        extInfo.setId("ext" + id);
+        extInfo.setTitle("Title " + id);
+        extInfo.setRating(8.25);
+        extInfo.setNumRatings(12);
+        release.setExtInfo(extInfo);
+        return release;
+    }
+    
+    private static long readIndexCapacity(Path index) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(index))) {
+            return in.readLong();
+        }
+    }
+    
+    @Test
+    void testReopen(@TempDir Path directory) throws IOException {
+        final P2pRelease p2p = new P2pRelease();
+        p2p.setId("p1");
+        p2p.setDirname("P2P.Release-GRP");
+        p2p.setPubTime(1633089600L);
+        p2p.setSizeMb(1024);
+        p2p.setGroup(new P2pGroup("g1", "GRP"));
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            Assertions.assertEquals(0, archive.append(scene("s1", "Scene.Release-GRP")));
+            Assertions.assertEquals(1, archive.append(p2p));
+        }
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            Assertions.assertEquals(2, archive.size());
+            final Release scene = (Release) archive.getById("s1");
+            Assertions.assertEquals("Scene.Release-GRP", scene.getDirname());
+            Assertions.assertEquals("GRP", scene.getGroupName());
+            Assertions.assertEquals(700L * 1024 * 1024, scene.getSizeBytes());
+            Assertions.assertTrue(scene.getReleaseFlags().isEnglish());
+            Assertions.assertFalse(scene.isNuked());
+            Assertions.assertEquals("Title s1", scene.getExtInfo().getTitle());
+            Assertions.assertEquals(8.25, scene.getExtInfo().getRating());
+            final P2pRelease readP2p = (P2pRelease) archive.getByDirname("P2P.Release-GRP");
+            Assertions.assertEquals("p1", readP2p.getId());
+            Assertions.assertEquals(1024L * 1024 * 1024, readP2p.getSizeBytes());
+            Assertions.assertEquals("GRP", readP2p.getGroup().name());
+            Assertions.assertTrue(archive.isP2p(1));
+            Assertions.assertNull(archive.getById("missing"));
+            Assertions.assertEquals(-1, archive.findByDirname("missing"));
+            
+            // The string heap continues after the strings of the existing rows
+            archive.append(scene("s2", "Second.Release-GRP"));
+            // The index points to the latest row of a dirname
+            archive.append(scene("s3", "Scene.Release-GRP"));
+        }
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            Assertions.assertEquals(4, archive.size());
+            Assertions.assertEquals("Scene.Release-GRP", archive.getDirname(0));
+            Assertions.assertEquals("P2P.Release-GRP", archive.getDirname(1));
+            Assertions.assertEquals("Second.Release-GRP", archive.getById("s2").getDirname());
+            Assertions.assertEquals(3, archive.findByDirname("Scene.Release-GRP"));
+            Assertions.assertEquals(0, archive.findById("s1"));
+        }
+    }
+    
+    @Test
+    void testRehash(@TempDir Path directory) throws IOException {
+        final int count = 40_000;
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            for (int i = 0; i < count; i++) {
+                archive.append(scene("id" + i, "Release." + i + "-GRP"));
+            }
+            for (int i = 0; i < count; i += 97) {
+                Assertions.assertEquals(i, archive.findById("id" + i));
+                Assertions.assertEquals(i, archive.findByDirname("Release." + i + "-GRP"));
+            }
+        }
+        Assertions.assertEquals(1L << 17, readIndexCapacity(directory.resolve("id.idx")));
+        Assertions.assertFalse(Files.exists(directory.resolve("id.idx.tmp")));
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            for (int i = 0; i < count; i += 97) {
+                Assertions.assertEquals(i, archive.findById("id" + i));
+                Assertions.assertEquals(i, archive.findByDirname("Release." + i + "-GRP"));
+            }
+            Assertions.assertEquals(count - 1, archive.findById("id" + (count - 1)));
+        }
+    }
+    
+    @Test
+    void testDamagedIndex(@TempDir Path directory) throws IOException {
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            for (int i = 0; i < 100; i++) {
+                archive.append(scene("id" + i, "Release." + i + "-GRP"));
+            }
+        }
+        // Truncated index with an intact header
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("id.idx").toFile(), "rw")) {
+            file.setLength(100);
+        }
+        // Torn header
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("dirname.idx").toFile(), "rw")) {
+            file.writeLong(3);
+        }
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            Assertions.assertEquals(42, archive.findById("id42"));
+            Assertions.assertEquals(42, archive.findByDirname("Release.42-GRP"));
+        }
+        // Missing index and index not covering all rows
+        Files.delete(directory.resolve("id.idx"));
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("dirname.idx").toFile(), "rw")) {
+            file.seek(16);
+            file.writeLong(50);
+        }
+        try (ReleaseArchive archive = ReleaseArchive.open(directory)) {
+            Assertions.assertEquals(99, archive.findById("id99"));
+            Assertions.assertEquals(99, archive.findByDirname("Release.99-GRP"));
+            Assertions.assertEquals(100, archive.append(scene("id100", "Release.100-GRP")));
+            Assertions.assertEquals(100, archive.findById("id100"));
+        }
+    }
+    
+}
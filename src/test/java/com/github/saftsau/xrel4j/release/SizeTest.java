@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.PaginationList;
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SizeTest {
+    
+    private static final long MEGABYTE = 1L << 20;
+    
+    private static <T> T readFixture(String name, TypeReference<T> type) throws IOException {
+        final ObjectMapper objectMapper = RestClient.createObjectMapper();
+        try (InputStream inputStream = SizeTest.class.getResourceAsStream("/xrel/" + name)) {
+            return objectMapper.readValue(inputStream, type);
+        }
+    }
+    
+    @Test
+    void testToBytes() {
+        Assertions.assertEquals(512, Size.toBytes(512, "B"));
+        Assertions.assertEquals(3 * 1024, Size.toBytes(3, "KB"));
+        Assertions.assertEquals(700 * MEGABYTE, Size.toBytes(700, "MB"));
+        Assertions.assertEquals(700 * MEGABYTE, Size.toBytes(700, "mib"));
+        Assertions.assertEquals(4L << 30, Size.toBytes(4, "GB"));
+        Assertions.assertEquals(2L << 40, Size.toBytes(2, "TiB"));
+        Assertions.assertEquals(-1, Size.toBytes(700, "PB"));
+        Assertions.assertEquals(-1, Size.toBytes(700, null));
+        Assertions.assertEquals(-1, Size.toBytes(Size.SIZE_GREATER_THAN, "MB"));
+        final Size size = new Size();
+        Assertions.assertEquals(-1, size.getBytes());
+        size.setNumber(2);
+        size.setUnit("GB");
+        Assertions.assertEquals(2L << 30, size.getBytes());
+    }
+    
+    @Test
+    void testSizeRange() {
+        final SizeRange range = SizeRange.ofMegabytes(700, 1400);
+        Assertions.assertTrue(range.contains(700 * MEGABYTE));
+        Assertions.assertTrue(range.contains(1400 * MEGABYTE));
+        Assertions.assertFalse(range.contains(1400 * MEGABYTE + 1));
+        Assertions.assertFalse(range.contains(-1));
+        Assertions.assertEquals(new SizeRange(4L << 30, 10L << 30), SizeRange.ofGigabytes(4, 10));
+        Assertions.assertTrue(SizeRange.atLeast(0).contains(Long.MAX_VALUE));
+        Assertions.assertFalse(SizeRange.atMost(Long.MAX_VALUE).contains(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SizeRange(2, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SizeRange.atMost(-1));
+    }
+    
+    @Test
+    void testReleases() throws IOException {
+        final PaginationList<Release> scene = readFixture("release_latest.json", new TypeReference<PaginationList<Release>>() {});
+        final Release first = scene.getList().get(0);
+        Assertions.assertEquals(Size.toBytes(first.getSize().getNumber(), first.getSize().getUnit()), first.getSizeBytes());
+        Assertions.assertTrue(first.getSizeBytes() > 0);
+        Assertions.assertEquals(-1, new Release().getSizeBytes());
+        
+        final PaginationList<P2pRelease> p2p = readFixture("p2p_releases.json", new TypeReference<PaginationList<P2pRelease>>() {});
+        final P2pRelease firstP2p = p2p.getList().get(0);
+        Assertions.assertEquals(firstP2p.getSizeMb() * MEGABYTE, firstP2p.getSizeBytes());
+        Assertions.assertEquals(-1, new P2pRelease().getSizeBytes());
+        final P2pRelease unknown = new P2pRelease();
+        unknown.setSizeMb(-1);
+        Assertions.assertEquals(-1, unknown.getSizeBytes());
+        // Subclasses without a size don't have to override it
+        Assertions.assertEquals(-1, new ReleaseBase() {}.getSizeBytes());
+        
+        final List<ReleaseBase> releases = new ArrayList<>();
+        releases.add(first);
+        releases.add(new P2pRelease());
+        releases.add(firstP2p);
+        releases.sort(ReleaseBase.BY_SIZE);
+        Assertions.assertEquals(-1, releases.get(0).getSizeBytes());
+        Assertions.assertTrue(releases.get(1).getSizeBytes() <= releases.get(2).getSizeBytes());
+        final SizeRange range = SizeRange.atLeast(0);
+        Assertions.assertEquals(2, releases.stream().filter(range).count());
+    }
+    
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release.scene;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.RestClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReleaseFlagsTest {
+    
+    private final ObjectMapper objectMapper = RestClient.createObjectMapper();
+    private List<Release> releases;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream inputStream = ReleaseFlagsTest.class.getResourceAsStream("/xrel/release_flags.json")) {
+            releases = objectMapper.readValue(inputStream, new TypeReference<List<Release>>() {});
+        }
+    }
+    
+    @Test
+    void testDeserialize() {
+        final ReleaseFlags object = releases.get(0).getReleaseFlags();
+        Assertions.assertTrue(object.isTopRls());
+        Assertions.assertTrue(object.isEnglish());
+        Assertions.assertFalse(object.isFixRls());
+        Assertions.assertFalse(object.isReadNfo());
+        Assertions.assertEquals(ReleaseFlag.maskOf(ReleaseFlag.TOP_RLS, ReleaseFlag.ENGLISH), object.bits());
+        Assertions.assertEquals(ReleaseFlag.maskOf(ReleaseFlag.TOP_RLS, ReleaseFlag.ENGLISH, ReleaseFlag.FIX_RLS), object.presentBits());
+        Assertions.assertEquals(Map.of("top_rls", true, "english", true, "fix_rls", false), releases.get(0).getFlags());
+        
+        final ReleaseFlags scalars = releases.get(1).getReleaseFlags();
+        Assertions.assertTrue(scalars.hasAll(ReleaseFlag.maskOf(ReleaseFlag.FIX_RLS, ReleaseFlag.READ_NFO)));
+        Assertions.assertFalse(scalars.hasAny(ReleaseFlag.maskOf(ReleaseFlag.ENGLISH, ReleaseFlag.TOP_RLS)));
+        // Unknown flags are kept
+        Assertions.assertEquals(Boolean.TRUE, releases.get(1).getFlags().get("hdr"));
+        Assertions.assertEquals(4, releases.get(1).getFlags().size());
+        
+        Assertions.assertSame(ReleaseFlags.EMPTY, releases.get(2).getReleaseFlags());
+        Assertions.assertTrue(releases.get(2).getFlags().isEmpty());
+        Assertions.assertNull(releases.get(3).getReleaseFlags());
+        Assertions.assertNull(releases.get(3).getFlags());
+        Assertions.assertFalse(releases.get(3).hasFlag(ReleaseFlag.ENGLISH));
+    }
+    
+    @Test
+    void testCanonical() throws IOException, ClassNotFoundException {
+        // Flags explicitly returned as false are kept apart from missing ones
+        Assertions.assertEquals(releases.get(0).getReleaseFlags().bits(), releases.get(4).getReleaseFlags().bits());
+        Assertions.assertNotEquals(releases.get(0).getReleaseFlags(), releases.get(4).getReleaseFlags());
+        // Same flags in a different order share one instance
+        Assertions.assertSame(ReleaseFlags.of(ReleaseFlag.TOP_RLS, ReleaseFlag.ENGLISH), releases.get(4).getReleaseFlags());
+        Assertions.assertSame(ReleaseFlags.of(Map.of("english", true, "top_rls", true)), releases.get(4).getReleaseFlags());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(releases.get(4).getReleaseFlags());
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assertions.assertSame(releases.get(4).getReleaseFlags(), in.readObject());
+        }
+    }
+    
+    @Test
+    void testSerialize() throws IOException {
+        final String json = objectMapper.writeValueAsString(releases.get(1));
+        final Release release = objectMapper.readValue(json, Release.class);
+        Assertions.assertEquals(releases.get(1).getReleaseFlags(), release.getReleaseFlags());
+    }
+    
+    @Test
+    void testNuked() {
+        // The xREL API only returns the nuke reason, no flag
+        final Release nuked = releases.get(5);
+        Assertions.assertTrue(nuked.isNuked());
+        Assertions.assertSame(ReleaseFlags.of(ReleaseFlag.ENGLISH), nuked.getReleaseFlags());
+        Assertions.assertFalse(releases.get(0).isNuked());
+        nuked.setNukeReason("");
+        Assertions.assertFalse(nuked.isNuked());
+        // Unknown flag
+        Assertions.assertEquals(Boolean.TRUE, ReleaseFlags.of(Map.of("nuked", true)).asMap().get("nuked"));
+    }
+    
+    @Test
+    void testUnmodifiableFlags() {
+        final Release release = releases.get(0);
+        final Map<String, Boolean> flags = release.getFlags();
+        Assertions.assertSame(flags, release.getFlags());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> flags.put("fix_rls", true));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> flags.remove("top_rls"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> flags.entrySet().iterator().next().setValue(false));
+        final Map<String, Boolean> newFlags = new HashMap<>(flags);
+        newFlags.put("fix_rls", true);
+        release.setFlags(newFlags);
+        Assertions.assertTrue(release.getReleaseFlags().isFixRls());
+        Assertions.assertTrue(release.getReleaseFlags().isTopRls());
+        // Other releases with the same flags are not affected
+        Assertions.assertFalse(releases.get(4).getReleaseFlags().isFixRls());
+    }
+    
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.release.scene;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.PaginationList;
+import com.github.saftsau.xrel4j.RestClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ReleaseTableTest {
+    
+    private final ObjectMapper objectMapper = RestClient.createObjectMapper();
+    private PaginationList<Release> page;
+    private List<Release> flagged;
+    
+    private <T> T readFixture(String name, TypeReference<T> type) throws IOException {
+        try (InputStream inputStream = ReleaseTableTest.class.getResourceAsStream("/xrel/" + name)) {
+            return objectMapper.readValue(inputStream, type);
+        }
+    }
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        page = readFixture("release_latest.json", new TypeReference<PaginationList<Release>>() {});
+        flagged = readFixture("release_flags.json", new TypeReference<List<Release>>() {});
+    }
+    
+    private static void assertRow(ReleaseTable table, int row, Release release) {
+        Assertions.assertSame(release, table.getRelease(row));
+        Assertions.assertEquals(release.getTime(), table.getTime(row));
+        Assertions.assertEquals(release.getSizeBytes(), table.getSizeBytes(row));
+        Assertions.assertEquals(release.getVideoRating(), table.getVideoRating(row));
+        Assertions.assertEquals(release.getAudioRating(), table.getAudioRating(row));
+        Assertions.assertEquals(release.getNumRatings(), table.getNumRatings(row));
+        Assertions.assertEquals(release.getTvSeason(), table.getTvSeason(row));
+        Assertions.assertEquals(release.getTvEpisode(), table.getTvEpisode(row));
+        Assertions.assertEquals(release.getComments(), table.getComments(row));
+        Assertions.assertEquals(release.getReleaseFlags() == null ? 0 : release.getReleaseFlags().bits(), table.getFlags(row));
+        Assertions.assertEquals(release.getGroupName(), table.getGroupName(row));
+        Assertions.assertEquals(release.getVideoType(), table.getVideoType(row));
+        Assertions.assertEquals(release.getAudioType(), table.getAudioType(row));
+        Assertions.assertEquals(table.groupNameCode(release.getGroupName()), table.getGroupNameCode(row));
+        Assertions.assertEquals(table.videoTypeCode(release.getVideoType()), table.getVideoTypeCode(row));
+        Assertions.assertEquals(table.audioTypeCode(release.getAudioType()), table.getAudioTypeCode(row));
+    }
+    
+    @Test
+    void testAdd() {
+        // Starts without capacity, so every column has to grow
+        final ReleaseTable table = new ReleaseTable(0);
+        final List<Release> releases = page.getList();
+        for (int i = 0; i < releases.size(); i++) {
+            Assertions.assertEquals(i, table.add(releases.get(i)));
+        }
+        Assertions.assertEquals(releases.size(), table.size());
+        for (int row = 0; row < table.size(); row++) {
+            assertRow(table, row, releases.get(row));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ReleaseTable(-1));
+    }
+    
+    @Test
+    void testAddAll() {
+        final ReleaseTable table = new ReleaseTable(4);
+        table.addAll(page);
+        table.addAll(flagged);
+        final List<Release> releases = new ArrayList<>(page.getList());
+        releases.addAll(flagged);
+        Assertions.assertEquals(releases.size(), table.size());
+        for (int row = 0; row < table.size(); row++) {
+            assertRow(table, row, releases.get(row));
+        }
+        // The flag column keeps the bits of the flags fixture
+        final int english = ReleaseFlag.maskOf(ReleaseFlag.ENGLISH);
+        Assertions.assertEquals(releases.stream().filter(release -> release.getReleaseFlags() != null && release.getReleaseFlags().hasAll(english)).count(),
+                table.count(row -> (table.getFlags(row) & english) != 0));
+        // A page without a list adds nothing
+        table.addAll(new PaginationList<>());
+        Assertions.assertEquals(releases.size(), table.size());
+    }
+    
+    @Test
+    void testMissingValues() {
+        final ReleaseTable table = new ReleaseTable();
+        final int row = table.add(new Release());
+        Assertions.assertEquals(ReleaseTable.NO_CODE, table.getGroupNameCode(row));
+        Assertions.assertEquals(ReleaseTable.NO_CODE, table.getVideoTypeCode(row));
+        Assertions.assertEquals(ReleaseTable.NO_CODE, table.getAudioTypeCode(row));
+        Assertions.assertNull(table.getGroupName(row));
+        Assertions.assertNull(table.getVideoType(row));
+        Assertions.assertNull(table.getAudioType(row));
+        Assertions.assertEquals(0, table.getFlags(row));
+        Assertions.assertEquals(-1, table.getSizeBytes(row));
+        Assertions.assertEquals(ReleaseTable.NO_CODE, table.groupNameCode(null));
+    }
+    
+    @Test
+    void testDictionary() {
+        final ReleaseTable table = new ReleaseTable();
+        table.addAll(page);
+        final List<String> groupNames = page.getList().stream().map(Release::getGroupName).distinct().collect(Collectors.toList());
+        Assertions.assertTrue(groupNames.size() > 1);
+        // Codes are assigned densely in order of first occurrence
+        for (int code = 0; code < groupNames.size(); code++) {
+            Assertions.assertEquals(code, table.groupNameCode(groupNames.get(code)));
+        }
+        Assertions.assertEquals(ReleaseTable.NO_CODE, table.groupNameCode("Unknown-GRP"));
+        // All rows of a group share its code and decode back to its name
+        final String groupName = groupNames.get(0);
+        final int code = table.groupNameCode(groupName);
+        final List<Release> group = table.getReleases(row -> table.getGroupNameCode(row) == code);
+        Assertions.assertEquals(page.getList().stream().filter(release -> groupName.equals(release.getGroupName())).collect(Collectors.toList()), group);
+        table.forEach(row -> table.getGroupNameCode(row) == code, row -> Assertions.assertEquals(groupName, table.getGroupName(row)));
+    }
+    
+    @Test
+    void testRowIds() {
+        final ReleaseTable table = new ReleaseTable();
+        table.addAll(page);
+        final List<Release> releases = page.getList();
+        final double minRating = releases.get(0).getVideoRating();
+        final List<Integer> rows = new ArrayList<>();
+        table.forEach(row -> table.getVideoRating(row) >= minRating, rows::add);
+        Assertions.assertEquals(table.count(row -> table.getVideoRating(row) >= minRating), rows.size());
+        Assertions.assertTrue(rows.contains(0));
+        // Row IDs are insertion indices, so they map back to the source release
+        for (int row : rows) {
+            Assertions.assertSame(releases.get(row), table.getRelease(row));
+        }
+        Assertions.assertEquals(rows.stream().map(releases::get).collect(Collectors.toList()), table.getReleases(row -> table.getVideoRating(row) >= minRating));
+    }
+    
+    @Test
+    void testClear() {
+        final ReleaseTable table = new ReleaseTable();
+        table.addAll(page);
+        final int code = table.groupNameCode(page.getList().get(0).getGroupName());
+        table.clear();
+        Assertions.assertEquals(0, table.size());
+        Assertions.assertEquals(0, table.count(row -> true));
+        Assertions.assertTrue(table.getReleases(row -> true).isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getRelease(0));
+        // Dictionaries are kept and new rows start at 0 again
+        Assertions.assertEquals(code, table.groupNameCode(page.getList().get(0).getGroupName()));
+        Assertions.assertEquals(0, table.add(flagged.get(0)));
+        assertRow(table, 0, flagged.get(0));
+        Assertions.assertEquals(1, table.size());
+    }
+    
+    @Test
+    void testOutOfRange() {
+        final ReleaseTable table = new ReleaseTable(16);
+        table.add(page.getList().get(0));
+        // Allocated, but unused rows are out of range as well
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getRelease(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getRelease(-1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getTime(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getSizeBytes(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getVideoRating(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getAudioRating(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getNumRatings(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getTvSeason(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getTvEpisode(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getComments(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getFlags(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getGroupNameCode(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getVideoTypeCode(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getAudioTypeCode(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getGroupName(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getVideoType(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getAudioType(1));
+    }
+    
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.retry;
+
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Token;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import com.github.saftsau.xrel4j.metrics.InMemoryXrelMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+public class RetryInterceptorTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testRetry() {
+        final InMemoryXrelMetrics metrics = new InMemoryXrelMetrics();
+        final RetryPolicy retryPolicy = RetryPolicy.builder().baseDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(10))
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC)).build();
+        final Xrel retryingXrel = new Xrel(RestClient.builder().baseUrl(simulator.getBaseUrl()).metrics(metrics).retryPolicy(retryPolicy).build());
+        simulator.failNext(2, 503);
+        Assertions.assertFalse(retryingXrel.getReleaseCategories().isEmpty());
+        final InMemoryXrelMetrics.EndpointMetrics releaseCategories = metrics.getEndpoint("releaseCategories");
+        Assertions.assertEquals(3, releaseCategories.getRequests());
+        Assertions.assertEquals(2, releaseCategories.getRetries());
+        Assertions.assertEquals(Map.of("http_503", 2L), releaseCategories.getErrorTypes());
+        // POST requests are never retried
+        simulator.failNext(1, 503);
+        final long requestCount = simulator.getRequestCount();
+        Assertions.assertThrows(XrelException.class, () -> retryingXrel.getUserInfo(new Token("token", "Bearer", 3600, "refresh")));
+        Assertions.assertEquals(requestCount + 1, simulator.getRequestCount());
+        // Neither are errors of the xREL API nor rate limits resetting after the maximum wait
+        simulator.setErrorRate(1);
+        Assertions.assertThrows(XrelException.class, retryingXrel::getReleaseFilters);
+        simulator.setErrorRate(0);
+        simulator.setRateLimit(0, Duration.ofHours(1));
+        Assertions.assertThrows(XrelException.class, retryingXrel::getP2pCategories);
+        Assertions.assertEquals(requestCount + 3, simulator.getRequestCount());
+    }
+    
+}
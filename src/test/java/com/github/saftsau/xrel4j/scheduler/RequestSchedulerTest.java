@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import com.github.saftsau.xrel4j.metrics.XrelRateLimitWaitEvent;
+import com.github.saftsau.xrel4j.ratelimit.RateLimiter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class RequestSchedulerTest {
+    
+    private static final String ENDPOINT = "releaseLatest";
+    
+    @Test
+    void testWaitEvent(@TempDir Path directory) throws IOException, InterruptedException, ExecutionException {
+        final RequestScheduler scheduler = new RequestScheduler(SchedulerPolicy.builder().maxConcurrency(1).reservedConcurrency(0).build(), RateLimiter.NONE);
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(XrelRateLimitWaitEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            // Admitted right away, so nothing is recorded
+            scheduler.acquire(Priority.NORMAL, ENDPOINT, Long.MAX_VALUE);
+            final CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+                try {
+                    scheduler.acquire(Priority.BULK, ENDPOINT, Long.MAX_VALUE);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            while (scheduler.getQueueLength(Priority.BULK) == 0) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(20);
+            scheduler.release();
+            waiting.get();
+            scheduler.release();
+            // Timed out waits are recorded as well
+            scheduler.acquire(Priority.NORMAL, ENDPOINT, Long.MAX_VALUE);
+            Assertions.assertThrows(InterruptedIOException.class, () -> scheduler.acquire(Priority.NORMAL, ENDPOINT, TimeUnit.MILLISECONDS.toNanos(10)));
+            scheduler.release();
+            recording.stop();
+            final Path file = directory.resolve("scheduler.jfr");
+            recording.dump(file);
+            events = new ArrayList<>(RecordingFile.readAllEvents(file));
+        }
+        Assertions.assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            Assertions.assertEquals(ENDPOINT, event.getString("endpoint"));
+            Assertions.assertEquals("scheduler", event.getString("reason"));
+            Assertions.assertEquals(Integer.MAX_VALUE, event.getInt("remaining"));
+        }
+        // The first wait lasted until the slot was released
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        Assertions.assertTrue(events.get(0).getDuration().compareTo(Duration.ofMillis(20)) >= 0, events::toString);
+        Assertions.assertEquals(0, scheduler.getInFlight());
+    }
+    
+}
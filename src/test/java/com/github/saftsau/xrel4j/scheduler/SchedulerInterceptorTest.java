@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.scheduler;
+
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelException;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import com.github.saftsau.xrel4j.ratelimit.XrelRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SchedulerInterceptorTest {
+    
+    private static final Instant NOW = Instant.parse("2021-10-01T12:00:00Z");
+    
+    private XrelSimulator simulator;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new XrelSimulator();
+        simulator.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        simulator.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        simulator.close();
+    }
+    
+    @Test
+    void testScheduler() throws InterruptedException, ExecutionException {
+        final XrelRateLimiter rateLimiter = new XrelRateLimiter(Clock.fixed(NOW, ZoneOffset.UTC), 900, Duration.ofHours(1), 2, Duration.ofSeconds(10));
+        final RestClient restClient = RestClient.builder().baseUrl(simulator.getBaseUrl()).rateLimiter(rateLimiter)
+                .scheduler(SchedulerPolicy.builder().maxConcurrency(1).reservedConcurrency(0).build()).build();
+        final RequestScheduler scheduler = restClient.getScheduler().orElseThrow();
+        final Xrel scheduledXrel = new Xrel(restClient);
+        simulator.setLatency(XrelSimulator.Latency.fixed(Duration.ofMillis(100)));
+        final AtomicInteger completedBulk = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<Future<?>> bulk = List.of(bulk(executor, scheduledXrel, completedBulk), bulk(executor, scheduledXrel, completedBulk),
+                    bulk(executor, scheduledXrel, completedBulk));
+            while (scheduler.getQueueLength(Priority.BULK) < 2) {
+                Thread.sleep(5);
+            }
+            // The interactive request overtakes the queued bulk requests
+            Assertions.assertFalse(Priority.INTERACTIVE.run(scheduledXrel::getReleaseCategories).isEmpty());
+            Assertions.assertEquals(1, completedBulk.get());
+            for (Future<?> future : bulk) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(0, scheduler.getInFlight());
+        // Bulk requests must not use up the reserved rate limit
+        simulator.setLatency(XrelSimulator.Latency.fixed(Duration.ZERO));
+        simulator.setRateLimit(51, Duration.ofHours(1));
+        Assertions.assertFalse(Priority.INTERACTIVE.run(scheduledXrel::getReleaseCategories).isEmpty());
+        final long requestCount = simulator.getRequestCount();
+        Assertions.assertEquals(429,
+                XrelSimulator.responseCode(Assertions.assertThrows(XrelException.class, () -> Priority.BULK.run(scheduledXrel::getReleaseCategories))));
+        Assertions.assertEquals(requestCount, simulator.getRequestCount());
+        Assertions.assertFalse(scheduledXrel.getReleaseCategories().isEmpty());
+    }
+    
+    @Test
+    void testSchedulerStream() {
+        final RestClient restClient = RestClient.builder().baseUrl(simulator.getBaseUrl())
+                .scheduler(SchedulerPolicy.builder().maxConcurrency(1).reservedConcurrency(0).build()).build();
+        final RequestScheduler scheduler = restClient.getScheduler().orElseThrow();
+        final AtomicInteger inFlight = new AtomicInteger();
+        // The slot is kept while the body is read and released once it is consumed
+        new Xrel(restClient).streamReleaseLatest(100, 1, release -> inFlight.accumulateAndGet(scheduler.getInFlight(), Math::max));
+        Assertions.assertEquals(1, inFlight.get());
+        Assertions.assertEquals(0, scheduler.getInFlight());
+        Assertions.assertFalse(new Xrel(restClient).getReleaseCategories().isEmpty());
+        Assertions.assertEquals(0, scheduler.getInFlight());
+    }
+    
+    private static Future<?> bulk(ExecutorService executor, Xrel xrel, AtomicInteger completed) {
+        return executor.submit(() -> {
+            Priority.BULK.run(xrel::getReleaseFilters);
+            completed.incrementAndGet();
+        });
+    }
+    
+}
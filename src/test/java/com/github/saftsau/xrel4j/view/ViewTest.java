@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 saftsau
+ *
+ * This file is part of xREL4J.
+ *
+ * xREL4J is free software: you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * xREL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General
+ * Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with xREL4J. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.saftsau.xrel4j.view;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.saftsau.xrel4j.PaginationList;
+import com.github.saftsau.xrel4j.ReleaseCategory;
+import com.github.saftsau.xrel4j.RestClient;
+import com.github.saftsau.xrel4j.Token;
+import com.github.saftsau.xrel4j.Xrel;
+import com.github.saftsau.xrel4j.XrelSimulator;
+import com.github.saftsau.xrel4j.comment.Comment;
+import com.github.saftsau.xrel4j.extinfo.ExtInfo;
+import com.github.saftsau.xrel4j.favorite.Favorite;
+import com.github.saftsau.xrel4j.release.Size;
+import com.github.saftsau.xrel4j.release.p2p.P2pRelease;
+import com.github.saftsau.xrel4j.release.scene.Release;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlag;
+import com.github.saftsau.xrel4j.release.scene.ReleaseFlags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ViewTest {
+    
+    private final ObjectMapper objectMapper = RestClient.createObjectMapper();
+    
+    private <T> T readFixture(String name, TypeReference<T> type) throws IOException {
+        try (InputStream inputStream = ViewTest.class.getResourceAsStream("/xrel/" + name)) {
+            return objectMapper.readValue(inputStream, type);
+        }
+    }
+    
+    private static Object serialize(Object object) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+    
+    @Test
+    void testReleaseView() throws IOException, ClassNotFoundException {
+        final List<Release> releases = readFixture("release_latest.json", new TypeReference<PaginationList<Release>>() {}).getList();
+        final List<ReleaseView> views = readFixture("release_latest.json", new TypeReference<PaginationList<ReleaseView>>() {}).getList();
+        Assertions.assertEquals(releases.size(), views.size());
+        for (int i = 0; i < releases.size(); i++) {
+            Assertions.assertEquals(ReleaseView.of(releases.get(i)), views.get(i));
+            Assertions.assertEquals(releases.get(i).isNuked(), views.get(i).isNuked());
+        }
+        Assertions.assertTrue(views.stream().anyMatch(ReleaseView::isNuked));
+        final ReleaseView view = views.get(0);
+        Assertions.assertEquals(releases.get(0).getSizeBytes(), view.sizeBytes());
+        Assertions.assertEquals(releases.get(0).getExtInfo().getTitle(), view.extInfo().title());
+        Assertions.assertEquals(view, serialize(view));
+        Assertions.assertNull(ReleaseView.of(null));
+        
+        // Missing values
+        final ReleaseView empty = ReleaseView.of(new Release());
+        Assertions.assertSame(ReleaseFlags.EMPTY, empty.flags());
+        Assertions.assertFalse(empty.hasFlag(ReleaseFlag.ENGLISH));
+        Assertions.assertNull(empty.size());
+        Assertions.assertEquals(-1, empty.sizeBytes());
+        Assertions.assertNull(empty.extInfo());
+    }
+    
+    @Test
+    void testSize() throws IOException {
+        final ReleaseView.Size size = new ReleaseView.Size(700, "MB");
+        Assertions.assertEquals(700L << 20, size.bytes());
+        final JsonNode json = objectMapper.valueToTree(size);
+        // The bytes are computed, not part of the JSON
+        Assertions.assertFalse(json.has("bytes"));
+        Assertions.assertEquals("700", json.get("number").asText());
+        Assertions.assertEquals(size, objectMapper.treeToValue(json, ReleaseView.Size.class));
+        
+        final ReleaseView.Size greaterThan = new ReleaseView.Size(Size.SIZE_GREATER_THAN, "GB");
+        Assertions.assertEquals(-1, greaterThan.bytes());
+        final String greaterThanJson = objectMapper.writeValueAsString(greaterThan);
+        Assertions.assertEquals(greaterThan, objectMapper.readValue(greaterThanJson, ReleaseView.Size.class));
+        Assertions.assertEquals(new ReleaseView.Size(2, "GB"), objectMapper.readValue("{\"number\":\"2\",\"unit\":\"GB\",\"bytes\":1}", ReleaseView.Size.class));
+    }
+    
+    @Test
+    void testP2pReleaseView() throws IOException {
+        final List<P2pRelease> releases = readFixture("p2p_releases.json", new TypeReference<PaginationList<P2pRelease>>() {}).getList();
+        final List<P2pReleaseView> views = readFixture("p2p_releases.json", new TypeReference<PaginationList<P2pReleaseView>>() {}).getList();
+        Assertions.assertEquals(releases.size(), views.size());
+        for (int i = 0; i < releases.size(); i++) {
+            Assertions.assertEquals(P2pReleaseView.of(releases.get(i)), views.get(i));
+        }
+        final P2pReleaseView view = views.get(0);
+        Assertions.assertEquals(releases.get(0).getSizeBytes(), view.sizeBytes());
+        Assertions.assertEquals(releases.get(0).getCategory().getMetaCat(), view.category().metaCat());
+        Assertions.assertNull(P2pReleaseView.of(null));
+        Assertions.assertNull(P2pReleaseView.Category.of(null));
+        final P2pRelease unknown = new P2pRelease();
+        unknown.setSizeMb(-1);
+        final P2pReleaseView empty = P2pReleaseView.of(unknown);
+        Assertions.assertNull(empty.category());
+        Assertions.assertEquals(-1, empty.sizeBytes());
+    }
+    
+    @Test
+    void testCommentView() throws IOException {
+        final List<Comment> comments = readFixture("comments_get.json", new TypeReference<PaginationList<Comment>>() {}).getList();
+        final List<CommentView> views = readFixture("comments_get.json", new TypeReference<PaginationList<CommentView>>() {}).getList();
+        Assertions.assertEquals(comments.size(), views.size());
+        for (int i = 0; i < comments.size(); i++) {
+            Assertions.assertEquals(CommentView.of(comments.get(i)), views.get(i));
+        }
+        Assertions.assertEquals(comments.get(0).getRating().getVideo(), views.get(0).rating().video());
+        Assertions.assertEquals(comments.get(0).getAuthor(), views.get(0).author());
+        Assertions.assertNull(CommentView.of(null));
+        final CommentView empty = CommentView.of(new Comment());
+        Assertions.assertNull(empty.rating());
+        Assertions.assertNull(empty.votes());
+        Assertions.assertNull(empty.edits());
+    }
+    
+    @Test
+    void testExtInfoView() throws IOException {
+        final ExtInfo extInfo = readFixture("ext_info.json", new TypeReference<ExtInfo>() {});
+        final ExtInfoView view = readFixture("ext_info.json", new TypeReference<ExtInfoView>() {});
+        Assertions.assertEquals(ExtInfoView.of(extInfo), view);
+        Assertions.assertEquals(List.of("imdb:tt1234567", "tmdb:movie:98765"), view.uris());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.uris().add("x"));
+        // Later changes of the ExtInfo don't change the view
+        final List<String> uris = new ArrayList<>(extInfo.getUris());
+        extInfo.setUris(uris);
+        final ExtInfoView copy = ExtInfoView.of(extInfo);
+        uris.clear();
+        Assertions.assertEquals(2, copy.uris().size());
+        Assertions.assertNull(ExtInfoView.of(null));
+        Assertions.assertEquals(List.of(), ExtInfoView.of(new ExtInfo()).uris());
+    }
+    
+    @Test
+    void testFavoriteView() throws IOException {
+        final List<Favorite> favorites = readFixture("favs_lists.json", new TypeReference<List<Favorite>>() {});
+        final List<FavoriteView> views = readFixture("favs_lists.json", new TypeReference<List<FavoriteView>>() {});
+        Assertions.assertEquals(favorites.size(), views.size());
+        for (int i = 0; i < favorites.size(); i++) {
+            Assertions.assertEquals(FavoriteView.of(favorites.get(i)), views.get(i));
+        }
+        Assertions.assertEquals(42, views.get(0).id());
+        Assertions.assertTrue(views.get(0).notifyEnabled());
+        Assertions.assertEquals(List.of(), views.get(0).entries());
+        Assertions.assertNull(FavoriteView.of(null));
+        
+        // Missing entries are skipped
+        final ExtInfo extInfo = new ExtInfo();
+        extInfo.setId("a1b2c3");
+        final List<ExtInfo> entries = new ArrayList<>();
+        entries.add(extInfo);
+        entries.add(null);
+        final Favorite favorite = new Favorite();
+        favorite.setEntries(entries);
+        final FavoriteView view = FavoriteView.of(favorite);
+        Assertions.assertEquals(List.of(ExtInfoView.of(extInfo)), view.entries());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.entries().clear());
+    }
+    
+    @Test
+    void testXrel() throws IOException {
+        try (XrelSimulator simulator = new XrelSimulator()) {
+            simulator.start();
+            final Xrel xrel = new Xrel(simulator.createRestClient());
+            final Token token = new Token("token", "Bearer", 3600, "refresh");
+            
+            final PaginationList<Release> releases = xrel.getReleaseLatest(100, 1);
+            final PaginationList<ReleaseView> views = xrel.viewReleaseLatest(100, 1);
+            Assertions.assertEquals(releases.getTotalCount(), views.getTotalCount());
+            Assertions.assertEquals(releases.getList().stream().map(ReleaseView::of).collect(Collectors.toList()), views.getList());
+            final ReleaseView view = views.getList().get(0);
+            Assertions.assertEquals(ReleaseView.of(xrel.getReleaseInfoId(view.id())), xrel.viewReleaseInfoId(view.id()));
+            Assertions.assertEquals(ReleaseView.of(xrel.getReleaseInfoDir(view.dirname())), xrel.viewReleaseInfoDir(view.dirname()));
+            final ReleaseCategory category = xrel.getReleaseCategories().iterator().next();
+            Assertions.assertEquals(ReleaseView.of(xrel.getReleaseBrowseCategory(category, 5, 1).getList().get(0)),
+                    xrel.viewReleaseBrowseCategory(category, null, 5, 1).getList().get(0));
+            Assertions.assertEquals(ReleaseView.of(xrel.getReleaseExtInfo(releases.getList().get(0).getExtInfo(), 5, 1).getList().get(0)),
+                    xrel.viewReleaseExtInfo(view.extInfo(), 5, 1).getList().get(0));
+            
+            final List<P2pRelease> p2pReleases = xrel.getP2pReleases(10, 1).getList();
+            final List<P2pReleaseView> p2pViews = xrel.viewP2pReleases(10, 1, null, null, null).getList();
+            Assertions.assertEquals(p2pReleases.stream().map(P2pReleaseView::of).collect(Collectors.toList()), p2pViews);
+            final P2pReleaseView p2pView = p2pViews.get(0);
+            Assertions.assertEquals(P2pReleaseView.of(xrel.getP2pRlsInfoId(p2pView.id())), xrel.viewP2pRlsInfoId(p2pView.id()));
+            Assertions.assertEquals(P2pReleaseView.of(xrel.getP2pRlsInfoDir(p2pView.dirname())), xrel.viewP2pRlsInfoDir(p2pView.dirname()));
+            
+            Assertions.assertEquals(ExtInfoView.of(xrel.getExtInfoInfo(releases.getList().get(0).getExtInfo(), token)), xrel.viewExtInfoInfo(view.extInfo(), token));
+            Assertions.assertEquals(xrel.getFavsLists(token).stream().map(FavoriteView::of).collect(Collectors.toList()), xrel.viewFavsLists(token));
+            Assertions.assertEquals(xrel.getCommentsGet(releases.getList().get(0), 5, 1).getList().stream().map(CommentView::of).collect(Collectors.toList()),
+                    xrel.viewCommentsGet(view, 5, 1).getList());
+            Assertions.assertEquals(xrel.getCommentsGet(p2pReleases.get(0), 5, 1).getList().stream().map(CommentView::of).collect(Collectors.toList()),
+                    xrel.viewCommentsGet(p2pView, 5, 1).getList());
+        }
+    }
+    
+}